@@ -0,0 +1,31 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.openapi.api.OpenApiConfig;
+
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    static Config config(Map<String, String> properties) {
+        return new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "benchmark", ConfigSource.DEFAULT_ORDINAL))
+                .build();
+    }
+
+    static Config config() {
+        return config(new HashMap<>());
+    }
+
+    static OpenApiConfig openApiConfig(Map<String, String> properties) {
+        return OpenApiConfig.fromConfig(config(properties));
+    }
+}
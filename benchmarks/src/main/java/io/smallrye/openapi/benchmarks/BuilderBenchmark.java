@@ -0,0 +1,100 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+
+/**
+ * Measures the phases of {@link SmallRyeOpenAPI.Builder} against generated
+ * applications of varying size. Each phase runs against a fresh build context,
+ * prepared outside of the measured region.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BuilderBenchmark {
+
+    @Param({ "10", "100" })
+    int resources;
+
+    @Param({ "1", "4" })
+    int dtoDepth;
+
+    @Param({ "false", "true" })
+    boolean generics;
+
+    private GeneratedApplication application;
+    private PhasedBuilder scanBuilder;
+    private PhasedBuilder staticBuilder;
+    private PhasedBuilder finalizeBuilder;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        application = GeneratedApplication.generate(resources, dtoDepth, generics);
+        scanBuilder = newBuilder();
+        finalizeBuilder = newBuilder();
+
+        byte[] staticFile = newBuilder().build().toYAML().getBytes(StandardCharsets.UTF_8);
+        staticBuilder = newBuilder();
+        staticBuilder.enableAnnotationScan(false)
+                .withCustomStaticFile(() -> new ByteArrayInputStream(staticFile));
+    }
+
+    @Setup(Level.Invocation)
+    public void resetContext() {
+        scanBuilder.reset();
+        staticBuilder.reset();
+        finalizeBuilder.prepareFinalize();
+    }
+
+    private PhasedBuilder newBuilder() {
+        PhasedBuilder builder = new PhasedBuilder();
+        builder.withConfig(BenchmarkSupport.config())
+                .withApplicationClassLoader(application.classLoader())
+                .withIndex(application.index());
+        return builder;
+    }
+
+    @Benchmark
+    public Object buildReaderModel() {
+        return scanBuilder.readerModel();
+    }
+
+    @Benchmark
+    public Object buildStaticModel() {
+        return staticBuilder.staticModel();
+    }
+
+    @Benchmark
+    public Object buildAnnotationModel() {
+        return scanBuilder.annotationModel();
+    }
+
+    @Benchmark
+    public SmallRyeOpenAPI buildFinalize() {
+        return finalizeBuilder.finish();
+    }
+
+    @Benchmark
+    public SmallRyeOpenAPI build() {
+        return scanBuilder.build();
+    }
+}
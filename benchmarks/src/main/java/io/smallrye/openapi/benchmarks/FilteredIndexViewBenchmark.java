@@ -0,0 +1,90 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.util.TypeUtil;
+
+/**
+ * Measures {@link FilteredIndexView#accepts(DotName)} for every class name in a
+ * generated application plus the JDK index, with a configurable number of
+ * package exclusions (half of them expressed as regular expressions).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilteredIndexViewBenchmark {
+
+    @Param({ "0", "80" })
+    int excludedPackages;
+
+    @Param({ "100" })
+    int resources;
+
+    private FilteredIndexView view;
+    private DotName[] names;
+
+    @Setup
+    public void setup() {
+        GeneratedApplication application = GeneratedApplication.generate(resources, 2, true);
+        Map<String, String> properties = new HashMap<>();
+        StringBuilder excludes = new StringBuilder();
+
+        for (int i = 0; i < excludedPackages; i++) {
+            if (excludes.length() > 0) {
+                excludes.append(',');
+            }
+            if (i % 2 == 0) {
+                excludes.append("com.example.excluded").append(i);
+            } else {
+                excludes.append("^org\\.example\\.excluded").append(i).append("\\..*$");
+            }
+        }
+
+        if (excludes.length() > 0) {
+            properties.put(OASConfig.SCAN_EXCLUDE_PACKAGES, excludes.toString());
+        }
+
+        view = new FilteredIndexView(application.index(), BenchmarkSupport.openApiConfig(properties));
+
+        List<DotName> classNames = new ArrayList<>();
+        application.index().getKnownClasses().stream().map(ClassInfo::name).forEach(classNames::add);
+        TypeUtil.jdkIndex.getKnownClasses().stream().map(ClassInfo::name).forEach(classNames::add);
+        names = classNames.toArray(new DotName[0]);
+    }
+
+    @Benchmark
+    public void accepts(Blackhole bh) {
+        for (DotName name : names) {
+            bh.consume(view.accepts(name));
+        }
+    }
+
+    @Benchmark
+    public int knownClasses() {
+        return view.getKnownClasses().size();
+    }
+}
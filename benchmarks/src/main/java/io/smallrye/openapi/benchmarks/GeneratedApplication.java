@@ -0,0 +1,275 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Synthetic Jakarta REST application used as benchmark input. The sources are
+ * generated from the shape parameters, compiled in memory with the system Java
+ * compiler and indexed with Jandex so that the benchmarks operate on a real
+ * index rather than a hand-built one.
+ *
+ * <p>
+ * The shape of the application is controlled by three parameters:
+ * <ul>
+ * <li>{@code resources} - the number of resource classes, each with five operations
+ * <li>{@code dtoDepth} - the depth of the DTO graph reachable from each resource
+ * <li>{@code generics} - whether responses are wrapped in a generic {@code Page<T>} type
+ * </ul>
+ */
+public final class GeneratedApplication {
+
+    static final String API_PACKAGE = "bench.api";
+    static final String MODEL_PACKAGE = "bench.model";
+
+    private final Map<String, byte[]> classes;
+    private final Index index;
+    private final ClassLoader classLoader;
+
+    private GeneratedApplication(Map<String, byte[]> classes) {
+        this.classes = classes;
+        this.index = index(classes);
+        this.classLoader = new GeneratedClassLoader(classes, GeneratedApplication.class.getClassLoader());
+    }
+
+    /**
+     * Generate, compile and index an application of the given shape.
+     *
+     * @param resources number of resource classes
+     * @param dtoDepth depth of the DTO graph for each resource
+     * @param generics wrap collection responses in a generic page type
+     * @return the compiled and indexed application
+     */
+    public static GeneratedApplication generate(int resources, int dtoDepth, boolean generics) {
+        return new GeneratedApplication(compile(sources(resources, dtoDepth, generics)));
+    }
+
+    public Index index() {
+        return index;
+    }
+
+    public ClassLoader classLoader() {
+        return classLoader;
+    }
+
+    public int classCount() {
+        return classes.size();
+    }
+
+    public static DotName dtoName(int resource, int level) {
+        return DotName.createSimple(MODEL_PACKAGE + ".Dto" + resource + "_" + level);
+    }
+
+    static Map<String, String> sources(int resources, int dtoDepth, boolean generics) {
+        Map<String, String> sources = new LinkedHashMap<>();
+
+        if (generics) {
+            sources.put(MODEL_PACKAGE + ".Page", "package " + MODEL_PACKAGE + ";\n"
+                    + "public class Page<T> {\n"
+                    + "  public java.util.List<T> items;\n"
+                    + "  public long total;\n"
+                    + "  public int offset;\n"
+                    + "}\n");
+            sources.put(MODEL_PACKAGE + ".Identified", "package " + MODEL_PACKAGE + ";\n"
+                    + "public abstract class Identified<K extends Comparable<K>> {\n"
+                    + "  public K id;\n"
+                    + "  public java.time.OffsetDateTime created;\n"
+                    + "}\n");
+        }
+
+        for (int r = 0; r < resources; r++) {
+            for (int level = 0; level < dtoDepth; level++) {
+                sources.put(dtoName(r, level).toString(), dtoSource(r, level, dtoDepth, generics));
+            }
+            sources.put(API_PACKAGE + ".Resource" + r, resourceSource(r, dtoDepth, generics));
+        }
+
+        return sources;
+    }
+
+    private static String dtoSource(int resource, int level, int dtoDepth, boolean generics) {
+        String simpleName = "Dto" + resource + "_" + level;
+        StringBuilder src = new StringBuilder();
+        src.append("package ").append(MODEL_PACKAGE).append(";\n");
+        src.append("public class ").append(simpleName);
+        if (generics) {
+            src.append(" extends Identified<String>");
+        }
+        src.append(" {\n");
+        src.append("  public String name;\n");
+        src.append("  public int count;\n");
+        src.append("  public java.math.BigDecimal amount;\n");
+        src.append("  public java.util.List<String> labels;\n");
+        src.append("  public java.util.Map<String, Integer> counters;\n");
+        src.append("  private boolean active;\n");
+        src.append("  public boolean isActive() { return active; }\n");
+        src.append("  public void setActive(boolean active) { this.active = active; }\n");
+
+        if (level + 1 < dtoDepth) {
+            String child = "Dto" + resource + "_" + (level + 1);
+            src.append("  public ").append(child).append(" child;\n");
+            src.append("  public java.util.List<").append(child).append("> children;\n");
+        }
+
+        src.append("}\n");
+        return src.toString();
+    }
+
+    private static String resourceSource(int resource, int dtoDepth, boolean generics) {
+        String dto = dtoDepth > 0 ? MODEL_PACKAGE + ".Dto" + resource + "_0" : "String";
+        String list = generics ? MODEL_PACKAGE + ".Page<" + dto + ">" : "java.util.List<" + dto + ">";
+        StringBuilder src = new StringBuilder();
+        src.append("package ").append(API_PACKAGE).append(";\n");
+        src.append("import jakarta.ws.rs.*;\n");
+        src.append("import jakarta.ws.rs.core.MediaType;\n");
+        src.append("@Path(\"/resource").append(resource).append("\")\n");
+        src.append("@Produces(MediaType.APPLICATION_JSON)\n");
+        src.append("@Consumes(MediaType.APPLICATION_JSON)\n");
+        src.append("public class Resource").append(resource).append(" {\n");
+        src.append("  @GET public ").append(list)
+                .append(" list(@QueryParam(\"offset\") int offset, @QueryParam(\"limit\") int limit) { return null; }\n");
+        src.append("  @GET @Path(\"{id}\") public ").append(dto)
+                .append(" get(@PathParam(\"id\") String id) { return null; }\n");
+        src.append("  @POST public ").append(dto).append(" create(").append(dto).append(" body) { return null; }\n");
+        src.append("  @PUT @Path(\"{id}\") public ").append(dto)
+                .append(" update(@PathParam(\"id\") String id, ").append(dto).append(" body) { return null; }\n");
+        src.append("  @DELETE @Path(\"{id}\") public void delete(@PathParam(\"id\") String id) { }\n");
+        src.append("}\n");
+        return src.toString();
+    }
+
+    static Map<String, byte[]> compile(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        if (compiler == null) {
+            throw new IllegalStateException("Benchmarks require a JDK, no system Java compiler is available");
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Map<String, byte[]> output = new LinkedHashMap<>();
+        List<JavaFileObject> units = new ArrayList<>(sources.size());
+        sources.forEach((name, source) -> units.add(new SourceFile(name, source)));
+
+        try (StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, null, null);
+                JavaFileManager files = new ClassOutputManager(standard, output)) {
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-proc:none");
+            Boolean success = compiler.getTask(null, files, diagnostics, options, null, units).call();
+
+            if (!Boolean.TRUE.equals(success)) {
+                throw new IllegalStateException("Compilation of generated sources failed: " + diagnostics.getDiagnostics());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Collections.unmodifiableMap(output);
+    }
+
+    static Index index(Map<String, byte[]> classes) {
+        Indexer indexer = new Indexer();
+
+        for (byte[] bytes : classes.values()) {
+            try {
+                indexer.index(new ByteArrayInputStream(bytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return indexer.complete();
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static final class ClassFile extends SimpleJavaFileObject {
+        private final String className;
+        private final Map<String, byte[]> output;
+
+        ClassFile(String className, Map<String, byte[]> output) {
+            super(URI.create("mem:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+            this.className = className;
+            this.output = output;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    output.put(className, toByteArray());
+                }
+            };
+        }
+    }
+
+    private static final class ClassOutputManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String, byte[]> output;
+
+        ClassOutputManager(StandardJavaFileManager delegate, Map<String, byte[]> output) {
+            super(delegate);
+            this.output = output;
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                FileObject sibling) {
+            return new ClassFile(className, output);
+        }
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+        private final Map<String, byte[]> classes;
+
+        GeneratedClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.model.BaseModel;
+
+/**
+ * Measures {@link MergeUtil#merge(OpenAPI, OpenAPI)} of two documents built
+ * from disjoint generated applications. The merge target is modified by the
+ * merge, so a fresh copy is made before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MergeUtilBenchmark {
+
+    @Param({ "10", "100" })
+    int resources;
+
+    private OpenAPI source;
+    private OpenAPI other;
+    private OpenAPI target;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        GeneratedApplication application = GeneratedApplication.generate(resources, 3, true);
+        source = build(application);
+        other = build(application);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        target = BaseModel.deepCopy(source, OpenAPI.class);
+    }
+
+    private static OpenAPI build(GeneratedApplication application) {
+        return SmallRyeOpenAPI.builder()
+                .withConfig(BenchmarkSupport.config())
+                .withApplicationClassLoader(application.classLoader())
+                .withIndex(application.index())
+                .build()
+                .model();
+    }
+
+    @Benchmark
+    public OpenAPI merge() {
+        return MergeUtil.merge(target, other);
+    }
+
+    @Benchmark
+    public OpenAPI deepCopy() {
+        return BaseModel.deepCopy(source, OpenAPI.class);
+    }
+}
@@ -0,0 +1,111 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+import io.smallrye.openapi.model.BaseModel;
+
+/**
+ * Measures the heap retained by a complete document model. Each invocation
+ * makes {@value #COPIES} deep copies of the document built from a generated
+ * application and reports the growth of the used heap (after a full GC) per
+ * copy as the {@code retainedBytes} secondary result. The copies are either
+ * left modifiable, made unmodifiable with {@code deepCopy(..., true)} (the
+ * former {@code buildUnmodifiable} approach), or {@linkplain BaseModel#freeze
+ * frozen}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State(Scope.Benchmark)
+public class ModelFootprintBenchmark {
+
+    static final int COPIES = 10;
+
+    @Param({ "10", "100" })
+    int resources;
+
+    private OpenAPI model;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void generate() {
+        GeneratedApplication application = GeneratedApplication.generate(resources, 4, true);
+        model = SmallRyeOpenAPI.builder()
+                .withConfig(BenchmarkSupport.config())
+                .withApplicationClassLoader(application.classLoader())
+                .withIndex(application.index())
+                .build()
+                .model();
+    }
+
+    @Benchmark
+    public OpenAPI[] retain(Footprint footprint) {
+        return retain(footprint, Copy.MODIFIABLE);
+    }
+
+    @Benchmark
+    public OpenAPI[] retainUnmodifiable(Footprint footprint) {
+        return retain(footprint, Copy.UNMODIFIABLE);
+    }
+
+    @Benchmark
+    public OpenAPI[] retainFrozen(Footprint footprint) {
+        return retain(footprint, Copy.FROZEN);
+    }
+
+    private enum Copy {
+        MODIFIABLE,
+        UNMODIFIABLE,
+        FROZEN
+    }
+
+    private OpenAPI[] retain(Footprint footprint, Copy mode) {
+        long before = usedHeap();
+        OpenAPI[] copies = new OpenAPI[COPIES];
+
+        for (int i = 0; i < COPIES; i++) {
+            OpenAPI copy = BaseModel.deepCopy(model, OpenAPI.class, mode == Copy.UNMODIFIABLE);
+            copies[i] = mode == Copy.FROZEN ? BaseModel.freeze(copy) : copy;
+        }
+
+        footprint.retainedBytes = (usedHeap() - before) / COPIES;
+        return copies;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,49 @@
+package io.smallrye.openapi.benchmarks;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+
+/**
+ * Exposes the individual phases of {@link SmallRyeOpenAPI.Builder} so that each
+ * can be measured in isolation. A new build context is started with
+ * {@link #reset()}; phases must then be invoked in the same order as
+ * {@link SmallRyeOpenAPI.Builder#build()} would run them.
+ */
+public class PhasedBuilder extends SmallRyeOpenAPI.Builder {
+
+    public PhasedBuilder reset() {
+        removeContext();
+        buildPrepare(getContext());
+        return this;
+    }
+
+    public PhasedBuilder readerModel() {
+        buildReaderModel(getContext());
+        return this;
+    }
+
+    public PhasedBuilder staticModel() {
+        buildStaticModel(getContext());
+        return this;
+    }
+
+    public PhasedBuilder annotationModel() {
+        buildAnnotationModel(getContext());
+        return this;
+    }
+
+    public PhasedBuilder standardFilter() {
+        buildStandardFilter(getContext());
+        return this;
+    }
+
+    public SmallRyeOpenAPI finish() {
+        return buildFinalize(getContext());
+    }
+
+    /**
+     * Run all phases up to, but not including, {@link #finish()}.
+     */
+    public PhasedBuilder prepareFinalize() {
+        return reset().readerModel().staticModel().annotationModel().standardFilter();
+    }
+}
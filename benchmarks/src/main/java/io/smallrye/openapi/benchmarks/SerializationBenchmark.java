@@ -0,0 +1,58 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+
+/**
+ * Measures rendering of a completed document with {@link SmallRyeOpenAPI#toJSON()}
+ * and {@link SmallRyeOpenAPI#toYAML()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({ "10", "100" })
+    int resources;
+
+    @Param({ "4" })
+    int dtoDepth;
+
+    private SmallRyeOpenAPI result;
+
+    @Setup
+    public void setup() {
+        GeneratedApplication application = GeneratedApplication.generate(resources, dtoDepth, true);
+        result = SmallRyeOpenAPI.builder()
+                .withConfig(BenchmarkSupport.config())
+                .withApplicationClassLoader(application.classLoader())
+                .withIndex(application.index())
+                .build();
+    }
+
+    @Benchmark
+    public String toJSON() {
+        return result.toJSON();
+    }
+
+    @Benchmark
+    public String toYAML() {
+        return result.toYAML();
+    }
+}
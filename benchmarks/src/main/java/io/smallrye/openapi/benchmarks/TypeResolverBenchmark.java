@@ -0,0 +1,73 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+/**
+ * Measures {@link TypeResolver#getAllFields} for each DTO of a generated
+ * application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeResolverBenchmark {
+
+    @Param({ "10" })
+    int resources;
+
+    @Param({ "1", "4" })
+    int dtoDepth;
+
+    @Param({ "false", "true" })
+    boolean generics;
+
+    private AnnotationScannerContext context;
+    private Type[] types;
+    private ClassInfo[] classes;
+
+    @Setup
+    public void setup() {
+        GeneratedApplication application = GeneratedApplication.generate(resources, dtoDepth, generics);
+        context = new AnnotationScannerContext(application.index(), application.classLoader(),
+                BenchmarkSupport.openApiConfig(new HashMap<>()));
+
+        types = new Type[resources * dtoDepth];
+        classes = new ClassInfo[types.length];
+
+        for (int r = 0, i = 0; r < resources; r++) {
+            for (int level = 0; level < dtoDepth; level++, i++) {
+                classes[i] = application.index().getClassByName(GeneratedApplication.dtoName(r, level));
+                types[i] = ClassType.create(classes[i].name());
+            }
+        }
+    }
+
+    @Benchmark
+    public void getAllFields(Blackhole bh) {
+        for (int i = 0; i < types.length; i++) {
+            bh.consume(TypeResolver.getAllFields(context, types[i], classes[i], null));
+        }
+    }
+}
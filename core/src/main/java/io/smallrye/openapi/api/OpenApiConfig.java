@@ -117,6 +117,16 @@ public interface OpenApiConfig {
         return new OpenApiConfigImpl(config);
     }
 
+    /**
+     * Obtain a snapshot of the OpenAPI configuration that shares the values
+     * read from the config with every other snapshot of the same config.
+     *
+     * @see OpenApiConfigSnapshot
+     */
+    public static OpenApiConfig snapshot(Config config) {
+        return OpenApiConfigSnapshot.of(config);
+    }
+
     DuplicateOperationIdBehavior DUPLICATE_OPERATION_ID_BEHAVIOR_DEFAULT = DuplicateOperationIdBehavior.WARN;
     Integer MAXIMUM_STATIC_FILE_SIZE_DEFAULT = 3 * 1024 * 1024;
 
@@ -377,6 +387,17 @@ public interface OpenApiConfig {
                 () -> MAXIMUM_STATIC_FILE_SIZE_DEFAULT);
     }
 
+    /**
+     * Number of threads used to scan resource classes. The default of 1 scans
+     * sequentially; a value of 0 or less uses one thread per available
+     * processor. The scan result is the same regardless of the parallelism,
+     * but any application-provided {@link OperationHandler} or scanner
+     * extension must be thread-safe when a parallel scan is used.
+     */
+    default int getScanParallelism() {
+        return getConfigValue(SmallRyeOASConfig.SCAN_PARALLELISM, Integer.class, () -> 1);
+    }
+
     default AutoInheritance getAutoInheritance() {
         return getConfigValue(SmallRyeOASConfig.AUTO_INHERITANCE, String.class, AutoInheritance::valueOf,
                 () -> AutoInheritance.NONE);
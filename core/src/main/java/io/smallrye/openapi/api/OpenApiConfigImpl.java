@@ -1,10 +1,10 @@
 package io.smallrye.openapi.api;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -22,8 +22,13 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
  */
 public class OpenApiConfigImpl implements OpenApiConfig {
 
+    /**
+     * Placeholder for a cached value that is null, not supported by {@link ConcurrentHashMap}
+     */
+    private static final Object NULL = new Object();
+
     private Config config;
-    private Map<String, Object> cache = new HashMap<>();
+    private final Map<String, Object> cache;
     private Optional<Boolean> allowNakedPathParameter = Optional.empty();
 
     /**
@@ -40,7 +45,19 @@ public class OpenApiConfigImpl implements OpenApiConfig {
      * @param config MicroProfile Config instance
      */
     public OpenApiConfigImpl(Config config) {
+        this(config, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Constructor for a configuration sharing its cache of converted values
+     * with other instances.
+     *
+     * @param config MicroProfile Config instance
+     * @param cache concurrent map of values already read, keyed by property name or prefix
+     */
+    OpenApiConfigImpl(Config config, Map<String, Object> cache) {
         this.config = config;
+        this.cache = cache;
     }
 
     /**
@@ -85,14 +102,9 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         this.allowNakedPathParameter = Optional.ofNullable(allowNakedPathParameter);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <R, T> T getConfigValue(String propertyName, Class<R> type, Function<R, T> converter, Supplier<T> defaultValue) {
-        if (cache.containsKey(propertyName)) {
-            return (T) cache.get(propertyName);
-        }
-
-        T value = getOptionalValue(propertyName, type)
+        return cached(propertyName, () -> getOptionalValue(propertyName, type)
                 .filter(configValue -> {
                     /*
                      * configValue can be "" if optional {@link org.eclipse.microprofile.config.spi.Converter}s are used.
@@ -105,47 +117,55 @@ public class OpenApiConfigImpl implements OpenApiConfig {
                     return true;
                 })
                 .map(converter)
-                .orElseGet(defaultValue);
-
-        cache.put(propertyName, value);
-
-        return value;
+                .orElseGet(defaultValue));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <R, T extends Collection<R>> T getConfigValues(String propertyName,
             Class<R> elementType,
             Function<List<R>, T> converter,
             Supplier<T> defaultValue) {
-        if (cache.containsKey(propertyName)) {
-            return (T) cache.get(propertyName);
-        }
-
-        T value = getConfig().getOptionalValues(propertyName, elementType)
+        return cached(propertyName, () -> getConfig().getOptionalValues(propertyName, elementType)
                 .map(converter)
-                .orElseGet(defaultValue);
-
-        cache.put(propertyName, value);
-
-        return value;
+                .orElseGet(defaultValue));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <R, T> Map<String, T> getConfigValueMap(String propertyNamePrefix, Class<R> type, Function<R, T> converter) {
-        if (cache.containsKey(propertyNamePrefix)) {
-            return (Map<String, T>) cache.get(propertyNamePrefix);
-        }
-
-        Map<String, T> valueMap = getPropertyNames()
-                .filter(propertyName -> propertyName.startsWith(propertyNamePrefix))
+        return cached(propertyNamePrefix, () -> getPropertyNames(propertyNamePrefix)
                 .collect(Collectors.toMap(
                         name -> name.substring(propertyNamePrefix.length()),
-                        name -> converter.apply(getValue(name, type))));
+                        name -> converter.apply(getValue(name, type)))));
+    }
+
+    /**
+     * Fetch the stream of all available configuration property names starting
+     * with the given prefix.
+     */
+    protected Stream<String> getPropertyNames(String propertyNamePrefix) {
+        return getPropertyNames().filter(propertyName -> propertyName.startsWith(propertyNamePrefix));
+    }
+
+    /**
+     * Retrieve a value from the cache, loading it when not present. The value
+     * is not loaded within a {@link ConcurrentHashMap#computeIfAbsent
+     * computeIfAbsent} because default values may themselves be read from the
+     * cache. When two threads load the same value concurrently, the first one
+     * stored is used by both.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String key, Supplier<T> loader) {
+        Object value = cache.get(key);
 
-        cache.put(propertyNamePrefix, valueMap);
+        if (value == null) {
+            T loaded = loader.get();
+            value = cache.putIfAbsent(key, loaded != null ? loaded : NULL);
+
+            if (value == null) {
+                return loaded;
+            }
+        }
 
-        return valueMap;
+        return value != NULL ? (T) value : null;
     }
 }
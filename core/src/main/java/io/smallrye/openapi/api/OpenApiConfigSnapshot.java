@@ -0,0 +1,155 @@
+package io.smallrye.openapi.api;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Implementation of the {@link OpenApiConfig} interface over a snapshot of the
+ * {@code mp.openapi.*} properties of an MP Config object.
+ *
+ * The names of the properties are read from the config sources once, when the
+ * snapshot of a {@link Config} is first requested, and kept in a sorted array
+ * so that prefix lookups (e.g. {@link #getSchemas()}) do not scan the config
+ * sources again. Only properties having the {@code mp.openapi.} prefix are
+ * available to prefix lookups. Converted values are held in a {@link ConcurrentHashMap}
+ * shared by every snapshot of the same {@link Config}, and are read without
+ * locking. The values of each {@link Config} are found without locking as well,
+ * and are discarded once the {@link Config} is no longer reachable. Properties
+ * added to or changed in the {@link Config} after a value has been read are
+ * not seen by the snapshot.
+ *
+ * Each instance returned by {@link #of(Config)} has its own
+ * {@linkplain #allowNakedPathParameter() naked path parameter} setting.
+ */
+public final class OpenApiConfigSnapshot extends OpenApiConfigImpl {
+
+    private static final String OPENAPI_PREFIX = "mp.openapi.";
+    private static final ConcurrentMap<ConfigKey, Values> SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Config> COLLECTED = new ReferenceQueue<>();
+
+    private final String[] propertyNames;
+
+    /**
+     * Obtain a snapshot of the configuration, reusing the values already read
+     * by other snapshots of the same {@link Config}.
+     *
+     * @param config MicroProfile Config instance
+     * @return a snapshot of the OpenAPI configuration
+     */
+    public static OpenApiConfigSnapshot of(Config config) {
+        Values values = SNAPSHOTS.get(new ConfigKey(config, null));
+
+        if (values == null) {
+            expungeCollected();
+            Values created = new Values(config);
+            // When racing with another thread, the first values stored are used by both
+            values = SNAPSHOTS.putIfAbsent(new ConfigKey(config, COLLECTED), created);
+
+            if (values == null) {
+                values = created;
+            }
+        }
+
+        return new OpenApiConfigSnapshot(config, values);
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends Config> collected;
+
+        while ((collected = COLLECTED.poll()) != null) {
+            SNAPSHOTS.remove(collected);
+        }
+    }
+
+    private OpenApiConfigSnapshot(Config config, Values values) {
+        super(config, values.cache);
+        this.propertyNames = values.propertyNames;
+    }
+
+    @Override
+    protected Stream<String> getPropertyNames() {
+        return Arrays.stream(propertyNames);
+    }
+
+    @Override
+    protected Stream<String> getPropertyNames(String propertyNamePrefix) {
+        int start = Arrays.binarySearch(propertyNames, propertyNamePrefix);
+
+        if (start < 0) {
+            start = -(start + 1);
+        }
+
+        int end = start;
+
+        while (end < propertyNames.length && propertyNames[end].startsWith(propertyNamePrefix)) {
+            end++;
+        }
+
+        return Arrays.stream(propertyNames, start, end);
+    }
+
+    /**
+     * Weak, identity-based key of the values of a {@link Config}
+     */
+    private static final class ConfigKey extends WeakReference<Config> {
+        private final int hash;
+
+        ConfigKey(Config config, ReferenceQueue<Config> queue) {
+            super(config, queue);
+            this.hash = System.identityHashCode(config);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConfigKey)) {
+                return false;
+            }
+            Config config = get();
+            return config != null && config == ((ConfigKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Values shared by the snapshots of a {@link Config}. The config itself is
+     * not referenced so that the entry may be discarded once the config is no
+     * longer used.
+     */
+    private static final class Values {
+        final String[] propertyNames;
+        final ConcurrentMap<String, Object> cache = new ConcurrentHashMap<>();
+
+        Values(Config config) {
+            /*
+             * Obtain the names directly from the underlying ConfigSources, the
+             * same as OpenApiConfigImpl#getPropertyNames.
+             */
+            Iterable<ConfigSource> sources = config.getConfigSources();
+
+            this.propertyNames = StreamSupport.stream(sources.spliterator(), false)
+                    .map(ConfigSource::getPropertyNames)
+                    .flatMap(Collection::stream)
+                    .filter(name -> name.startsWith(OPENAPI_PREFIX))
+                    .distinct()
+                    .sorted()
+                    .toArray(String[]::new);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.smallrye.openapi.api;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -9,12 +11,13 @@ import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
 import io.smallrye.openapi.api.util.ConfigUtil;
-import io.smallrye.openapi.api.util.FilterUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.api.util.UnusedComponentFilter;
 import io.smallrye.openapi.api.util.UnusedSchemaFilter;
 import io.smallrye.openapi.api.util.UnusedTagFilter;
+import io.smallrye.openapi.model.BaseModel;
 import io.smallrye.openapi.model.Extensions;
+import io.smallrye.openapi.model.FilterPipeline;
 import io.smallrye.openapi.model.ReferenceType;
 import io.smallrye.openapi.runtime.util.ProfileFilter;
 
@@ -41,6 +44,7 @@ public class OpenApiDocument {
     private transient OpenAPI annotationsModel;
     private transient OpenAPI readerModel;
     private transient OpenAPI staticFileModel;
+    private transient OpenAPI snapshotModel;
     private transient Map<String, OASFilter> filters = new LinkedHashMap<>();
     private transient boolean defaultRequiredProperties = true;
     private transient boolean intermediateModel = false;
@@ -108,6 +112,19 @@ public class OpenApiDocument {
         set(() -> this.staticFileModel = model);
     }
 
+    /**
+     * Use a complete model previously produced by a build, e.g. read from a
+     * {@link io.smallrye.openapi.model.ModelSnapshot ModelSnapshot}. When set,
+     * the reader, static file and annotation models are ignored and only the
+     * explicitly registered filters, the required defaults and the
+     * configuration (e.g. servers) are applied to the model.
+     *
+     * @param model the prebuilt model
+     */
+    public void modelFromSnapshot(OpenAPI model) {
+        set(() -> this.snapshotModel = model);
+    }
+
     public void filter(OASFilter filter) {
         if (filter != null) {
             set(() -> this.filters.putIfAbsent(filter.getClass().getName(), filter));
@@ -139,17 +156,24 @@ public class OpenApiDocument {
             throw ApiMessages.msg.configMustBeSet();
         }
 
-        // Phase 1: Use OASModelReader
-        OpenAPI merged = readerModel;
+        OpenAPI merged;
 
-        // Phase 2: Merge any static OpenAPI file packaged in the app
-        merged = MergeUtil.mergeObjects(merged, staticFileModel);
+        if (snapshotModel != null) {
+            // Phases 1-4 were completed when the snapshot was built, apply only filters registered with this document
+            merged = FilterPipeline.of(new ArrayList<>(filters.values())).apply(snapshotModel);
+        } else {
+            // Phase 1: Use OASModelReader
+            merged = readerModel;
 
-        // Phase 3: Merge annotations
-        merged = MergeUtil.mergeObjects(merged, annotationsModel);
+            // Phase 2: Merge any static OpenAPI file packaged in the app
+            merged = MergeUtil.mergeObjects(merged, staticFileModel);
 
-        // Phase 4: Filter model via OASFilter
-        merged = filterModel(merged);
+            // Phase 3: Merge annotations
+            merged = MergeUtil.mergeObjects(merged, annotationsModel);
+
+            // Phase 4: Filter model via OASFilter
+            merged = filterModel(merged);
+        }
 
         // Phase 5: Default empty document if model == null
         if (merged == null) {
@@ -186,40 +210,43 @@ public class OpenApiDocument {
      *
      * @param model
      */
-    @SuppressWarnings("removal")
     private OpenAPI filterModel(OpenAPI model) {
         if (model == null) {
             return model;
         }
 
+        // A frozen model is copied lazily, before the profile filter captures the path item components
+        model = BaseModel.unfreeze(model);
+
+        List<OASFilter> pipeline = new ArrayList<>(filters.size() + 5);
+
         if (!config.getScanProfiles().isEmpty() || !config.getScanExcludeProfiles().isEmpty()) {
-            model = FilterUtil.applyFilter(new ProfileFilter(model, config), model);
+            pipeline.add(new ProfileFilter(model, config));
         }
 
         if (config.removeUnusedSchemas()) {
-            model = FilterUtil.applyFilter(new UnusedSchemaFilter(), model);
+            pipeline.add(new UnusedSchemaFilter());
         }
 
-        for (OASFilter filter : filters.values()) {
-            model = FilterUtil.applyFilter(filter, model);
-        }
+        pipeline.addAll(filters.values());
 
         Set<ReferenceType> removeUnusedComponents = config.removeUnusedComponents();
 
         if (!removeUnusedComponents.isEmpty()) {
-            model = FilterUtil.applyFilter(new UnusedComponentFilter(removeUnusedComponents), model);
+            pipeline.add(new UnusedComponentFilter(removeUnusedComponents));
         }
 
         if (config.removeUnusedTags()) {
-            model = FilterUtil.applyFilter(new UnusedTagFilter(), model);
+            pipeline.add(new UnusedTagFilter());
         }
 
         if (!intermediateModel) {
             // Remove any `x-smallrye-*` extensions that should not be in the result
-            model = FilterUtil.applyFilter(Extensions.newRemovalFilter(), model);
+            pipeline.add(Extensions.newRemovalFilter());
         }
 
-        return model;
+        // Filters are combined into as few traversals of the model as possible
+        return FilterPipeline.of(pipeline).apply(model);
     }
 
     private synchronized void set(Runnable action) {
@@ -238,6 +265,7 @@ public class OpenApiDocument {
         annotationsModel = null;
         readerModel = null;
         staticFileModel = null;
+        snapshotModel = null;
         filters.clear();
         archiveName = null;
         defaultRequiredProperties = true;
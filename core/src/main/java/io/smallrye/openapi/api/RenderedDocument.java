@@ -0,0 +1,208 @@
+package io.smallrye.openapi.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * An OpenAPI document serialized in a single {@link Format}, intended to be
+ * served by HTTP endpoints without re-serializing the model for every request.
+ * The content is available uncompressed and with the gzip and deflate content
+ * codings, each compressed variant being created the first time it is
+ * requested. All content is returned as read-only {@link ByteBuffer} views of
+ * the same underlying arrays.
+ *
+ * <p>
+ * A strong entity tag is computed from the uncompressed content. Each content
+ * coding has a distinct tag as required for strong validators, see
+ * {@link #getETag(Encoding)} and {@link #matches(String, Encoding)} for
+ * handling {@code If-None-Match} requests.
+ *
+ * @see SmallRyeOpenAPI#render(Format)
+ */
+public final class RenderedDocument {
+
+    /**
+     * Content codings available for a rendered document.
+     */
+    public enum Encoding {
+        IDENTITY("identity", ""),
+        GZIP("gzip", "-gzip"),
+        DEFLATE("deflate", "-deflate");
+
+        private final String contentCoding;
+        private final String tagSuffix;
+
+        Encoding(String contentCoding, String tagSuffix) {
+            this.contentCoding = contentCoding;
+            this.tagSuffix = tagSuffix;
+        }
+
+        /**
+         * @return the name of the content coding, suitable for the {@code Content-Encoding} header
+         */
+        public String getContentCoding() {
+            return contentCoding;
+        }
+    }
+
+    private final Format format;
+    private final Map<Encoding, byte[]> content = new EnumMap<>(Encoding.class);
+    private final String tag;
+
+    RenderedDocument(Format format, byte[] content) {
+        this.format = format;
+        this.content.put(Encoding.IDENTITY, content);
+        this.tag = computeTag(content);
+    }
+
+    /**
+     * @return the format of the document
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the media type of the document, suitable for the {@code Content-Type} header
+     */
+    public String getMediaType() {
+        return format.getMimeType();
+    }
+
+    /**
+     * @return a read-only view of the uncompressed, UTF-8 encoded document
+     */
+    public ByteBuffer getContent() {
+        return getContent(Encoding.IDENTITY);
+    }
+
+    /**
+     * Retrieve the document with the given content coding. The compressed
+     * content is created on first use and retained.
+     *
+     * @param encoding the content coding
+     * @return a read-only view of the encoded document
+     */
+    public ByteBuffer getContent(Encoding encoding) {
+        return ByteBuffer.wrap(bytes(encoding)).asReadOnlyBuffer();
+    }
+
+    /**
+     * @param encoding the content coding
+     * @return the length in bytes of the encoded document
+     */
+    public int getLength(Encoding encoding) {
+        return bytes(encoding).length;
+    }
+
+    /**
+     * @return the quoted strong entity tag of the uncompressed document
+     */
+    public String getETag() {
+        return getETag(Encoding.IDENTITY);
+    }
+
+    /**
+     * @param encoding the content coding
+     * @return the quoted strong entity tag of the document with the content coding
+     */
+    public String getETag(Encoding encoding) {
+        return '"' + tag + encoding.tagSuffix + '"';
+    }
+
+    /**
+     * Determine whether the value of an {@code If-None-Match} request header
+     * matches the document with the given content coding, i.e. whether a
+     * {@code 304 Not Modified} response may be sent. As specified for
+     * {@code If-None-Match}, weak comparison is used.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @param encoding the content coding of the response
+     * @return true if the header value is {@code *} or lists the entity tag of the document
+     */
+    public boolean matches(String ifNoneMatch, Encoding encoding) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        String expected = getETag(encoding);
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(expected)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private byte[] bytes(Encoding encoding) {
+        synchronized (content) {
+            return content.computeIfAbsent(encoding, this::encode);
+        }
+    }
+
+    private byte[] encode(Encoding encoding) {
+        byte[] identity = content.get(Encoding.IDENTITY);
+        ByteArrayOutputStream result = new ByteArrayOutputStream(identity.length / 4);
+
+        try (OutputStream out = encoding == Encoding.GZIP ? new GZIPStream(result) : new DeflateStream(result)) {
+            out.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return result.toByteArray();
+    }
+
+    private static String computeTag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * GZIP output using the best compression. The cost of the best compression
+     * is paid once per document.
+     */
+    private static final class GZIPStream extends GZIPOutputStream {
+        GZIPStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    /**
+     * Deflate (zlib) output using the best compression.
+     */
+    private static final class DeflateStream extends DeflaterOutputStream {
+        DeflateStream(OutputStream out) {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
@@ -76,6 +76,8 @@ public final class SmallRyeOASConfig {
 
     public static final String SCAN_COMPOSITION_EXCLUDE_PACKAGES = SMALLRYE_PREFIX + "scan.composition.exclude.packages";
 
+    public static final String SCAN_PARALLELISM = SMALLRYE_PREFIX + "scan.parallelism";
+
     public static final String VERSION = SMALLRYE_PREFIX + "openapi";
 
     public static final String INFO_TITLE = SMALLRYE_PREFIX + "info.title";
@@ -1,14 +1,23 @@
 package io.smallrye.openapi.api;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -18,6 +27,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -28,6 +38,7 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.jandex.Type;
@@ -35,6 +46,7 @@ import org.jboss.jandex.Type;
 import io.smallrye.common.classloader.ClassPathUtils;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.model.BaseModel;
+import io.smallrye.openapi.model.ModelSnapshot;
 import io.smallrye.openapi.runtime.OpenApiProcessor;
 import io.smallrye.openapi.runtime.OpenApiRuntimeException;
 import io.smallrye.openapi.runtime.io.Format;
@@ -44,6 +56,7 @@ import io.smallrye.openapi.runtime.io.OpenAPIDefinitionIO;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.ScanDependencies;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
@@ -52,14 +65,40 @@ import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
 public class SmallRyeOpenAPI {
 
     private final OpenAPI model;
-    private final Object jsonModel;
+    private final OpenAPIDefinitionIO<?, ?, ?, ?, ?> modelIO;
     private final BiFunction<? super Object, Format, String> toString;
+    private final boolean unmodifiable;
+    private final Map<Format, RenderedDocument> renderedDocuments = new EnumMap<>(Format.class);
+    private Object jsonModel;
+    private ScanState scanState;
 
     @SuppressWarnings("unchecked")
     protected SmallRyeOpenAPI(OpenAPI model, Object jsonModel, BiFunction<?, Format, String> toString, boolean unmodifiable) {
-        this.model = unmodifiable ? BaseModel.deepCopy(model, OpenAPI.class, true) : model;
+        this.model = unmodifiable ? BaseModel.freeze(model) : model;
+        this.modelIO = null;
         this.jsonModel = jsonModel;
         this.toString = (BiFunction<? super Object, Format, String>) toString;
+        this.unmodifiable = unmodifiable;
+    }
+
+    /**
+     * Create an instance that converts the model to JSON only when it is first
+     * serialized to a String, and writes the model directly when using
+     * {@link #writeTo(OutputStream, Format)}.
+     *
+     * @param model the final model
+     * @param modelIO used to convert and write the model
+     * @param unmodifiable whether the model available via {@link #model()} is mutable or not. An
+     *        unmodifiable model is {@linkplain BaseModel#freeze(org.eclipse.microprofile.openapi.models.Constructible)
+     *        frozen} in place.
+     */
+    @SuppressWarnings("unchecked")
+    protected <V> SmallRyeOpenAPI(OpenAPI model, OpenAPIDefinitionIO<V, ?, ?, ?, ?> modelIO, boolean unmodifiable) {
+        this.model = unmodifiable ? BaseModel.freeze(model) : model;
+        this.modelIO = modelIO;
+        BiFunction<V, Format, String> toStringFn = modelIO.jsonIO()::toString;
+        this.toString = (BiFunction<? super Object, Format, String>) (BiFunction<?, Format, String>) toStringFn;
+        this.unmodifiable = unmodifiable;
     }
 
     /**
@@ -73,14 +112,98 @@ public class SmallRyeOpenAPI {
      * Serializes the {@link #model} as a JSON String
      */
     public String toJSON() {
-        return toString.apply(jsonModel, Format.JSON);
+        return toString(Format.JSON);
     }
 
     /**
      * Serializes the {@link #model} as a YAML String
      */
     public String toYAML() {
-        return toString.apply(jsonModel, Format.YAML);
+        return toString(Format.YAML);
+    }
+
+    private String toString(Format format) {
+        if (unmodifiable) {
+            return StandardCharsets.UTF_8.decode(render(format).getContent()).toString();
+        }
+        return toString.apply(jsonModel(), format);
+    }
+
+    /**
+     * Render the {@link #model} in the given format, ready to be served over
+     * HTTP with an entity tag and optional compression.
+     * <p>
+     * When the model is unmodifiable (see {@link Builder#buildUnmodifiable()})
+     * each format is rendered once and the same {@link RenderedDocument} is
+     * returned by later calls. Otherwise, the model is rendered on every call
+     * so that the result reflects any changes made to the model.
+     *
+     * @param format the format of the document
+     * @return the rendered document
+     */
+    public RenderedDocument render(Format format) {
+        if (!unmodifiable) {
+            return renderDocument(format);
+        }
+
+        synchronized (renderedDocuments) {
+            return renderedDocuments.computeIfAbsent(format, this::renderDocument);
+        }
+    }
+
+    private RenderedDocument renderDocument(Format format) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try {
+            writeTo(stream, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new RenderedDocument(format, stream.toByteArray());
+    }
+
+    /**
+     * Serializes the {@link #model} to the stream in the given format, using
+     * UTF-8. The model is written as it is visited, without holding the
+     * complete serialized document in memory. The stream is flushed but not
+     * closed.
+     *
+     * @param stream the stream to write to
+     * @param format the format of the document
+     * @throws IOException when writing to the stream fails
+     */
+    public void writeTo(OutputStream stream, Format format) throws IOException {
+        if (modelIO != null) {
+            modelIO.write(model, stream, format);
+        } else {
+            writeTo(new OutputStreamWriter(stream, StandardCharsets.UTF_8), format);
+        }
+    }
+
+    /**
+     * Serializes the {@link #model} to the writer in the given format. See
+     * {@link #writeTo(OutputStream, Format)}. The writer is flushed but not
+     * closed.
+     *
+     * @param writer the writer to write to
+     * @param format the format of the document
+     * @throws IOException when writing fails
+     */
+    public void writeTo(Writer writer, Format format) throws IOException {
+        if (modelIO != null) {
+            modelIO.write(model, writer, format);
+        } else {
+            writer.write(toString.apply(jsonModel(), format));
+            writer.flush();
+        }
+    }
+
+    private synchronized Object jsonModel() {
+        if (jsonModel == null && modelIO != null) {
+            jsonModel = modelIO.write(model).orElse(null);
+        }
+        return jsonModel;
     }
 
     /**
@@ -99,8 +222,10 @@ public class SmallRyeOpenAPI {
         private transient BuildContext<?, ?, ?, ?, ?> buildContext;
 
         private Config config;
+        private boolean enableConfigSnapshot = false;
         private ClassLoader applicationClassLoader;
         private OpenAPI initialModel;
+        private byte[] prebuiltModel;
 
         private boolean enableModelReader = true;
 
@@ -126,6 +251,10 @@ public class SmallRyeOpenAPI {
         private boolean enableStandardFilter = true;
         private Map<String, OASFilter> filters = new LinkedHashMap<>();
 
+        private boolean enableScanReuse = false;
+        private SmallRyeOpenAPI previousBuild;
+        private Collection<DotName> changedClasses;
+
         protected Builder() {
         }
 
@@ -158,6 +287,24 @@ public class SmallRyeOpenAPI {
             return this;
         }
 
+        /**
+         * Read the OpenAPI configuration through a
+         * {@linkplain OpenApiConfig#snapshot(Config) snapshot} that is shared
+         * with other builds using the same Config. Values read by an earlier
+         * build are reused and changes made to the Config after they were read
+         * are not seen.
+         *
+         * Default is false.
+         *
+         * @param enableConfigSnapshot true to use a shared snapshot of the configuration
+         * @return this builder
+         */
+        public Builder enableConfigSnapshot(boolean enableConfigSnapshot) {
+            removeContext();
+            this.enableConfigSnapshot = enableConfigSnapshot;
+            return this;
+        }
+
         /**
          * Set the application ClassLoader to be used when building the OpenAPI
          * model.
@@ -306,6 +453,93 @@ public class SmallRyeOpenAPI {
             return this;
         }
 
+        /**
+         * Use a complete model previously written at build time by
+         * {@link ModelSnapshot#write(OpenAPI, String, java.io.OutputStream) ModelSnapshot.write}
+         * (e.g. by the SmallRye OpenAPI Maven or Gradle plugins) instead of
+         * building the model from the model reader, static files and annotation
+         * scanning. When a prebuilt model is given, those sources, the initial
+         * model and the standard filter are not used; only filters added to
+         * this builder, the defaults for required properties and runtime
+         * configuration such as servers are applied to the model.
+         * <p>
+         * The stream is read fully and may be closed by the caller once this
+         * method returns. Each call to {@link #build() build} produces a new
+         * model instance.
+         *
+         * @param prebuiltModel stream containing a model snapshot, or null to build the model normally
+         * @return this builder
+         * @throws OpenApiRuntimeException when the stream can not be read or
+         *         does not contain a model snapshot of the supported version
+         */
+        public Builder withPrebuiltModel(InputStream prebuiltModel) {
+            removeContext();
+
+            if (prebuiltModel == null) {
+                this.prebuiltModel = null;
+                return this;
+            }
+
+            try {
+                byte[] snapshot = prebuiltModel.readAllBytes();
+
+                if (ModelSnapshot.readInputHash(new ByteArrayInputStream(snapshot)) == null) {
+                    throw new OpenApiRuntimeException("Unsupported OpenAPI model snapshot, expected format version "
+                            + ModelSnapshot.FORMAT_VERSION);
+                }
+
+                this.prebuiltModel = snapshot;
+            } catch (IOException e) {
+                throw new OpenApiRuntimeException("IOException reading prebuilt model", e);
+            }
+
+            return this;
+        }
+
+        /**
+         * Enable recording of the classes used by the annotation scan. The
+         * result of the build retains the annotation model together with the
+         * recorded classes so that it may be given to
+         * {@link #withPreviousBuild(SmallRyeOpenAPI, Collection)} in a later
+         * build, e.g. when an application is reloaded during development, to
+         * skip the scan when the classes changed since do not affect it.
+         *
+         * @param enableScanReuse true to record the classes used by the annotation scan
+         * @return this builder
+         */
+        public Builder enableScanReuse(boolean enableScanReuse) {
+            removeContext();
+            this.enableScanReuse = enableScanReuse;
+            return this;
+        }
+
+        /**
+         * Provide the result of an earlier build with
+         * {@linkplain #enableScanReuse(boolean) scan reuse} enabled, and the
+         * names of the classes added, modified or removed since. When none of
+         * the changed classes was used by the earlier annotation scan and none
+         * of them would be found by the queries it made of the index, the
+         * annotation model of the earlier build is reused and the scan is
+         * skipped. Otherwise, e.g. when a resource class or a class used in
+         * a schema changed, the complete annotation scan is repeated: results
+         * of individual classes are not re-scanned separately. All other
+         * sources of the model and all filters are applied as usual.
+         * <p>
+         * The index given to {@link #withIndex(IndexView)} must be the updated
+         * index, and the remaining configuration of this builder must be
+         * unchanged since the earlier build.
+         *
+         * @param previousBuild result of an earlier build, or null to always scan
+         * @param changedClasses names of the classes changed since the earlier build
+         * @return this builder
+         */
+        public Builder withPreviousBuild(SmallRyeOpenAPI previousBuild, Collection<DotName> changedClasses) {
+            removeContext();
+            this.previousBuild = previousBuild;
+            this.changedClasses = changedClasses;
+            return this;
+        }
+
         /**
          * Provide an IndexView for use in annotation scanning.
          *
@@ -607,9 +841,9 @@ public class SmallRyeOpenAPI {
 
         private <V, A extends V, O extends V, AB, OB> void addStaticModel(BuildContext<V, A, O, AB, OB> ctx, InputStream stream,
                 String source, Format fileFormat) {
-            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
-                V dom = ctx.modelIO.jsonIO().fromReader(reader, fileFormat);
-                OpenAPI fileModel = ctx.modelIO.readValue(dom);
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+                    JsonIO.TokenReader<V> tokens = ctx.modelIO.jsonIO().reader(reader, fileFormat)) {
+                OpenAPI fileModel = ctx.modelIO.readValue(tokens);
                 debugModel(source, fileModel);
                 ctx.staticModel = MergeUtil.merge(fileModel, ctx.staticModel);
             } catch (IOException e) {
@@ -620,9 +854,24 @@ public class SmallRyeOpenAPI {
 
         protected <V, A extends V, O extends V, AB, OB> void buildAnnotationModel(BuildContext<V, A, O, AB, OB> ctx) {
             if (enableAnnotationScan && !ctx.buildConfig.scanDisable()) {
+                ScanState previousScan = previousBuild != null ? previousBuild.scanState : null;
+
+                if (previousScan != null && changedClasses != null
+                        && !previousScan.dependencies.isAffectedBy(index, changedClasses)) {
+                    ctx.scanState = previousScan;
+                    ctx.annotationModel = BaseModel.deepCopy(previousScan.annotationModel, OpenAPI.class);
+                    debugModel("annotation (reused)", ctx.annotationModel);
+                    return;
+                }
+
+                ScanDependencies dependencies = enableScanReuse ? ScanDependencies.recording(index) : null;
+                FilteredIndexView scanIndex = dependencies != null
+                        ? new FilteredIndexView(dependencies.index(), ctx.buildConfig)
+                        : ctx.filteredIndex;
+
                 ctx.buildConfig.setAllowNakedPathParameter(enableUnannotatedPathParameters);
                 AnnotationScannerExtension ext = newExtension(ctx.modelIO);
-                AnnotationScannerContext scannerContext = new AnnotationScannerContext(ctx.filteredIndex, ctx.appClassLoader,
+                AnnotationScannerContext scannerContext = new AnnotationScannerContext(scanIndex, ctx.appClassLoader,
                         Collections.singletonList(ext), false, ctx.buildConfig, operationHandler, OASFactory.createOpenAPI());
                 ctx.modelIO.ioContext().scannerContext(scannerContext);
                 Supplier<Iterable<AnnotationScanner>> supplier = Optional.ofNullable(scannerClassLoader)
@@ -631,6 +880,12 @@ public class SmallRyeOpenAPI {
                 OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(scannerContext, supplier);
                 ctx.annotationModel = scanner.scan(scannerFilter);
                 debugModel("annotation", ctx.annotationModel);
+
+                if (dependencies != null) {
+                    // Retain a copy, the annotation model is modified when merged into the final model
+                    ctx.scanState = new ScanState(dependencies,
+                            BaseModel.deepCopy(ctx.annotationModel, OpenAPI.class));
+                }
             }
         }
 
@@ -647,56 +902,75 @@ public class SmallRyeOpenAPI {
             ctx.doc.set(null);
         }
 
+        protected void buildPrebuiltModel(BuildContext<?, ?, ?, ?, ?> ctx) {
+            try {
+                ctx.prebuiltModel = ModelSnapshot.read(new ByteArrayInputStream(prebuiltModel));
+            } catch (IOException e) {
+                throw new OpenApiRuntimeException("IOException reading prebuilt model", e);
+            }
+            debugModel("prebuilt", ctx.prebuiltModel);
+        }
+
         protected <V> SmallRyeOpenAPI buildFinalize(BuildContext<V, ?, ?, ?, ?> ctx, boolean unmodifiable) {
             ctx.doc.config(ctx.buildConfig);
             ctx.doc.defaultRequiredProperties(ctx.defaultRequiredProperties);
             ctx.doc.intermediateModel(ctx.intermediateModel);
 
-            OpenAPI readerModel = ctx.readerModel;
+            if (ctx.prebuiltModel != null) {
+                ctx.doc.modelFromSnapshot(ctx.prebuiltModel);
+            } else {
+                OpenAPI readerModel = ctx.readerModel;
 
-            if (ctx.initialModel != null) {
-                // Copy the initial model so the original is not modified by the build process
-                OpenAPI initialModelCopy = BaseModel.deepCopy(ctx.initialModel, OpenAPI.class);
-                readerModel = MergeUtil.merge(initialModelCopy, ctx.readerModel);
-            }
+                if (ctx.initialModel != null) {
+                    // Copy the initial model so the original is not modified by the build process
+                    OpenAPI initialModelCopy = BaseModel.deepCopy(ctx.initialModel, OpenAPI.class);
+                    readerModel = MergeUtil.merge(initialModelCopy, ctx.readerModel);
+                }
 
-            ctx.doc.modelFromReader(readerModel);
-            ctx.doc.modelFromStaticFile(ctx.staticModel);
-            ctx.doc.modelFromAnnotations(ctx.annotationModel);
+                ctx.doc.modelFromReader(readerModel);
+                ctx.doc.modelFromStaticFile(ctx.staticModel);
+                ctx.doc.modelFromAnnotations(ctx.annotationModel);
+            }
 
-            filters.entrySet()
-                    .stream()
-                    .map(e -> Optional.ofNullable(e.getValue())
-                            // Create an instance from the key (class name) when the value is null
-                            .orElseGet(() -> OpenApiProcessor.getFilter(
-                                    e.getKey(),
-                                    ctx.appClassLoader,
-                                    ctx.filteredIndex)))
-                    .forEach(ctx.doc::filter);
+            newFilters(ctx).forEach(ctx.doc::filter);
 
             if (ctx.standardFilter != null && !filters.containsKey(ctx.standardFilter.getClass().getName())) {
                 ctx.doc.filter(ctx.standardFilter);
             }
 
             ctx.doc.initialize();
-            OpenAPI model = ctx.doc.get();
-            BiFunction<V, Format, String> toString = ctx.modelIO.jsonIO()::toString;
-            return new SmallRyeOpenAPI(model, ctx.modelIO.write(model).orElse(null), toString, unmodifiable);
+            SmallRyeOpenAPI result = new SmallRyeOpenAPI(ctx.doc.get(), ctx.modelIO, unmodifiable);
+            result.scanState = ctx.scanState;
+            return result;
         }
 
         protected <V> SmallRyeOpenAPI buildFinalize(BuildContext<V, ?, ?, ?, ?> ctx) {
             return buildFinalize(ctx, false);
         }
 
+        private List<OASFilter> newFilters(BuildContext<?, ?, ?, ?, ?> ctx) {
+            return filters.entrySet()
+                    .stream()
+                    .map(e -> Optional.ofNullable(e.getValue())
+                            // Create an instance from the key (class name) when the value is null
+                            .orElseGet(() -> OpenApiProcessor.getFilter(
+                                    e.getKey(),
+                                    ctx.appClassLoader,
+                                    ctx.filteredIndex)))
+                    .collect(Collectors.toList());
+        }
+
         protected static class BuildContext<V, A extends V, O extends V, AB, OB> {
             ClassLoader appClassLoader;
             OpenApiConfig buildConfig;
             OpenAPIDefinitionIO<V, A, O, AB, OB> modelIO;
             FilteredIndexView filteredIndex;
             OpenAPI initialModel;
+            OpenAPI prebuiltModel;
             OpenAPI readerModel;
             OpenAPI staticModel;
             OpenAPI annotationModel;
+            ScanState scanState;
             OASFilter standardFilter;
             boolean defaultRequiredProperties;
             boolean intermediateModel;
@@ -708,8 +982,11 @@ public class SmallRyeOpenAPI {
                         ? builder.applicationClassLoader
                         : Thread.currentThread().getContextClassLoader();
 
-                this.buildConfig = OpenApiConfig.fromConfig(Optional.ofNullable(builder.config)
-                        .orElseGet(() -> ConfigProvider.getConfig(this.appClassLoader)));
+                Config config = Optional.ofNullable(builder.config)
+                        .orElseGet(() -> ConfigProvider.getConfig(this.appClassLoader));
+                this.buildConfig = builder.enableConfigSnapshot
+                        ? OpenApiConfig.snapshot(config)
+                        : OpenApiConfig.fromConfig(config);
                 IOContext<V, A, O, AB, OB> io = IOContext.forJson(JsonIO.newInstance(this.buildConfig));
                 this.modelIO = new OpenAPIDefinitionIO<>(io);
                 this.filteredIndex = new FilteredIndexView(builder.index, this.buildConfig);
@@ -736,10 +1013,16 @@ public class SmallRyeOpenAPI {
             BuildContext<V, A, O, AB, OB> ctx = getContext();
 
             buildPrepare(ctx);
-            buildReaderModel(ctx);
-            buildStaticModel(ctx);
-            buildAnnotationModel(ctx);
-            buildStandardFilter(ctx);
+            ctx.scanState = null;
+
+            if (prebuiltModel != null) {
+                buildPrebuiltModel(ctx);
+            } else {
+                buildReaderModel(ctx);
+                buildStaticModel(ctx);
+                buildAnnotationModel(ctx);
+                buildStandardFilter(ctx);
+            }
 
             return buildFinalize(ctx, unmodifiable);
         }
@@ -755,6 +1038,9 @@ public class SmallRyeOpenAPI {
 
         /**
          * Build a new unmodifiable {@linkplain SmallRyeOpenAPI} instance based on the current state of this builder.
+         * The resulting model is {@linkplain BaseModel#freeze(org.eclipse.microprofile.openapi.models.Constructible)
+         * frozen} in place rather than copied, with equal sub-trees (e.g. repeated schemas or responses) shared, and
+         * may be used concurrently by multiple threads.
          *
          * @return a new unmodifiable {@linkplain SmallRyeOpenAPI} instance
          */
@@ -762,6 +1048,37 @@ public class SmallRyeOpenAPI {
             return build(true);
         }
 
+        /**
+         * Read and scan the application once based on the current state of
+         * this builder, without applying any filters or the configured
+         * servers. The result may be used to build any number of
+         * {@linkplain Prepared#variant() variants} of the document, e.g. with
+         * a different configuration or set of filters for each tenant of an
+         * application, and variants may be built concurrently. Changes made to
+         * this builder after the call have no effect on the prepared result.
+         *
+         * @return the prepared reader, static file and annotation models
+         */
+        public Prepared prepare() {
+            return prepare(getContext());
+        }
+
+        private <V, A extends V, O extends V, AB, OB> Prepared prepare(BuildContext<V, A, O, AB, OB> ctx) {
+            buildPrepare(ctx);
+            ctx.scanState = null;
+
+            if (prebuiltModel != null) {
+                buildPrebuiltModel(ctx);
+            } else {
+                buildReaderModel(ctx);
+                buildStaticModel(ctx);
+                buildAnnotationModel(ctx);
+                buildStandardFilter(ctx);
+            }
+
+            return new Prepared(this, ctx);
+        }
+
         private <V, A extends V, O extends V, AB, OB> AnnotationScannerExtension newExtension(
                 OpenAPIDefinitionIO<V, A, O, AB, OB> modelIO) {
             return new AnnotationScannerExtension() {
@@ -832,4 +1149,199 @@ public class SmallRyeOpenAPI {
             ApiLogging.logger.addingModel(name, source, collection.map(Object::toString).orElse("<no>"));
         }
     }
+
+    /**
+     * The tenant-independent result of reading and scanning an application,
+     * see {@link Builder#prepare()}. The models are merged and
+     * {@linkplain BaseModel#freeze frozen} once, and each variant built from
+     * them starts from a {@linkplain BaseModel#unfreeze lazy copy} in which
+     * only the parts modified by the variant's filters and configuration are
+     * copied, so that a Prepared instance may be shared by any number of
+     * threads. Filters given to the {@linkplain Builder builder}
+     * are shared by every variant and must be thread-safe when variants are
+     * built concurrently.
+     */
+    public static final class Prepared {
+        private final ClassLoader appClassLoader;
+        private final OpenApiConfig config;
+        private final JsonIO<?, ?, ?, ?, ?> jsonIO;
+        private final FilteredIndexView filteredIndex;
+        private final OpenAPI model;
+        private final boolean prebuilt;
+        private final List<OASFilter> filters;
+        private final boolean standardFilterEnabled;
+        private final OASFilter standardFilter;
+        private final boolean defaultRequiredProperties;
+        private final boolean intermediateModel;
+
+        Prepared(Builder builder, Builder.BuildContext<?, ?, ?, ?, ?> ctx) {
+            this.appClassLoader = ctx.appClassLoader;
+            this.config = ctx.buildConfig;
+            this.jsonIO = ctx.modelIO.jsonIO();
+            this.filteredIndex = ctx.filteredIndex;
+            this.filters = Collections.unmodifiableList(builder.newFilters(ctx));
+            this.standardFilterEnabled = builder.enableStandardFilter;
+            this.standardFilter = ctx.standardFilter;
+            this.defaultRequiredProperties = ctx.defaultRequiredProperties;
+            this.intermediateModel = ctx.intermediateModel;
+
+            OpenAPI merged;
+
+            if (ctx.prebuiltModel != null) {
+                merged = ctx.prebuiltModel;
+                prebuilt = true;
+            } else {
+                // The build context retains its models, copy them so they are not frozen by the merge below
+                merged = copy(ctx.initialModel);
+                merged = MergeUtil.mergeObjects(merged, copy(ctx.readerModel));
+                merged = MergeUtil.mergeObjects(merged, copy(ctx.staticModel));
+                merged = MergeUtil.mergeObjects(merged, copy(ctx.annotationModel));
+                prebuilt = false;
+            }
+
+            this.model = merged != null ? BaseModel.freeze(merged) : null;
+        }
+
+        private static OpenAPI copy(OpenAPI model) {
+            return model != null ? BaseModel.deepCopy(model, OpenAPI.class) : null;
+        }
+
+        /**
+         * Create a builder for a variant of the prepared document.
+         *
+         * @return a new variant builder
+         */
+        public Variant variant() {
+            return new Variant();
+        }
+
+        /**
+         * Build the document using the configuration and filters of the
+         * builder that prepared it. Equivalent to {@code variant().build()}.
+         *
+         * @return a new {@linkplain SmallRyeOpenAPI} instance
+         */
+        public SmallRyeOpenAPI build() {
+            return variant().build();
+        }
+
+        /**
+         * Builder of a single variant of a {@link Prepared} document. The
+         * configuration of a variant replaces the configuration used by the
+         * builder for the steps applied after the scan: profiles, removal of
+         * unused components, the standard filter named by {@code mp.openapi.filter},
+         * and servers. Configuration used by the scan itself (e.g. the
+         * packages and classes to scan) has no effect.
+         *
+         * When the document was prepared from a prebuilt model (see
+         * {@link Builder#withPrebuiltModel}), the steps applied after the scan
+         * were already completed when the model was built, the same as for
+         * {@link Builder#build()}. Only the servers of a variant's configuration
+         * and the filters added to the builder and the variant are applied.
+         *
+         * A variant builder is not thread-safe, each thread should use its
+         * own.
+         */
+        public final class Variant {
+            private OpenApiConfig variantConfig;
+            private final List<OASFilter> variantFilters = new ArrayList<>();
+
+            Variant() {
+            }
+
+            /**
+             * Set the MicroProfile Config to be used for this variant.
+             *
+             * @param config
+             *        Config instance, nulls not allowed
+             * @return this variant builder
+             */
+            public Variant withConfig(Config config) {
+                this.variantConfig = OpenApiConfig.fromConfig(Objects.requireNonNull(config));
+                return this;
+            }
+
+            /**
+             * Add an {@linkplain OASFilter} to be applied to this variant,
+             * after the filters given to the builder that prepared the
+             * document.
+             *
+             * @param filter OASFilter instance
+             * @return this variant builder
+             */
+            public Variant addFilter(OASFilter filter) {
+                variantFilters.add(Objects.requireNonNull(filter));
+                return this;
+            }
+
+            /**
+             * Build a new {@linkplain SmallRyeOpenAPI} instance for this variant.
+             *
+             * @return a new {@linkplain SmallRyeOpenAPI} instance
+             */
+            public SmallRyeOpenAPI build() {
+                return build(newModelIO(jsonIO), false);
+            }
+
+            /**
+             * Build a new unmodifiable {@linkplain SmallRyeOpenAPI} instance for this variant.
+             *
+             * @return a new unmodifiable {@linkplain SmallRyeOpenAPI} instance
+             * @see Builder#buildUnmodifiable()
+             */
+            public SmallRyeOpenAPI buildUnmodifiable() {
+                return build(newModelIO(jsonIO), true);
+            }
+
+            private <V, A extends V, O extends V, AB, OB> SmallRyeOpenAPI build(
+                    OpenAPIDefinitionIO<V, A, O, AB, OB> modelIO, boolean unmodifiable) {
+                OpenApiDocument doc = OpenApiDocument.newInstance();
+                OpenApiConfig buildConfig = variantConfig != null ? variantConfig : config;
+                doc.config(buildConfig);
+                doc.defaultRequiredProperties(defaultRequiredProperties);
+                doc.intermediateModel(intermediateModel);
+
+                // The frozen model is copied lazily when filtered, see FilterPipeline#apply
+                if (prebuilt) {
+                    doc.modelFromSnapshot(model);
+                } else {
+                    doc.modelFromReader(model);
+                }
+
+                filters.forEach(doc::filter);
+                variantFilters.forEach(doc::filter);
+
+                OASFilter variantStandardFilter = standardFilter;
+
+                if (variantConfig != null && standardFilterEnabled && !prebuilt) {
+                    variantStandardFilter = OpenApiProcessor.getFilter(variantConfig, appClassLoader, filteredIndex);
+                }
+
+                doc.filter(variantStandardFilter);
+                doc.initialize();
+
+                return new SmallRyeOpenAPI(doc.get(), modelIO, unmodifiable);
+            }
+        }
+
+        private static <V, A extends V, O extends V, AB, OB> OpenAPIDefinitionIO<V, A, O, AB, OB> newModelIO(
+                JsonIO<V, A, O, AB, OB> jsonIO) {
+            // A new IO context for each variant, the context is modified when writing the model
+            return new OpenAPIDefinitionIO<>(IOContext.forJson(jsonIO));
+        }
+    }
+
+    /**
+     * The annotation model of a build together with the classes used to
+     * create it, see {@link Builder#enableScanReuse(boolean)}.
+     */
+    private static final class ScanState {
+        final ScanDependencies dependencies;
+        final OpenAPI annotationModel;
+
+        ScanState(ScanDependencies dependencies, OpenAPI annotationModel) {
+            this.dependencies = dependencies;
+            this.annotationModel = annotationModel;
+        }
+    }
 }
@@ -11,7 +11,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
-import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -33,6 +32,7 @@ import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
 import io.smallrye.openapi.model.Extensions;
+import io.smallrye.openapi.model.PipelineFilter;
 import io.smallrye.openapi.model.ReferenceType;
 
 /**
@@ -40,7 +40,7 @@ import io.smallrye.openapi.model.ReferenceType;
  * any entries in `components` that are not referenced elsewhere in the
  * same model.
  */
-public class UnusedComponentFilter implements OASFilter {
+public class UnusedComponentFilter implements PipelineFilter {
 
     /**
      * Set of component types that should be filtered and removed if not
@@ -497,4 +497,9 @@ public class UnusedComponentFilter implements OASFilter {
         removeReference(ReferenceType.SCHEMA, schema.getUnevaluatedItems());
         removeReference(ReferenceType.SCHEMA, schema.getUnevaluatedProperties());
     }
+
+    @Override
+    public boolean isDocumentScoped() {
+        return true;
+    }
 }
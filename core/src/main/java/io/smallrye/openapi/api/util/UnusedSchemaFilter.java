@@ -3,11 +3,11 @@ package io.smallrye.openapi.api.util;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
+import io.smallrye.openapi.model.PipelineFilter;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -18,7 +18,7 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  * @deprecated use {@link UnusedComponentFilter} instead.
  */
 @Deprecated(since = "4.3.0")
-public class UnusedSchemaFilter implements OASFilter {
+public class UnusedSchemaFilter implements PipelineFilter {
 
     /**
      * Map of schemas present in {@code /components/schemas} with a list of the
@@ -118,4 +118,9 @@ public class UnusedSchemaFilter implements OASFilter {
             });
         }
     }
+
+    @Override
+    public boolean isDocumentScoped() {
+        return true;
+    }
 }
@@ -5,20 +5,20 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 import io.smallrye.openapi.model.Extensions;
+import io.smallrye.openapi.model.PipelineFilter;
 
 /**
  * An implementation of OASFilter that scans the OpenAPI model and removes
  * any tags from the top-level `tags` array that are not referenced by any
  * operation in the paths.
  */
-public class UnusedTagFilter implements OASFilter {
+public class UnusedTagFilter implements PipelineFilter {
 
     /**
      * Set of tag names that are referenced by at least one operation.
@@ -70,4 +70,9 @@ public class UnusedTagFilter implements OASFilter {
             openAPI.setTags(tagsToKeep);
         }
     }
+
+    @Override
+    public boolean isDocumentScoped() {
+        return true;
+    }
 }
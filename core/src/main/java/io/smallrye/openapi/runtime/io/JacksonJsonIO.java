@@ -1,7 +1,9 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -15,6 +17,9 @@ import java.util.Set;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.yaml.snakeyaml.LoaderOptions;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -279,6 +284,10 @@ class JacksonJsonIO implements JsonIO<JsonNode, ArrayNode, ObjectNode, ArrayNode
             return override.get();
         }
 
+        return toObject(value, propertyMapper);
+    }
+
+    private ObjectNode toObject(BaseModel<?> value, PropertyMapper<JsonNode, ObjectNode> propertyMapper) {
         ObjectNode object = createObject();
 
         for (var entry : value.getAllProperties().entrySet()) {
@@ -382,6 +391,184 @@ class JacksonJsonIO implements JsonIO<JsonNode, ArrayNode, ObjectNode, ArrayNode
         }
     }
 
+    @Override
+    public void write(Object value, PropertyMapper<JsonNode, ObjectNode> propertyMapper, Writer writer, Format format)
+            throws IOException {
+        try (JsonGenerator generator = writer(format).createGenerator(writer)) {
+            write(generator, value, propertyMapper);
+        }
+    }
+
+    @Override
+    public void write(Object value, PropertyMapper<JsonNode, ObjectNode> propertyMapper, OutputStream stream,
+            Format format) throws IOException {
+        try (JsonGenerator generator = writer(format).createGenerator(stream)) {
+            write(generator, value, propertyMapper);
+        }
+    }
+
+    private ObjectWriter writer(Format format) {
+        return (format == Format.JSON ? jsonWriter : yamlWriter).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Streaming equivalent of {@link #toJson(Object, JsonNode, PropertyMapper)},
+     * writing the value directly to the generator. Only the values returned by
+     * the property mapper and the model objects that the mapper
+     * {@linkplain PropertyMapper#modifiesObject(BaseModel) may modify} are
+     * materialized as JSON nodes.
+     */
+    private void write(JsonGenerator generator, Object value, PropertyMapper<JsonNode, ObjectNode> propertyMapper)
+            throws IOException {
+        if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object entry : (List<?>) value) {
+                write(generator, entry, propertyMapper);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                write(generator, entry.getValue(), propertyMapper);
+            }
+            generator.writeEndObject();
+        } else if (value instanceof BaseModel) {
+            writeMapped(generator, mapModel((BaseModel<?>) value, propertyMapper), propertyMapper);
+        } else {
+            // Scalar values are not mapped, the conversion to a node is cheap
+            write(generator, toJson(value, factory.nullNode(), propertyMapper));
+        }
+    }
+
+    /**
+     * Determine the value written for a model object, in the order used by
+     * {@link #toJson(BaseModel, PropertyMapper)}: a map of properties or a node
+     * given by the property mapper, a node when the mapper may modify the
+     * object's node, otherwise the model object itself to be written property
+     * by property.
+     */
+    private Object mapModel(BaseModel<?> value, PropertyMapper<JsonNode, ObjectNode> propertyMapper) {
+        Optional<Map<String, Object>> properties = propertyMapper.mapProperties(value);
+
+        if (properties.isPresent()) {
+            return properties.get();
+        }
+
+        Optional<JsonNode> override = propertyMapper.mapObject(value);
+
+        if (override.isPresent()) {
+            return override.get();
+        }
+
+        if (propertyMapper.modifiesObject(value)) {
+            return toObject(value, propertyMapper);
+        }
+
+        return value;
+    }
+
+    private void writeMapped(JsonGenerator generator, Object mapped, PropertyMapper<JsonNode, ObjectNode> propertyMapper)
+            throws IOException {
+        if (mapped instanceof JsonNode) {
+            write(generator, (JsonNode) mapped);
+        } else if (mapped instanceof BaseModel) {
+            writeModel(generator, (BaseModel<?>) mapped, propertyMapper);
+        } else {
+            write(generator, mapped, propertyMapper);
+        }
+    }
+
+    private void writeModel(JsonGenerator generator, BaseModel<?> value,
+            PropertyMapper<JsonNode, ObjectNode> propertyMapper) throws IOException {
+        generator.writeStartObject();
+
+        for (var entry : value.getAllProperties().entrySet()) {
+            String propertyName = String.valueOf(entry.getKey());
+            Object propertyValue = entry.getValue();
+            Optional<JsonNode> propertyOverride = propertyMapper.mapProperty(value, propertyName, propertyValue);
+            Object mapped;
+
+            if (propertyOverride.isPresent()) {
+                mapped = propertyOverride.get();
+            } else if (propertyValue instanceof BaseModel) {
+                mapped = mapModel((BaseModel<?>) propertyValue, propertyMapper);
+            } else if (propertyValue instanceof List || propertyValue instanceof Map) {
+                mapped = propertyValue;
+            } else {
+                mapped = toJson(propertyValue, factory.nullNode(), propertyMapper);
+            }
+
+            if (mapped instanceof JsonNode && ((JsonNode) mapped).isNull()) {
+                continue;
+            }
+
+            generator.writeFieldName(propertyName);
+            writeMapped(generator, mapped, propertyMapper);
+        }
+
+        generator.writeEndObject();
+    }
+
+    private static void write(JsonGenerator generator, JsonNode node) throws IOException {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                generator.writeStartObject();
+                for (Map.Entry<String, JsonNode> entry : node.properties()) {
+                    generator.writeFieldName(entry.getKey());
+                    write(generator, entry.getValue());
+                }
+                generator.writeEndObject();
+                break;
+            case ARRAY:
+                generator.writeStartArray();
+                for (JsonNode entry : node) {
+                    write(generator, entry);
+                }
+                generator.writeEndArray();
+                break;
+            case STRING:
+                generator.writeString(node.textValue());
+                break;
+            case BOOLEAN:
+                generator.writeBoolean(node.booleanValue());
+                break;
+            case NUMBER:
+                writeNumber(generator, node);
+                break;
+            case NULL:
+            case MISSING:
+                generator.writeNull();
+                break;
+            default:
+                generator.writeObject(node);
+                break;
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, JsonNode node) throws IOException {
+        switch (node.numberType()) {
+            case INT:
+                generator.writeNumber(node.intValue());
+                break;
+            case LONG:
+                generator.writeNumber(node.longValue());
+                break;
+            case BIG_INTEGER:
+                generator.writeNumber(node.bigIntegerValue());
+                break;
+            case FLOAT:
+                generator.writeNumber(node.floatValue());
+                break;
+            case DOUBLE:
+                generator.writeNumber(node.doubleValue());
+                break;
+            default:
+                generator.writeNumber(node.decimalValue());
+                break;
+        }
+    }
+
     @Override
     public JsonNode fromReader(Reader reader, Format format) {
         try {
@@ -395,6 +582,99 @@ class JacksonJsonIO implements JsonIO<JsonNode, ArrayNode, ObjectNode, ArrayNode
         }
     }
 
+    /**
+     * Open a token reader driven directly by the {@link JsonParser} of the
+     * format's mapper. Only the values {@linkplain TokenReader#readValue() read}
+     * by the caller are built as {@link JsonNode} trees, the remainder of the
+     * document is parsed token by token. The YAML parser is subject to the same
+     * code point limit and alias expansion as {@link #fromReader(Reader, Format)}.
+     */
+    @Override
+    public TokenReader<JsonNode> reader(Reader reader, Format format) {
+        try {
+            ObjectMapper mapper = format == Format.JSON ? jsonMapper : yamlMapper;
+            return new ParserTokenReader(mapper.createParser(reader), format);
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException("Failed to read " + format + " stream", e);
+        }
+    }
+
+    private static final class ParserTokenReader implements TokenReader<JsonNode> {
+        private final JsonParser parser;
+        private final Format format;
+        private boolean pending;
+
+        ParserTokenReader(JsonParser parser, Format format) throws IOException {
+            this.parser = parser;
+            this.format = format;
+            this.pending = parser.nextToken() != null;
+        }
+
+        @Override
+        public boolean isObject() {
+            return pending && parser.currentToken() == JsonToken.START_OBJECT;
+        }
+
+        @Override
+        public String nextName() {
+            try {
+                if (pending && !isObject()) {
+                    parser.skipChildren();
+                }
+
+                pending = false;
+
+                if (parser.nextToken() != JsonToken.FIELD_NAME) {
+                    return null;
+                }
+
+                String name = parser.currentName();
+                parser.nextToken();
+                pending = true;
+                return name;
+            } catch (IOException e) {
+                throw failure(e);
+            }
+        }
+
+        @Override
+        public JsonNode readValue() {
+            if (!pending) {
+                return null;
+            }
+
+            pending = false;
+
+            try {
+                return parser.readValueAsTree();
+            } catch (IOException e) {
+                throw failure(e);
+            }
+        }
+
+        @Override
+        public void skipValue() {
+            if (pending) {
+                pending = false;
+
+                try {
+                    parser.skipChildren();
+                } catch (IOException e) {
+                    throw failure(e);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+
+        private OpenApiRuntimeException failure(IOException e) {
+            return new OpenApiRuntimeException("Failed to read " + format + " stream", e);
+        }
+    }
+
     @Override
     public JsonNode nullValue() {
         return factory.nullNode();
@@ -1,11 +1,15 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -30,7 +34,55 @@ import io.smallrye.openapi.model.BaseModel;
  */
 public interface JsonIO<V, A extends V, O extends V, AB, OB> {
 
+    /**
+     * Forward-only cursor over the values of a JSON or YAML document. The
+     * cursor is positioned on a <em>current value</em>, initially the root of
+     * the document. A current value that is a JSON object may be entered with
+     * {@link #nextName()}; any other current value is consumed with
+     * {@link #readValue()} or {@link #skipValue()}.
+     *
+     * @param <V> JSON value type
+     */
+    interface TokenReader<V> extends Closeable {
+
+        /**
+         * Determine whether the current value is a JSON object that has not
+         * yet been entered, read, or skipped.
+         *
+         * @return true if the current value is an unconsumed JSON object
+         */
+        boolean isObject();
+
+        /**
+         * Advance to the next property of the innermost JSON object, entering
+         * the current value first when it is an {@linkplain #isObject()
+         * unconsumed object}. Once positioned on a property, its value becomes
+         * the current value. When the object has no further properties, the
+         * object is left and is itself consumed.
+         *
+         * @return the name of the next property, or {@code null} when the end
+         *         of the object has been reached
+         */
+        String nextName();
+
+        /**
+         * Read the complete current value, consuming it.
+         *
+         * @return the current value, or {@code null} if the document is empty
+         */
+        V readValue();
+
+        /**
+         * Consume the current value without reading it.
+         */
+        void skipValue();
+    }
+
     static PropertyMapper<?, ?> NOOP = new PropertyMapper<>() {
+        @Override
+        public boolean modifiesObject(BaseModel<?> object) {
+            return false;
+        }
     };
 
     public interface PropertyMapper<V, OB> {
@@ -53,12 +105,40 @@ public interface JsonIO<V, A extends V, O extends V, AB, OB> {
             return Optional.empty();
         }
 
+        /**
+         * Optionally give the properties to be converted in place of those of
+         * the object, as an equivalent of {@link #mapObject(BaseModel)} that does
+         * not require the entire object to be converted to a JSON value. Values
+         * of the map are JSON values, or model objects, lists and maps to be
+         * converted with this mapper. If no mapping should occur, implementations
+         * should return an empty Optional.
+         *
+         * @param object model object that may be mapped to a map of properties
+         * @return an optional map of property names to values
+         */
+        default Optional<Map<String, Object>> mapProperties(BaseModel<?> object) {
+            return Optional.empty();
+        }
+
         /**
          * Map any additional properties from the given model object to the nodeBuilder that
          * will be the resulting JSON value.
          */
         default void mapObject(BaseModel<?> object, OB nodeBuilder) {
         }
+
+        /**
+         * Whether {@link #mapObject(BaseModel, Object)} may inspect or modify the
+         * nodeBuilder of the given model object. When false, a streaming writer
+         * may write the properties of the object without first collecting them
+         * in a nodeBuilder.
+         *
+         * @param object model object being converted
+         * @return true if the nodeBuilder of the object may be inspected or modified
+         */
+        default boolean modifiesObject(BaseModel<?> object) {
+            return true;
+        }
     }
 
     public static <V, A extends V, O extends V, AB, OB> JsonIO<V, A, O, AB, OB> newInstance(OpenApiConfig config) {
@@ -484,6 +564,25 @@ public interface JsonIO<V, A extends V, O extends V, AB, OB> {
      */
     V fromReader(Reader reader, Format format) throws IOException;
 
+    /**
+     * Open a {@link TokenReader} over a JSON or YAML document read from a
+     * {@code Reader}. The token reader is positioned on the root value of the
+     * document.
+     * <p>
+     * Implementations may read the document incrementally, holding only the
+     * values that are {@linkplain TokenReader#readValue() read} by the caller.
+     * The default implementation reads the complete document using
+     * {@link #fromReader(Reader, Format)}.
+     *
+     * @param reader the reader to read the JSON or YAML document from
+     * @param format the format
+     * @return a token reader positioned on the root value of the document
+     * @throws IOException when reading the document fails
+     */
+    default TokenReader<V> reader(Reader reader, Format format) throws IOException {
+        return new TreeTokenReader<>(this, fromReader(reader, format));
+    }
+
     /**
      * Serialize a JSON value to a JSON or YAML string
      *
@@ -493,6 +592,45 @@ public interface JsonIO<V, A extends V, O extends V, AB, OB> {
      */
     String toString(V object, Format format);
 
+    /**
+     * Serialize a Java object to a JSON or YAML document written to a {@code Writer}.
+     * The result is the same as serializing the value returned by
+     * {@link #toJson(Object, Object, PropertyMapper)} using {@link #toString(Object, Format)}.
+     * <p>
+     * Implementations may write the document while visiting the object, without
+     * first converting the complete object to a JSON value. The default
+     * implementation converts the object to a JSON value and then writes its
+     * serialization. The writer is flushed but not closed.
+     *
+     * @param object the Java object, see {@link #toJson(Object, Object, PropertyMapper)} for the supported types
+     * @param propertyMapper mapper object to alter the default mapping of the object and its properties to JSON
+     * @param writer the writer to write the document to
+     * @param format the desired format
+     * @throws IOException when writing the document fails
+     */
+    default void write(Object object, PropertyMapper<V, OB> propertyMapper, Writer writer, Format format)
+            throws IOException {
+        writer.write(toString(toJson(object, nullValue(), propertyMapper), format));
+        writer.flush();
+    }
+
+    /**
+     * Serialize a Java object to a JSON or YAML document written to an
+     * {@code OutputStream} using UTF-8. See
+     * {@link #write(Object, PropertyMapper, Writer, Format)}. The stream is
+     * flushed but not closed.
+     *
+     * @param object the Java object
+     * @param propertyMapper mapper object to alter the default mapping of the object and its properties to JSON
+     * @param stream the stream to write the document to
+     * @param format the desired format
+     * @throws IOException when writing the document fails
+     */
+    default void write(Object object, PropertyMapper<V, OB> propertyMapper, OutputStream stream, Format format)
+            throws IOException {
+        write(object, propertyMapper, new OutputStreamWriter(stream, StandardCharsets.UTF_8), format);
+    }
+
     /**
      * Create a JSON array builder which can be used to build a JSON array.
      *
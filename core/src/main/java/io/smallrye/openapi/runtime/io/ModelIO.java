@@ -257,29 +257,107 @@ public abstract class ModelIO<T, V, A extends V, O extends V, AB, OB> implements
 
     @SuppressWarnings("unchecked")
     public <C extends Constructible> C readObject(Class<C> type, O node) {
-        var jsonIO = jsonIO();
         BaseModel<C> model = (BaseModel<C>) OASFactory.createObject(type);
+
+        for (Map.Entry<String, V> property : jsonIO().properties(node)) {
+            readProperty(type, model, property.getKey(), property.getValue());
+        }
+
+        return model.constructible();
+    }
+
+    /**
+     * Read a model object of the given type from the current value of the
+     * token reader, which must be a JSON object. Properties holding model
+     * objects (other than schemas), or maps of model objects, are read from the
+     * token reader one property at a time without first reading the complete
+     * JSON value. Any other property value is read completely and converted the
+     * same as by {@link #readObject(Class, Object)}.
+     *
+     * @param type the model type
+     * @param reader token reader positioned on a JSON object
+     * @return the model object
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Constructible> C readObject(Class<C> type, JsonIO.TokenReader<V> reader) {
+        BaseModel<C> model = (BaseModel<C>) OASFactory.createObject(type);
+
+        for (String name = reader.nextName(); name != null; name = reader.nextName()) {
+            readProperty(type, model, name, reader);
+        }
+
+        return model.constructible();
+    }
+
+    protected <C extends Constructible> void readProperty(Class<C> type, BaseModel<C> model, String name,
+            JsonIO.TokenReader<V> reader) {
         var modelProps = model.getPropertyMetadata();
+        DataType propertyType = modelProps.getPropertyType(name);
 
-        for (Map.Entry<String, V> property : jsonIO.properties(node)) {
-            String name = property.getKey();
-            V value = property.getValue();
+        if (reader.isObject() && isIncremental(propertyType)
+                && !ReferenceIO.REF.equals(name) && !ExtensionIO.isExtension(name)) {
+            OpenApiVersion minVersion = modelProps.getMinVersion(name);
+            if (context.openApiVersion().compareTo(minVersion) >= 0) {
+                model.setProperty(name, readJson(reader, propertyType));
+            } else {
+                reader.skipValue();
+            }
+        } else {
+            readProperty(type, model, name, reader.readValue());
+        }
+    }
 
-            if (value != null && !setProperty((T) model, name, value)) {
-                if (ReferenceIO.REF.equals(name) && Reference.class.isAssignableFrom(type)) {
-                    model.setRef(jsonIO.asString(value));
-                } else if (ExtensionIO.isExtension(name) && Extensible.class.isAssignableFrom(type)) {
-                    ((BaseExtensibleModel<?>) model).addExtension(name, jsonIO.fromJson(value));
-                } else {
-                    OpenApiVersion minVersion = modelProps.getMinVersion(name);
-                    if (context.openApiVersion().compareTo(minVersion) >= 0) {
-                        model.setProperty(name, readJson(value, modelProps.getPropertyType(name)));
-                    }
+    @SuppressWarnings("unchecked")
+    protected <C extends Constructible> void readProperty(Class<C> type, BaseModel<C> model, String name, V value) {
+        var jsonIO = jsonIO();
+
+        if (value != null && !setProperty((T) model, name, value)) {
+            if (ReferenceIO.REF.equals(name) && Reference.class.isAssignableFrom(type)) {
+                model.setRef(jsonIO.asString(value));
+            } else if (ExtensionIO.isExtension(name) && Extensible.class.isAssignableFrom(type)) {
+                ((BaseExtensibleModel<?>) model).addExtension(name, jsonIO.fromJson(value));
+            } else {
+                var modelProps = model.getPropertyMetadata();
+                OpenApiVersion minVersion = modelProps.getMinVersion(name);
+                if (context.openApiVersion().compareTo(minVersion) >= 0) {
+                    model.setProperty(name, readJson(value, modelProps.getPropertyType(name)));
                 }
             }
         }
+    }
 
-        return model.constructible();
+    /**
+     * Determine whether values of the given type may be read from a token
+     * reader incrementally: model objects other than schemas (which are read by
+     * {@link SchemaIO}), and maps of such objects.
+     */
+    private static boolean isIncremental(DataType type) {
+        if (type == null) {
+            return false;
+        }
+        if (type.type == DataType.Type.MAP) {
+            return isIncremental(type.content);
+        }
+        return type.type == DataType.Type.OBJECT
+                && type.clazz != Schema.class
+                && Constructible.class.isAssignableFrom(type.clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Object readJson(JsonIO.TokenReader<V> reader, DataType desiredType) {
+        if (!reader.isObject() || !isIncremental(desiredType)) {
+            return readJson(reader.readValue(), desiredType);
+        }
+
+        if (desiredType.type == DataType.Type.MAP) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (String name = reader.nextName(); name != null; name = reader.nextName()) {
+                result.put(name, readJson(reader, desiredType.content));
+            }
+            return result;
+        }
+
+        return readObject((Class<? extends Constructible>) desiredType.clazz, reader);
     }
 
     protected Object readJson(V node, DataType desiredType) {
@@ -400,6 +478,15 @@ public abstract class ModelIO<T, V, A extends V, O extends V, AB, OB> implements
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Map<String, Object>> mapProperties(BaseModel<?> object) {
+        if (object instanceof Schema) {
+            return schemaIO().writeProperties((Schema) object);
+        }
+
+        return Optional.empty();
+    }
+
     @Override
     public Optional<V> mapProperty(BaseModel<?> object, String propertyName, Object propertyValue) {
         if (object instanceof Reference) {
@@ -433,6 +520,11 @@ public abstract class ModelIO<T, V, A extends V, O extends V, AB, OB> implements
         }
     }
 
+    @Override
+    public boolean modifiesObject(BaseModel<?> object) {
+        return object instanceof RequestBody && ((Reference<?>) object).getRef() == null;
+    }
+
     public OpenApiVersion openApiVersion() {
         return context.openApiVersion();
     }
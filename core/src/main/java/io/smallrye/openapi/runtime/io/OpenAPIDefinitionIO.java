@@ -1,5 +1,10 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.microprofile.openapi.OASFactory;
@@ -7,6 +12,7 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.jboss.jandex.AnnotationInstance;
 
 import io.smallrye.openapi.api.SmallRyeOASConfig;
+import io.smallrye.openapi.model.BaseModel;
 import io.smallrye.openapi.model.OpenApiVersion;
 
 public class OpenAPIDefinitionIO<V, A extends V, O extends V, AB, OB> extends ModelIO<OpenAPI, V, A, O, AB, OB> {
@@ -58,6 +64,47 @@ public class OpenAPIDefinitionIO<V, A extends V, O extends V, AB, OB> extends Mo
         return readObject(OpenAPI.class, node);
     }
 
+    /**
+     * Reads an OpenAPI document from a token reader positioned on the root of
+     * the document. The document is read one property at a time, see
+     * {@link #readObject(Class, JsonIO.TokenReader)}. Any properties preceding
+     * the {@code openapi} version property are held until the version is known.
+     *
+     * @param reader token reader positioned on the root of the document
+     * @return the OpenAPI model, or null if the root of the document is not a JSON object
+     */
+    @SuppressWarnings("unchecked")
+    public OpenAPI readValue(JsonIO.TokenReader<V> reader) {
+        if (!reader.isObject()) {
+            return null;
+        }
+
+        BaseModel<OpenAPI> model = (BaseModel<OpenAPI>) OASFactory.createOpenAPI();
+        Map<String, V> preceding = new LinkedHashMap<>();
+        String name;
+
+        while ((name = reader.nextName()) != null && !PROP_OPENAPI.equals(name)) {
+            preceding.put(name, reader.readValue());
+        }
+
+        V version = name != null ? reader.readValue() : null;
+        setOpenApiVersion(OpenApiVersion.fromString(jsonIO().asString(version)));
+
+        for (Map.Entry<String, V> property : preceding.entrySet()) {
+            readProperty(OpenAPI.class, model, property.getKey(), property.getValue());
+        }
+
+        if (name != null) {
+            readProperty(OpenAPI.class, model, PROP_OPENAPI, version);
+
+            while ((name = reader.nextName()) != null) {
+                readProperty(OpenAPI.class, model, name, reader);
+            }
+        }
+
+        return model.constructible();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Optional<O> write(OpenAPI model) {
@@ -65,4 +112,33 @@ public class OpenAPIDefinitionIO<V, A extends V, O extends V, AB, OB> extends Mo
         setOpenApiVersion(OpenApiVersion.fromString(version));
         return (Optional<O>) jsonIO().toJson(model, this);
     }
+
+    /**
+     * Write the model as a JSON or YAML document to the stream, without first
+     * converting the complete model to a JSON value when supported by the
+     * {@link JsonIO} implementation. The stream is not closed.
+     *
+     * @param model the model to write
+     * @param stream the stream to write the document to, using UTF-8
+     * @param format the desired format
+     * @throws IOException when writing to the stream fails
+     */
+    public void write(OpenAPI model, OutputStream stream, Format format) throws IOException {
+        setOpenApiVersion(OpenApiVersion.fromString(model.getOpenapi()));
+        jsonIO().write(model, this, stream, format);
+    }
+
+    /**
+     * Write the model as a JSON or YAML document to the writer. See
+     * {@link #write(OpenAPI, OutputStream, Format)}.
+     *
+     * @param model the model to write
+     * @param writer the writer to write the document to
+     * @param format the desired format
+     * @throws IOException when writing fails
+     */
+    public void write(OpenAPI model, Writer writer, Format format) throws IOException {
+        setOpenApiVersion(OpenApiVersion.fromString(model.getOpenapi()));
+        jsonIO().write(model, this, writer, format);
+    }
 }
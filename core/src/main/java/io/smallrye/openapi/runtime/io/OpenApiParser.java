@@ -2,8 +2,12 @@ package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -76,8 +80,12 @@ public class OpenApiParser {
     private static <V, A extends V, O extends V, AB, OB> OpenAPI parse(InputStream stream, Format format,
             JsonIO<V, A, O, AB, OB> jsonIO) {
         IOContext<V, A, O, AB, OB> context = IOContext.forJson(jsonIO);
-        return new OpenAPIDefinitionIO<>(context).readValue(jsonIO.fromStream(stream, format));
-
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+                JsonIO.TokenReader<V> tokens = jsonIO.reader(reader, format)) {
+            return new OpenAPIDefinitionIO<>(context).readValue(tokens);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
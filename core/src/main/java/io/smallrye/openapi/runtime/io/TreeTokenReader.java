@@ -0,0 +1,80 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * {@link JsonIO.TokenReader} over a JSON value that has already been read
+ * completely. Used by {@link JsonIO} implementations that do not read
+ * documents incrementally.
+ *
+ * @param <V> JSON value type
+ * @param <O> JSON object type
+ */
+final class TreeTokenReader<V, O extends V> implements JsonIO.TokenReader<V> {
+
+    private final JsonIO<V, ?, O, ?, ?> jsonIO;
+    private final Deque<Iterator<Map.Entry<String, V>>> objects = new ArrayDeque<>();
+    private V current;
+    private boolean pending;
+
+    TreeTokenReader(JsonIO<V, ?, O, ?, ?> jsonIO, V root) {
+        this.jsonIO = jsonIO;
+        this.current = root;
+        this.pending = root != null;
+    }
+
+    @Override
+    public boolean isObject() {
+        return pending && jsonIO.isObject(current);
+    }
+
+    @Override
+    public String nextName() {
+        if (isObject()) {
+            objects.push(jsonIO.properties(jsonIO.asObject(current)).iterator());
+        }
+
+        current = null;
+        pending = false;
+
+        Iterator<Map.Entry<String, V>> properties = objects.peek();
+
+        if (properties == null) {
+            return null;
+        }
+
+        if (properties.hasNext()) {
+            Map.Entry<String, V> property = properties.next();
+            current = property.getValue();
+            pending = true;
+            return property.getKey();
+        }
+
+        objects.pop();
+        return null;
+    }
+
+    @Override
+    public V readValue() {
+        V value = pending ? current : null;
+        current = null;
+        pending = false;
+        return value;
+    }
+
+    @Override
+    public void skipValue() {
+        current = null;
+        pending = false;
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+        current = null;
+        pending = false;
+    }
+}
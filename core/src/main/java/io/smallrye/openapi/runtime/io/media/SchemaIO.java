@@ -14,6 +14,7 @@ import static io.smallrye.openapi.runtime.io.schema.SchemaConstant.PROP_TYPE;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,6 +27,7 @@ import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
 import org.jboss.jandex.AnnotationInstance;
 
 import io.smallrye.openapi.internal.models.media.SchemaSupport;
+import io.smallrye.openapi.model.BaseModel;
 import io.smallrye.openapi.model.DataType;
 import io.smallrye.openapi.model.Extensions;
 import io.smallrye.openapi.model.OpenApiVersion;
@@ -262,6 +264,41 @@ public class SchemaIO<V, A extends V, O extends V, AB, OB> extends MapModelIO<Sc
         return writeMap(model.getAll());
     }
 
+    /**
+     * The properties written for the schema by {@link #write(Schema)}, with
+     * nested schemas, model objects, lists and maps left to be converted by
+     * the caller, e.g. while streaming the document. Only available for
+     * OpenAPI 3.1 schemas that are not boolean schemas.
+     *
+     * @param model the schema
+     * @return map of property names to values, or empty when not available for the schema
+     */
+    public Optional<Map<String, Object>> writeProperties(Schema model) {
+        if (model == null || openApiVersion() != OpenApiVersion.V3_1 || model.getBooleanSchema() != null) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+
+        for (Map.Entry<String, ?> entry : model.getAll().entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (PROP_TYPE.equals(key)) {
+                // Flatten one-entry type lists
+                if (value instanceof List && ((List<?>) value).size() == 1) {
+                    value = ((List<?>) value).get(0);
+                }
+            }
+            if (value instanceof BaseModel || value instanceof List || value instanceof Map) {
+                properties.put(key, value);
+            } else {
+                jsonIO().toJson(value, this).ifPresent(v -> properties.put(key, v));
+            }
+        }
+
+        return Optional.of(properties);
+    }
+
     @SuppressWarnings("deprecation")
     public Optional<O> write30(Schema model) {
         return optionalJsonObject(model).map(node -> {
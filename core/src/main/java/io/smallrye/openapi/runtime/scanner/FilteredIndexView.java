@@ -1,8 +1,11 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -27,14 +30,31 @@ public class FilteredIndexView implements IndexView {
     private final IndexView delegate;
 
     private final Set<String> scanClasses;
-    private final Set<Pattern> scanClassesPatterns;
-    private final Set<String> scanPackages;
-    private final Set<Pattern> scanPackagesPatterns;
+    private final NameMatcher scanClassesMatcher;
+    private final NameMatcher scanPackagesMatcher;
     private final Set<String> scanExcludeClasses;
-    private final Set<Pattern> scanExcludeClassesPatterns;
-    private final Set<String> scanExcludePackages;
-    private final Set<Pattern> scanExcludePackagesPatterns;
-    private boolean anyIncludesConfigured;
+    private final NameMatcher scanExcludeClassesMatcher;
+    private final NameMatcher scanExcludePackagesMatcher;
+    private final boolean anyIncludesConfigured;
+
+    /**
+     * Decisions made for each class name (and separately its package) by the
+     * configuration. Lookups happen for every annotation instance and class
+     * returned by the index, while the number of distinct names is bounded by
+     * the size of the index.
+     */
+    private final Map<DotName, Decision> classDecisions = new ConcurrentHashMap<>();
+    private final Map<String, Decision> packageDecisions = new ConcurrentHashMap<>();
+
+    private enum Decision {
+        INCLUDE,
+        EXCLUDE,
+        /**
+         * Neither included nor excluded, may be included implicitly when no
+         * includes are configured.
+         */
+        NONE
+    }
 
     /**
      * Constructor.
@@ -46,20 +66,24 @@ public class FilteredIndexView implements IndexView {
         this.delegate = delegate;
 
         scanClasses = new HashSet<>();
-        scanClassesPatterns = new HashSet<>();
+        Set<Pattern> scanClassesPatterns = new HashSet<>();
         processConfigStrings(config.scanClasses(), scanClasses, scanClassesPatterns);
+        scanClassesMatcher = new NameMatcher(scanClasses, true, scanClassesPatterns);
 
-        scanPackages = new HashSet<>();
-        scanPackagesPatterns = new HashSet<>();
+        Set<String> scanPackages = new HashSet<>();
+        Set<Pattern> scanPackagesPatterns = new HashSet<>();
         processConfigStrings(config.scanPackages(), scanPackages, scanPackagesPatterns);
+        scanPackagesMatcher = new NameMatcher(scanPackages, false, scanPackagesPatterns);
 
         scanExcludeClasses = new HashSet<>();
-        scanExcludeClassesPatterns = new HashSet<>();
+        Set<Pattern> scanExcludeClassesPatterns = new HashSet<>();
         processConfigStrings(config.scanExcludeClasses(), scanExcludeClasses, scanExcludeClassesPatterns);
+        scanExcludeClassesMatcher = new NameMatcher(scanExcludeClasses, true, scanExcludeClassesPatterns);
 
-        scanExcludePackages = new HashSet<>();
-        scanExcludePackagesPatterns = new HashSet<>();
+        Set<String> scanExcludePackages = new HashSet<>();
+        Set<Pattern> scanExcludePackagesPatterns = new HashSet<>();
         processConfigStrings(config.scanExcludePackages(), scanExcludePackages, scanExcludePackagesPatterns);
+        scanExcludePackagesMatcher = new NameMatcher(scanExcludePackages, false, scanExcludePackagesPatterns);
 
         anyIncludesConfigured = !scanClasses.isEmpty() || !scanClassesPatterns.isEmpty() || !scanPackages.isEmpty()
                 || !scanPackagesPatterns.isEmpty();
@@ -106,147 +130,195 @@ public class FilteredIndexView implements IndexView {
      * @return true if the inclusion/exclusion configuration allows scanning of the class name
      */
     public boolean accepts(DotName className, boolean allowImpliedInclusion) {
+        switch (classDecisions.computeIfAbsent(className, this::decide)) {
+            case INCLUDE:
+                return true;
+            case EXCLUDE:
+                return false;
+            default:
+                return allowImpliedInclusion && !anyIncludesConfigured;
+        }
+    }
 
+    private Decision decide(DotName className) {
         String fqcn = className.toString();
-        String simpleName = className.withoutPackagePrefix();
+        int simpleNameLength = className.withoutPackagePrefix().length();
         int index = fqcn.lastIndexOf('.');
         String packageName = index > -1 ? fqcn.substring(0, index) : "";
 
         // Check for an exact class name match in the exclude list
         if (scanExcludeClasses.contains(fqcn)) {
-            return false;
+            return Decision.EXCLUDE;
         }
 
         // Check for an exact class name match in the include list
         if (scanClasses.contains(fqcn)) {
-            return true;
+            return Decision.INCLUDE;
         }
 
-        // Find the longest entry from the class exclude list which is a suffix of the fqcn and includes the full simple class name
-        String simpleNameExcludeMatch = longestSuffixMatch(fqcn, scanExcludeClasses);
-        if (!simpleNameExcludeMatch.endsWith(simpleName)) {
-            simpleNameExcludeMatch = "";
-        }
-        // Find the longest regex match from the class exclude list
-        simpleNameExcludeMatch = longest(simpleNameExcludeMatch, longestRegexMatch(fqcn, scanExcludeClassesPatterns));
+        // Find the longest entry or regex match from the class exclude list which is a suffix of the fqcn and includes the full simple class name
+        int simpleNameExcludeMatch = scanExcludeClassesMatcher.longestClassMatch(fqcn, simpleNameLength);
 
-        // Find the longest entry from the class include list which is a suffix of the fqcn and includes the full simple class name
-        String simpleNameIncludeMatch = longestSuffixMatch(fqcn, scanClasses);
-        if (!simpleNameIncludeMatch.endsWith(simpleName)) {
-            simpleNameIncludeMatch = "";
-        }
-        // Find the longest regex match from the class include list
-        simpleNameIncludeMatch = longest(simpleNameIncludeMatch, longestRegexMatch(fqcn, scanClassesPatterns));
+        // Find the longest entry or regex match from the class include list which is a suffix of the fqcn and includes the full simple class name
+        int simpleNameIncludeMatch = scanClassesMatcher.longestClassMatch(fqcn, simpleNameLength);
 
-        if (simpleNameExcludeMatch.length() > 0 && simpleNameExcludeMatch.length() >= simpleNameIncludeMatch.length()) {
+        if (simpleNameExcludeMatch > 0 && simpleNameExcludeMatch >= simpleNameIncludeMatch) {
             // There is an exclude match and it's more complete than any include match
-            return false;
+            return Decision.EXCLUDE;
         }
 
-        if (simpleNameIncludeMatch.length() > 0) {
+        if (simpleNameIncludeMatch > 0) {
             // There is an include match
-            return true;
+            return Decision.INCLUDE;
         }
 
+        return packageDecisions.computeIfAbsent(packageName, this::decidePackage);
+    }
+
+    private Decision decidePackage(String packageName) {
         // Find the longest string prefix match or regex match from the include package list
-        String packageIncludeMatch = longest(longestPrefixMatch(packageName, scanPackages),
-                longestRegexMatch(packageName, scanPackagesPatterns));
+        int packageIncludeMatch = scanPackagesMatcher.longestPackageMatch(packageName);
 
         // Find the longest string prefix match or regex match from the exclude package list
-        String packageExcludeMatch = longest(longestPrefixMatch(packageName, scanExcludePackages),
-                longestRegexMatch(packageName, scanExcludePackagesPatterns));
+        int packageExcludeMatch = scanExcludePackagesMatcher.longestPackageMatch(packageName);
 
-        if (packageExcludeMatch.length() > 0 && packageExcludeMatch.length() >= packageIncludeMatch.length()) {
+        if (packageExcludeMatch > 0 && packageExcludeMatch >= packageIncludeMatch) {
             // There is a package exclude match and it's more complete than any include match
-            return false;
+            return Decision.EXCLUDE;
         }
 
-        if (packageIncludeMatch.length() > 0) {
+        if (packageIncludeMatch > 0) {
             // There is a package include match
-            return true;
-        }
-
-        if (allowImpliedInclusion && !anyIncludesConfigured) {
-            return true;
+            return Decision.INCLUDE;
         }
 
-        return false;
+        return Decision.NONE;
     }
 
     /**
-     * Find the longest string from {@code prefixes} which is a prefix of {@code name}
-     *
-     * @param name the name
-     * @param prefixes a set of potential prefixes of {@code name}
-     * @return the longest element of {@code prefixes} which is a prefix of {@code name}, or the empty string if there are none
+     * Compiled form of the plain names and the patterns of one of the include
+     * or exclude settings. Plain names are held in a character trie, built from
+     * the reversed names for classes (matched as suffixes) and from the names
+     * as given for packages (matched as prefixes). Only the lengths of the
+     * matches are relevant when deciding between includes and excludes.
      */
-    private static String longestPrefixMatch(String name, Set<String> prefixes) {
-        String longestPrefix = "";
-        for (String prefix : prefixes) {
-            if (name.startsWith(prefix)) {
-                if (prefix.length() > longestPrefix.length()) {
-                    longestPrefix = prefix;
-                }
+    static final class NameMatcher {
+        private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:\\d|k<)");
+
+        private final Trie names;
+        private final boolean suffixes;
+        private final Pattern[] patterns;
+        /**
+         * Alternation of all patterns, used to skip the evaluation of the
+         * individual patterns for names not matching any of them.
+         */
+        private final Pattern anyPattern;
+
+        NameMatcher(Set<String> names, boolean suffixes, Set<Pattern> patterns) {
+            this.names = new Trie();
+            this.suffixes = suffixes;
+            this.patterns = patterns.toArray(new Pattern[0]);
+
+            for (String name : names) {
+                this.names.add(name, suffixes);
+            }
+
+            if (this.patterns.length > 1 && patterns.stream().noneMatch(NameMatcher::hasBackReference)) {
+                anyPattern = Pattern.compile(patterns.stream()
+                        .map(p -> "(?:" + p.pattern() + ")")
+                        .collect(Collectors.joining("|")));
+            } else {
+                anyPattern = null;
             }
         }
-        return longestPrefix;
-    }
 
-    /**
-     * Find the longest string from {@code suffixes} which is a suffix of {@code name}
-     *
-     * @param name the name
-     * @param suffixes a set of potential suffixes of {@code name}
-     * @return the longest element of {@code suffixes} which is a suffix of {@code name}, or the empty string if there are none
-     */
-    private static String longestSuffixMatch(String name, Set<String> suffixes) {
-        String longestSuffix = "";
-        for (String suffix : suffixes) {
-            if (name.endsWith(suffix)) {
-                if (suffix.length() > longestSuffix.length()) {
-                    longestSuffix = suffix;
-                }
+        private static boolean hasBackReference(Pattern pattern) {
+            // Group numbers are shifted when patterns are combined
+            return BACK_REFERENCE.matcher(pattern.pattern()).find();
+        }
+
+        /**
+         * Length of the longest suffix of the fqcn or regex match, where
+         * suffixes not containing the full simple class name are ignored.
+         */
+        int longestClassMatch(String fqcn, int simpleNameLength) {
+            int suffixMatch = names.longestMatch(fqcn, suffixes);
+
+            if (suffixMatch < simpleNameLength) {
+                suffixMatch = 0;
             }
+
+            return Math.max(suffixMatch, longestRegexMatch(fqcn));
         }
-        return longestSuffix;
-    }
 
-    /**
-     * Attempts to find each element of {@code patterns} in {@code name} and returns the longest match
-     *
-     * @param name the name to match against
-     * @param patterns the patterns to try
-     * @return the longest result returned by {@link Matcher#group()} after successfully finding a pattern in {@code name}, or
-     *         the empty string if no patterns matched
-     */
-    private static String longestRegexMatch(String name, Set<Pattern> patterns) {
-        String longestMatch = "";
-        for (Pattern pattern : patterns) {
-            Matcher m = pattern.matcher(name);
-            if (m.find()) {
-                String match = m.group();
-                if (match.length() > longestMatch.length()) {
-                    longestMatch = match;
+        /**
+         * Length of the longest prefix of the package name or regex match.
+         */
+        int longestPackageMatch(String packageName) {
+            return Math.max(names.longestMatch(packageName, suffixes), longestRegexMatch(packageName));
+        }
+
+        /**
+         * Attempts to find each pattern in {@code name} and returns the length of the longest match
+         *
+         * @param name the name to match against
+         * @return the longest result returned by {@link Matcher#group()} after successfully finding a pattern in
+         *         {@code name}, or zero if no patterns matched
+         */
+        private int longestRegexMatch(String name) {
+            if (patterns.length == 0 || (anyPattern != null && !anyPattern.matcher(name).find())) {
+                return 0;
+            }
+
+            int longestMatch = 0;
+            for (Pattern pattern : patterns) {
+                Matcher m = pattern.matcher(name);
+                if (m.find()) {
+                    longestMatch = Math.max(longestMatch, m.end() - m.start());
                 }
             }
+            return longestMatch;
         }
-        return longestMatch;
     }
 
     /**
-     * Returns the longest argument
-     *
-     * @param strings an array of strings
-     * @return the longest element of {@code strings}
+     * Character trie answering the length of the longest member that is a
+     * prefix (or suffix, when built and queried reversed) of a name.
      */
-    private static String longest(String... strings) {
-        String longest = "";
-        for (String string : strings) {
-            if (string.length() > longest.length()) {
-                longest = string;
+    static final class Trie {
+        private final Map<Character, Trie> children = new HashMap<>();
+        private boolean terminal;
+
+        void add(String value, boolean reversed) {
+            Trie node = this;
+            int length = value.length();
+
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(reversed ? length - 1 - i : i);
+                node = node.children.computeIfAbsent(c, k -> new Trie());
             }
+
+            node.terminal = true;
+        }
+
+        int longestMatch(String name, boolean reversed) {
+            Trie node = this;
+            int length = name.length();
+            int longest = 0;
+
+            for (int i = 0; i < length; i++) {
+                node = node.children.get(name.charAt(reversed ? length - 1 - i : i));
+
+                if (node == null) {
+                    break;
+                }
+                if (node.terminal) {
+                    longest = i + 1;
+                }
+            }
+
+            return longest;
         }
-        return longest;
     }
 
     /**
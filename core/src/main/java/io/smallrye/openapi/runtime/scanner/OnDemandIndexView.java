@@ -0,0 +1,261 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.ModuleInfo;
+
+/**
+ * An {@link IndexView} over an index of the application's own classes that
+ * indexes the classes of dependency jars on demand.
+ *
+ * <p>
+ * Only the names of the entries of each jar (its central directory) are read
+ * when the jar is {@linkplain #addJar(Path) added}, building a map from
+ * package to the jars containing classes of the package. A class that is not
+ * present in the application index is indexed from its jar the first time it
+ * is {@linkplain #getClassByName(DotName) looked up by name}, e.g. when the
+ * scanner resolves the type of a property or the supertypes of a class. The
+ * scan therefore only indexes the dependency classes reachable from the
+ * application's classes, instead of every class of every dependency.
+ *
+ * <p>
+ * All other queries (known classes, subclasses, implementations, annotations,
+ * users, packages and modules) are answered by the application index alone.
+ * Classes of dependencies that are only found by such queries, e.g. resource
+ * classes or annotated model classes packaged in a dependency, are not
+ * available to the scan.
+ *
+ * <p>
+ * Jars must be added before the view is used. Lookups may be made
+ * concurrently.
+ */
+public final class OnDemandIndexView implements IndexView, Closeable {
+
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String META_INF = "META-INF/";
+
+    private final IndexView index;
+    private final Map<String, List<Path>> packageJars = new HashMap<>();
+    private final Map<Path, JarFile> openJars = new ConcurrentHashMap<>();
+    private final Map<DotName, Optional<ClassInfo>> loadedClasses = new ConcurrentHashMap<>();
+
+    /**
+     * @param index index of the application's classes, consulted before the jars
+     */
+    public OnDemandIndexView(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * Make the classes of a jar available for on-demand indexing. When more
+     * than one jar contains a class, the class is indexed from the jar added
+     * first.
+     *
+     * @param jar path of the jar file
+     * @throws IOException when the entries of the jar can not be read
+     */
+    public void addJar(Path jar) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = file.entries();
+
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+
+                if (name.endsWith(CLASS_SUFFIX) && !name.startsWith(META_INF)) {
+                    List<Path> jars = packageJars.computeIfAbsent(packageOf(name), k -> new ArrayList<>(1));
+
+                    if (jars.isEmpty() || jars.get(jars.size() - 1) != jar) {
+                        jars.add(jar);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of dependency classes indexed on demand so far
+     */
+    public int getLoadedClassCount() {
+        return (int) loadedClasses.values().stream().filter(Optional::isPresent).count();
+    }
+
+    private static String packageOf(String resourceName) {
+        int lastSlash = resourceName.lastIndexOf('/');
+        return lastSlash < 0 ? "" : resourceName.substring(0, lastSlash);
+    }
+
+    private Optional<ClassInfo> load(DotName className) {
+        String resourceName = className.toString().replace('.', '/') + CLASS_SUFFIX;
+
+        for (Path jar : packageJars.getOrDefault(packageOf(resourceName), Collections.emptyList())) {
+            try {
+                JarFile file = openJars.computeIfAbsent(jar, OnDemandIndexView::open);
+                JarEntry entry = file.getJarEntry(resourceName);
+
+                if (entry != null) {
+                    try (InputStream stream = file.getInputStream(entry)) {
+                        return Optional.of(Index.singleClass(stream));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to index " + className + " from " + jar, e);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static JarFile open(Path jar) {
+        try {
+            return new JarFile(jar.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Close the jars opened to index classes on demand.
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+
+        for (JarFile file : openJars.values()) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        openJars.clear();
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownClasses() {
+        return index.getKnownClasses();
+    }
+
+    @Override
+    public ClassInfo getClassByName(DotName className) {
+        ClassInfo result = index.getClassByName(className);
+
+        if (result == null && className != null) {
+            result = loadedClasses.computeIfAbsent(className, this::load).orElse(null);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownDirectSubclasses(DotName className) {
+        return index.getKnownDirectSubclasses(className);
+    }
+
+    @Override
+    public Collection<ClassInfo> getAllKnownSubclasses(DotName className) {
+        return index.getAllKnownSubclasses(className);
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownDirectSubinterfaces(DotName interfaceName) {
+        return index.getKnownDirectSubinterfaces(interfaceName);
+    }
+
+    @Override
+    public Collection<ClassInfo> getAllKnownSubinterfaces(DotName interfaceName) {
+        return index.getAllKnownSubinterfaces(interfaceName);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Collection<ClassInfo> getKnownDirectImplementors(DotName className) {
+        return index.getKnownDirectImplementors(className);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Collection<ClassInfo> getAllKnownImplementors(DotName interfaceName) {
+        return index.getAllKnownImplementors(interfaceName);
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownDirectImplementations(DotName interfaceName) {
+        return index.getKnownDirectImplementations(interfaceName);
+    }
+
+    @Override
+    public Collection<ClassInfo> getAllKnownImplementations(DotName interfaceName) {
+        return index.getAllKnownImplementations(interfaceName);
+    }
+
+    @Override
+    public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+        return index.getAnnotations(annotationName);
+    }
+
+    @Override
+    public Collection<AnnotationInstance> getAnnotationsWithRepeatable(DotName annotationName, IndexView annotationIndex) {
+        return index.getAnnotationsWithRepeatable(annotationName, annotationIndex);
+    }
+
+    @Override
+    public Collection<AnnotationInstance> getAnnotationsWithRepeatable(DotName annotationName,
+            DotName containerAnnotationName) {
+        return index.getAnnotationsWithRepeatable(annotationName, containerAnnotationName);
+    }
+
+    @Override
+    public Collection<ModuleInfo> getKnownModules() {
+        return index.getKnownModules();
+    }
+
+    @Override
+    public ModuleInfo getModuleByName(DotName moduleName) {
+        return index.getModuleByName(moduleName);
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownUsers(DotName className) {
+        return index.getKnownUsers(className);
+    }
+
+    @Override
+    public Collection<ClassInfo> getClassesInPackage(DotName packageName) {
+        return index.getClassesInPackage(packageName);
+    }
+
+    @Override
+    public Set<DotName> getSubpackages(DotName packageName) {
+        return index.getSubpackages(packageName);
+    }
+}
@@ -257,6 +257,15 @@ public class OpenApiAnnotationScanner {
             ScannerLogging.logger.noAnnotationScannersFound();
         }
 
+        // Skip scanners for frameworks not used by the application
+        scanners.removeIf(scanner -> {
+            if (scanner.isApplicable(annotationScannerContext)) {
+                return false;
+            }
+            ScannerLogging.logger.skippingScanner(scanner.getName());
+            return true;
+        });
+
         return scanners;
     }
 
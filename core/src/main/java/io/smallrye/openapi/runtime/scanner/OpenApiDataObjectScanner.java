@@ -3,9 +3,6 @@ package io.smallrye.openapi.runtime.scanner;
 import static io.smallrye.openapi.api.constants.JaxbConstants.PROP_NAME;
 import static io.smallrye.openapi.api.constants.JaxbConstants.XML_ROOTELEMENT;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -19,9 +16,7 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
-import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
@@ -38,6 +33,7 @@ import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectDeque.PathEntry;
 import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.PrebuiltIndexes;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -106,29 +102,17 @@ public class OpenApiDataObjectScanner {
     private static List<ClassInfo> standinClasses;
 
     /*-
-     * Index the "standin" collection types for internal use. These are required to wrap
+     * Load the "standin" collection types for internal use. These are required to wrap
      * collections of application classes (indexed elsewhere).
      */
     static {
-        Indexer indexer = new Indexer();
-        index(indexer, "IterableStandin.class");
-        index(indexer, "MapStandin.class");
-        index(indexer, "StreamStandin.class");
-        Index index = indexer.complete();
+        IndexView index = PrebuiltIndexes.standins();
         iterableStandin = index.getClassByName(DotName.createSimple(IterableStandin.class.getName()));
         mapStandin = index.getClassByName(DotName.createSimple(MapStandin.class.getName()));
         streamStandin = index.getClassByName(DotName.createSimple(StreamStandin.class.getName()));
         standinClasses = Arrays.asList(iterableStandin, mapStandin, streamStandin);
     }
 
-    private static void index(Indexer indexer, String resourceName) {
-        try (InputStream stream = OpenApiDataObjectScanner.class.getResourceAsStream(resourceName)) {
-            indexer.index(stream);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
-    }
-
     private Schema rootSchema;
     private AnnotationTarget rootAnnotationTarget;
     private final Type rootClassType;
@@ -0,0 +1,307 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.lang.annotation.Repeatable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.ModuleInfo;
+
+/**
+ * Records the classes an annotation scan depends on, allowing a later build to
+ * determine whether a set of changed classes may alter the result of the scan.
+ *
+ * <p>
+ * The scan is given the {@linkplain #index() recording index} in place of the
+ * application index. Every class made available to the scanner through the
+ * index (looked up by name, found by a hierarchy or annotation query, or the
+ * declaring class of an annotation) is recorded, together with the queries
+ * that were made. A changed class affects the scan if it was made available to
+ * the scanner, or if it would be found by one of the recorded queries when run
+ * against the updated index (e.g. a new subclass, or a class that gained an
+ * annotation used by the scanner).
+ *
+ * <p>
+ * The recording is conservative. Classes excluded by the scan configuration
+ * are still considered and a scan that lists all known classes is affected by
+ * any change. The dependencies are those of the scan as a whole: a scan
+ * affected by a change is repeated completely.
+ */
+public final class ScanDependencies {
+
+    private static final DotName REPEATABLE = DotName.createSimple(Repeatable.class);
+
+    enum Query {
+        DIRECT_SUBCLASSES(IndexView::getKnownDirectSubclasses),
+        SUBCLASSES(IndexView::getAllKnownSubclasses),
+        DIRECT_SUBINTERFACES(IndexView::getKnownDirectSubinterfaces),
+        SUBINTERFACES(IndexView::getAllKnownSubinterfaces),
+        DIRECT_IMPLEMENTATIONS(IndexView::getKnownDirectImplementations),
+        IMPLEMENTATIONS(IndexView::getAllKnownImplementations),
+        USERS(IndexView::getKnownUsers),
+        ANNOTATIONS(null);
+
+        final BiFunction<IndexView, DotName, Collection<ClassInfo>> classes;
+
+        Query(BiFunction<IndexView, DotName, Collection<ClassInfo>> classes) {
+            this.classes = classes;
+        }
+    }
+
+    private final Recorder index;
+    private final Set<DotName> classes = ConcurrentHashMap.newKeySet();
+    private final Map<Query, Set<DotName>> queries = new ConcurrentHashMap<>();
+    private final Set<String> packages = ConcurrentHashMap.newKeySet();
+    private final Set<String> packagePrefixes = ConcurrentHashMap.newKeySet();
+    private volatile boolean allClasses;
+
+    private ScanDependencies(IndexView delegate) {
+        this.index = new Recorder(delegate);
+    }
+
+    /**
+     * Begin recording the dependencies of a scan of the given index.
+     *
+     * @param index the application index
+     * @return the dependencies, to be populated by scanning the {@linkplain #index() recording index}
+     */
+    public static ScanDependencies recording(IndexView index) {
+        return new ScanDependencies(index);
+    }
+
+    /**
+     * @return the index to be used by the scan, recording the classes and queries used
+     */
+    public IndexView index() {
+        return index;
+    }
+
+    /**
+     * Determine whether the result of the recorded scan may be affected by the
+     * changed classes.
+     *
+     * @param updatedIndex the application index after the classes changed
+     * @param changedClasses names of the classes added, modified or removed
+     * @return true if the scan must be repeated
+     */
+    public boolean isAffectedBy(IndexView updatedIndex, Collection<DotName> changedClasses) {
+        if (changedClasses.isEmpty()) {
+            return false;
+        }
+        if (allClasses) {
+            return true;
+        }
+
+        for (DotName name : changedClasses) {
+            if (classes.contains(name) || inRecordedPackage(name)) {
+                return true;
+            }
+        }
+
+        // Changed classes that the recorded queries now find, e.g. a new subclass or newly annotated class
+        for (Map.Entry<Query, Set<DotName>> entry : queries.entrySet()) {
+            Query query = entry.getKey();
+
+            for (DotName target : entry.getValue()) {
+                if (query == Query.ANNOTATIONS) {
+                    for (AnnotationInstance annotation : updatedIndex.getAnnotations(target)) {
+                        if (changedClasses.contains(declaringClass(annotation.target()))) {
+                            return true;
+                        }
+                    }
+                } else {
+                    for (ClassInfo found : query.classes.apply(updatedIndex, target)) {
+                        if (changedClasses.contains(found.name())) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean inRecordedPackage(DotName className) {
+        String packageName = className.packagePrefix();
+
+        if (packageName == null) {
+            packageName = "";
+        }
+        if (packages.contains(packageName)) {
+            return true;
+        }
+        for (String prefix : packagePrefixes) {
+            if (packageName.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    static DotName declaringClass(AnnotationTarget target) {
+        if (target == null) {
+            return null;
+        }
+
+        switch (target.kind()) {
+            case CLASS:
+                return target.asClass().name();
+            case FIELD:
+                return target.asField().declaringClass().name();
+            case METHOD:
+                return target.asMethod().declaringClass().name();
+            case METHOD_PARAMETER:
+                return target.asMethodParameter().method().declaringClass().name();
+            case RECORD_COMPONENT:
+                return target.asRecordComponent().declaringClass().name();
+            case TYPE:
+                return declaringClass(target.asType().enclosingTarget());
+            default:
+                return null;
+        }
+    }
+
+    private final class Recorder implements IndexView {
+        private final IndexView delegate;
+
+        Recorder(IndexView delegate) {
+            this.delegate = delegate;
+        }
+
+        private Collection<ClassInfo> query(Query query, DotName name, Collection<ClassInfo> result) {
+            queries.computeIfAbsent(query, k -> ConcurrentHashMap.newKeySet()).add(name);
+            for (ClassInfo clazz : result) {
+                classes.add(clazz.name());
+            }
+            return result;
+        }
+
+        private Collection<AnnotationInstance> annotations(Collection<AnnotationInstance> result, DotName... names) {
+            Set<DotName> annotationQueries = queries.computeIfAbsent(Query.ANNOTATIONS, k -> ConcurrentHashMap.newKeySet());
+            for (DotName name : names) {
+                annotationQueries.add(name);
+            }
+            for (AnnotationInstance annotation : result) {
+                DotName declaringClass = declaringClass(annotation.target());
+                if (declaringClass != null) {
+                    classes.add(declaringClass);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownClasses() {
+            allClasses = true;
+            return delegate.getKnownClasses();
+        }
+
+        @Override
+        public ClassInfo getClassByName(DotName className) {
+            classes.add(className);
+            return delegate.getClassByName(className);
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownDirectSubclasses(DotName className) {
+            return query(Query.DIRECT_SUBCLASSES, className, delegate.getKnownDirectSubclasses(className));
+        }
+
+        @Override
+        public Collection<ClassInfo> getAllKnownSubclasses(DotName className) {
+            return query(Query.SUBCLASSES, className, delegate.getAllKnownSubclasses(className));
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownDirectSubinterfaces(DotName interfaceName) {
+            return query(Query.DIRECT_SUBINTERFACES, interfaceName, delegate.getKnownDirectSubinterfaces(interfaceName));
+        }
+
+        @Override
+        public Collection<ClassInfo> getAllKnownSubinterfaces(DotName interfaceName) {
+            return query(Query.SUBINTERFACES, interfaceName, delegate.getAllKnownSubinterfaces(interfaceName));
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Collection<ClassInfo> getKnownDirectImplementors(DotName className) {
+            return query(Query.DIRECT_IMPLEMENTATIONS, className, delegate.getKnownDirectImplementors(className));
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Collection<ClassInfo> getAllKnownImplementors(DotName interfaceName) {
+            return query(Query.IMPLEMENTATIONS, interfaceName, delegate.getAllKnownImplementors(interfaceName));
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownDirectImplementations(DotName interfaceName) {
+            return query(Query.DIRECT_IMPLEMENTATIONS, interfaceName, delegate.getKnownDirectImplementations(interfaceName));
+        }
+
+        @Override
+        public Collection<ClassInfo> getAllKnownImplementations(DotName interfaceName) {
+            return query(Query.IMPLEMENTATIONS, interfaceName, delegate.getAllKnownImplementations(interfaceName));
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+            return annotations(delegate.getAnnotations(annotationName), annotationName);
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotationsWithRepeatable(DotName annotationName, IndexView annotationIndex) {
+            ClassInfo annotationClass = annotationIndex.getClassByName(annotationName);
+            AnnotationInstance repeatable = annotationClass != null ? annotationClass.declaredAnnotation(REPEATABLE) : null;
+            Collection<AnnotationInstance> result = delegate.getAnnotationsWithRepeatable(annotationName, annotationIndex);
+
+            if (repeatable != null) {
+                return annotations(result, annotationName, repeatable.value().asClass().name());
+            }
+            return annotations(result, annotationName);
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotationsWithRepeatable(DotName annotationName,
+                DotName containerAnnotationName) {
+            return annotations(delegate.getAnnotationsWithRepeatable(annotationName, containerAnnotationName),
+                    annotationName, containerAnnotationName);
+        }
+
+        @Override
+        public Collection<ModuleInfo> getKnownModules() {
+            return delegate.getKnownModules();
+        }
+
+        @Override
+        public ModuleInfo getModuleByName(DotName moduleName) {
+            return delegate.getModuleByName(moduleName);
+        }
+
+        @Override
+        public Collection<ClassInfo> getKnownUsers(DotName className) {
+            return query(Query.USERS, className, delegate.getKnownUsers(className));
+        }
+
+        @Override
+        public Collection<ClassInfo> getClassesInPackage(DotName packageName) {
+            packages.add(packageName.toString());
+            return delegate.getClassesInPackage(packageName);
+        }
+
+        @Override
+        public Set<DotName> getSubpackages(DotName packageName) {
+            packagePrefixes.add(packageName.toString() + '.');
+            return delegate.getSubpackages(packageName);
+        }
+    }
+}
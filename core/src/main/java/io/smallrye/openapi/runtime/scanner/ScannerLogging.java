@@ -49,4 +49,8 @@ interface ScannerLogging extends BasicLogger {
     @Message(id = 4007, value = "No AnnotationScanner implementations found, check class-path")
     void noAnnotationScannersFound();
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4008, value = "Skipping %s Annotations, none of the scanner's marker annotations were found.")
+    void skippingScanner(String annotationType);
+
 }
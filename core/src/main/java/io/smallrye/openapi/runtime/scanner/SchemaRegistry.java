@@ -2,7 +2,10 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static io.smallrye.openapi.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -13,6 +16,7 @@ import java.util.Set;
 import java.util.function.BiFunction;
 
 import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema;
@@ -27,7 +31,9 @@ import org.jboss.jandex.TypeVariable;
 import org.jboss.jandex.WildcardType;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.model.BaseModel;
 import io.smallrye.openapi.model.Extensions;
+import io.smallrye.openapi.model.ReferenceType;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
@@ -180,6 +186,22 @@ public class SchemaRegistry {
         }
     }
 
+    /**
+     * A change made to a forked registry, either the addition of an entry (with
+     * or without a schema) or the removal of an entry.
+     */
+    static class Registration {
+        final TypeKey key;
+        final GeneratedSchemaInfo info;
+        final boolean removal;
+
+        Registration(TypeKey key, GeneratedSchemaInfo info, boolean removal) {
+            this.key = key;
+            this.info = info;
+            this.removal = removal;
+        }
+    }
+
     private final AnnotationScannerContext context;
     private final OpenApiConfig config;
     private final OpenAPI oai;
@@ -192,12 +214,19 @@ public class SchemaRegistry {
 
     private final Map<TypeKey, GeneratedSchemaInfo> registry = new LinkedHashMap<>();
     private final Set<String> names = new LinkedHashSet<>();
+    /**
+     * Registrations made by a {@linkplain #fork(AnnotationScannerContext) forked}
+     * registry, in the order they were made. Always null for a registry that is
+     * not a fork.
+     */
+    private final List<Registration> registrations;
 
     public SchemaRegistry(AnnotationScannerContext context) {
         this.context = context;
         this.config = context.getConfig();
         this.oai = context.getOpenApi();
         this.index = context.getAugmentedIndex();
+        this.registrations = null;
 
         /*
          * If anything has been added in the component scan, add the names here
@@ -242,6 +271,128 @@ public class SchemaRegistry {
         });
     }
 
+    private SchemaRegistry(AnnotationScannerContext context, SchemaRegistry parent) {
+        this.context = context;
+        this.config = context.getConfig();
+        this.oai = context.getOpenApi();
+        this.index = context.getAugmentedIndex();
+        this.disabled = parent.disabled;
+        this.registry.putAll(parent.registry);
+        this.names.addAll(parent.names);
+        this.registrations = new ArrayList<>();
+    }
+
+    /**
+     * Create a registry for use by a forked scanner context. The new registry
+     * starts with all of the registrations present in this registry and records
+     * any registrations made subsequently so that they may later be applied to
+     * this registry using {@link #join(SchemaRegistry)}.
+     *
+     * @param context the forked context, providing the OpenAPI model to which
+     *        newly-registered schemas will be added
+     * @return a new registry
+     */
+    public SchemaRegistry fork(AnnotationScannerContext context) {
+        return new SchemaRegistry(context, this);
+    }
+
+    /**
+     * Apply the registrations made by a forked registry to this registry, in the
+     * order they were made by the fork. This yields the same registrations (and
+     * schema names) as if the fork's scan had been done directly against this
+     * registry. Changes to entries that were modified in this registry after the
+     * fork was created (e.g. by joining another fork) are skipped, with the
+     * exception that a schema from the fork replaces an entry in this registry
+     * that is only a reference.
+     *
+     * Schemas registered as a result of the join are added to this registry's
+     * OpenAPI model. Their references to other schemas are updated to the names
+     * assigned by this registry.
+     *
+     * @param fork a registry previously created by {@link #fork(AnnotationScannerContext)}
+     * @return map of schema names assigned by the fork to the names assigned by
+     *         this registry, only for those that differ
+     */
+    public Map<String, String> join(SchemaRegistry fork) {
+        Map<GeneratedSchemaInfo, GeneratedSchemaInfo> joined = new IdentityHashMap<>();
+        List<Schema> joinedSchemas = new ArrayList<>();
+
+        for (Registration registration : fork.registrations) {
+            TypeKey key = registration.key;
+            GeneratedSchemaInfo current = registry.get(key);
+
+            if (registration.removal) {
+                if (current != null && (current == registration.info || current == joined.get(registration.info))) {
+                    remove(key);
+                }
+                continue;
+            }
+
+            Schema schema = registration.info.schema;
+
+            if (current != null && current.schema == null && schema != null) {
+                // The fork completed a schema that is only a reference here
+                remove(key);
+                current = null;
+            }
+
+            if (current == null) {
+                if (schema == null) {
+                    registerReference(key);
+                } else {
+                    register(key, schema, null);
+                    joinedSchemas.add(schema);
+                }
+                joined.put(registration.info, registry.get(key));
+            }
+        }
+
+        Map<String, String> renames = new HashMap<>();
+
+        fork.registry.forEach((key, info) -> {
+            GeneratedSchemaInfo current = registry.get(key);
+
+            if (current != null && !current.name.equals(info.name)) {
+                renames.put(info.name, current.name);
+            }
+        });
+
+        if (!renames.isEmpty()) {
+            joinedSchemas.forEach(schema -> renameReferences(schema, renames));
+        }
+
+        return renames;
+    }
+
+    /**
+     * Update any schema references found in the model (or nested models) that
+     * refer to a schema named in the keys of {@code renames} to refer to the
+     * corresponding value instead.
+     *
+     * @param model model to update
+     * @param renames map of previous schema names to new schema names
+     */
+    public static void renameReferences(Object model, Map<String, String> renames) {
+        Map<String, String> refs = new HashMap<>(renames.size());
+        renames.forEach((from, to) -> refs.put(ReferenceType.SCHEMA.referenceOf(from), ReferenceType.SCHEMA.referenceOf(to)));
+
+        OASFilter filter = new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                String target = schema.getRef() != null ? refs.get(schema.getRef()) : null;
+
+                if (target != null) {
+                    schema.setRef(target);
+                }
+
+                return schema;
+            }
+        };
+
+        BaseModel<?> target = (BaseModel<?>) model;
+        target.filter(filter, new IdentityHashMap<>());
+    }
+
     private static TypeKey keyFor(Type type, Map<Type, Boolean> views) {
         if (TypeUtil.knownJavaType(type.name())) {
             // do not apply views for JDK types
@@ -278,8 +429,10 @@ public class SchemaRegistry {
     private Schema registerReference(TypeKey key) {
         String name = deriveName(key, null);
         Schema schemaRef = OASFactory.createSchema().ref(name);
-        registry.put(key, new GeneratedSchemaInfo(name, null, schemaRef));
+        GeneratedSchemaInfo info = new GeneratedSchemaInfo(name, null, schemaRef);
+        registry.put(key, info);
         names.add(name);
+        record(key, info, false);
 
         return OASFactory.createSchema().ref(schemaRef.getRef());
     }
@@ -303,14 +456,22 @@ public class SchemaRegistry {
     private Schema register(TypeKey key, Schema schema, String schemaName) {
         String name = deriveName(key, schemaName);
         Schema schemaRef = OASFactory.createSchema().ref(name);
-        registry.put(key, new GeneratedSchemaInfo(name, schema, schemaRef));
+        GeneratedSchemaInfo info = new GeneratedSchemaInfo(name, schema, schemaRef);
+        registry.put(key, info);
         names.add(name);
+        record(key, info, false);
 
         ModelUtil.components(oai).addSchema(name, schema);
 
         return OASFactory.createSchema().ref(schemaRef.getRef());
     }
 
+    private void record(TypeKey key, GeneratedSchemaInfo info, boolean removal) {
+        if (registrations != null) {
+            registrations.add(new Registration(key, info, removal));
+        }
+    }
+
     String deriveName(TypeKey key, String schemaName) {
         /*
          * We cannot use the 'name' on the SchemaImpl because it may be a
@@ -393,6 +554,7 @@ public class SchemaRegistry {
     private void remove(TypeKey key) {
         GeneratedSchemaInfo info = this.registry.remove(key);
         this.names.remove(info.name);
+        record(key, info, true);
     }
 
     /************************************************************************/
@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -20,6 +19,7 @@ import org.jboss.jandex.ModuleInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.runtime.io.Names;
+import io.smallrye.openapi.runtime.util.TypeHierarchy;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -31,6 +31,7 @@ import io.smallrye.openapi.runtime.util.TypeUtil;
 public class AugmentedIndexView implements IndexView {
 
     private final IndexView index;
+    private final TypeHierarchy hierarchy;
 
     public static AugmentedIndexView augment(IndexView index) {
         if (index instanceof AugmentedIndexView) {
@@ -49,6 +50,7 @@ public class AugmentedIndexView implements IndexView {
         }
 
         this.index = CompositeIndex.create(Objects.requireNonNull(index), indexedNames);
+        this.hierarchy = new TypeHierarchy(this.index::getClassByName);
     }
 
     public ClassInfo getClass(Type type) {
@@ -68,21 +70,11 @@ public class AugmentedIndexView implements IndexView {
      * implements.
      *
      * @param klass
-     * @return the <code>Set</code> of interfaces
+     * @return the unmodifiable <code>Set</code> of interfaces
      *
      */
     public Set<Type> interfaces(ClassInfo klass) {
-        Set<Type> interfaces = new LinkedHashSet<>();
-
-        for (Type type : klass.interfaceTypes()) {
-            interfaces.add(type);
-
-            if (containsClass(type)) {
-                interfaces.addAll(interfaces(getClass(type)));
-            }
-        }
-
-        return interfaces;
+        return hierarchy.interfaces(klass);
     }
 
     /**
@@ -95,11 +87,12 @@ public class AugmentedIndexView implements IndexView {
      */
     public Map<ClassInfo, Type> inheritanceChain(ClassInfo klazz, Type type) {
         Map<ClassInfo, Type> chain = new LinkedHashMap<>();
+        chain.put(klazz, type);
 
-        do {
-            chain.put(klazz, type);
-        } while ((type = klazz.superClassType()) != null &&
-                (klazz = index.getClassByName(TypeUtil.getName(type))) != null);
+        for (ClassInfo superKlazz : hierarchy.superClasses(klazz)) {
+            chain.put(superKlazz, klazz.superClassType());
+            klazz = superKlazz;
+        }
 
         return chain;
     }
@@ -3,10 +3,10 @@ package io.smallrye.openapi.runtime.scanner.dataobject;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.jboss.jandex.AnnotationInstance;
@@ -303,7 +303,7 @@ public class IgnoreResolver {
      * Handler for <code>com.fasterxml.jackson.annotation.JsonIgnoreType</code>
      */
     private final class JsonIgnoreTypeHandler implements IgnoreAnnotationHandler {
-        private final Set<DotName> ignoredTypes = new LinkedHashSet<>();
+        private final Set<DotName> ignoredTypes = ConcurrentHashMap.newKeySet();
 
         @Override
         public Visibility visibility(AnnotationTarget target, AnnotationTarget reference) {
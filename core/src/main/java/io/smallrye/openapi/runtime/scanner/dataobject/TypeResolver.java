@@ -65,7 +65,7 @@ public class TypeResolver {
         return value;
     });
 
-    private final AnnotationScannerContext context;
+    private final Annotations annotations;
     private final UnaryOperator<String> nameTranslator;
     private final Deque<Map<String, Type>> resolutionStack;
     private final String propertyName;
@@ -98,28 +98,28 @@ public class TypeResolver {
      * </ol>
      *
      */
-    private static Function<AnnotationScannerContext, Comparator<AnnotationTarget>> comparatorFactory = ctxt -> (t1, t2) -> {
+    private static Function<Annotations, Comparator<AnnotationTarget>> comparatorFactory = annotations -> (t1, t2) -> {
         int result;
 
         // Annotated elements sort to the top of the priority queue
-        if ((result = compareAnnotation(ctxt, t1, t2, SchemaConstant.DOTNAME_SCHEMA)) != 0) {
+        if ((result = compareAnnotation(annotations, t1, t2, SchemaConstant.DOTNAME_SCHEMA)) != 0) {
             return result;
         }
         for (DotName jsonbProperty : JsonbConstants.JSONB_PROPERTY) {
-            if ((result = compareAnnotation(ctxt, t1, t2, jsonbProperty)) != 0) {
+            if ((result = compareAnnotation(annotations, t1, t2, jsonbProperty)) != 0) {
                 return result;
             }
         }
-        if ((result = compareAnnotation(ctxt, t1, t2, JacksonConstants.JSON_PROPERTY)) != 0) {
+        if ((result = compareAnnotation(annotations, t1, t2, JacksonConstants.JSON_PROPERTY)) != 0) {
             return result;
         }
         for (DotName xmlElement : JaxbConstants.XML_ELEMENT) {
-            if ((result = compareAnnotation(ctxt, t1, t2, xmlElement)) != 0) {
+            if ((result = compareAnnotation(annotations, t1, t2, xmlElement)) != 0) {
                 return result;
             }
         }
         for (DotName xmlAttribute : JaxbConstants.XML_ATTRIBUTE) {
-            if ((result = compareAnnotation(ctxt, t1, t2, xmlAttribute)) != 0) {
+            if ((result = compareAnnotation(annotations, t1, t2, xmlAttribute)) != 0) {
                 return result;
             }
         }
@@ -129,7 +129,7 @@ public class TypeResolver {
         if (t2.kind() == Kind.FIELD) {
             return +1;
         }
-        if (isAccessor(ctxt, t1.asMethod()) && !isAccessor(ctxt, t2.asMethod())) {
+        if (isAccessor(annotations, t1.asMethod()) && !isAccessor(annotations, t2.asMethod())) {
             return -1;
         }
 
@@ -143,10 +143,10 @@ public class TypeResolver {
      */
     private final Queue<AnnotationTarget> targets;
 
-    private static int compareAnnotation(AnnotationScannerContext context, AnnotationTarget t1, AnnotationTarget t2,
+    private static int compareAnnotation(Annotations annotations, AnnotationTarget t1, AnnotationTarget t2,
             DotName annotationName) {
-        boolean hasAnno1 = context.annotations().hasAnnotation(t1, annotationName);
-        boolean hasAnno2 = context.annotations().hasAnnotation(t2, annotationName);
+        boolean hasAnno1 = annotations.hasAnnotation(t1, annotationName);
+        boolean hasAnno2 = annotations.hasAnnotation(t2, annotationName);
 
         // Element with @Schema is top priority
         if (hasAnno1) {
@@ -172,12 +172,12 @@ public class TypeResolver {
     private TypeResolver(AnnotationScannerContext context, UnaryOperator<String> nameTranslator, String propertyName,
             FieldInfo field,
             Deque<Map<String, Type>> resolutionStack) {
-        this.context = context;
+        this.annotations = context.annotations();
         this.nameTranslator = nameTranslator;
         this.propertyName = propertyName;
         this.field = field;
         this.resolutionStack = resolutionStack;
-        this.targetComparator = comparatorFactory.apply(context);
+        this.targetComparator = comparatorFactory.apply(annotations);
         targets = new PriorityQueue<>(targetComparator);
 
         if (field != null) {
@@ -245,25 +245,25 @@ public class TypeResolver {
         AnnotationTarget target = getAnnotationTarget();
         String name;
 
-        if ((name = context.annotations().getAnnotationValue(target,
+        if ((name = annotations.getAnnotationValue(target,
                 SchemaConstant.DOTNAME_SCHEMA,
                 SchemaConstant.PROP_NAME)) != null) {
             return wrap(name);
         }
 
-        if ((name = context.annotations().getAnnotationValue(target,
+        if ((name = annotations.getAnnotationValue(target,
                 JsonbConstants.JSONB_PROPERTY,
                 JsonbConstants.PROP_VALUE)) != null) {
             return wrap(name);
         }
 
-        if ((name = context.annotations().getAnnotationValue(target,
+        if ((name = annotations.getAnnotationValue(target,
                 JacksonConstants.JSON_PROPERTY,
                 JacksonConstants.PROP_VALUE)) != null) {
             return wrap(name);
         }
 
-        if ((name = context.annotations().getAnnotationValue(target,
+        if ((name = annotations.getAnnotationValue(target,
                 KotlinSerializationConstants.SERIAL_NAME,
                 KotlinSerializationConstants.PROP_VALUE)) != null) {
             return wrap(name);
@@ -382,9 +382,9 @@ public class TypeResolver {
     }
 
     private boolean isFieldExplicitlyVisible() {
-        return field != null && (context.annotations().getAnnotation(field, JacksonConstants.JSON_VIEW) != null
+        return field != null && (annotations.getAnnotation(field, JacksonConstants.JSON_VIEW) != null
                 || isUnhidden(field)
-                || context.annotations().getAnnotation(field, JacksonConstants.JSON_PROPERTY) != null);
+                || annotations.getAnnotation(field, JacksonConstants.JSON_PROPERTY) != null);
     }
 
     public boolean isReadOnly() {
@@ -549,8 +549,36 @@ public class TypeResolver {
         return new TypeResolver(context, getPropertyNameTranslator(context, clazz), null, null, stack);
     }
 
+    /**
+     * Retrieve the properties of a class, including those inherited, with the
+     * visibility applicable to the given reference and the JSON views
+     * currently active. The result is retained by the context and returned
+     * by later calls for the same type, reference visibility and views. The
+     * resolvers do not retain the context, only the annotations of the scan,
+     * so the result may be used with any context of the scan.
+     *
+     * @param context current scanner context
+     * @param leaf the type of leafKlazz where referenced
+     * @param leafKlazz the class
+     * @param reference an annotated member (field or method) that referenced the type of leafKlazz, may be null
+     * @return unmodifiable map of property names to resolvers
+     */
     public static Map<String, TypeResolver> getAllFields(AnnotationScannerContext context, Type leaf,
             ClassInfo leafKlazz, AnnotationTarget reference) {
+        Map<Object, Map<String, TypeResolver>> cache = context.getResolvedProperties();
+        PropertiesKey key = new PropertiesKey(context, leaf, leafKlazz, reference);
+        Map<String, TypeResolver> properties = cache.get(key);
+
+        if (properties == null) {
+            properties = Collections.unmodifiableMap(resolveAllFields(context, leaf, leafKlazz, reference));
+            cache.putIfAbsent(key, properties);
+        }
+
+        return properties;
+    }
+
+    private static Map<String, TypeResolver> resolveAllFields(AnnotationScannerContext context, Type leaf,
+            ClassInfo leafKlazz, AnnotationTarget reference) {
         final AugmentedIndexView index = context.getAugmentedIndex();
         Map<ClassInfo, Type> chain = index.inheritanceChain(leafKlazz, leaf);
         Map<String, TypeResolver> properties = new LinkedHashMap<>();
@@ -589,6 +617,46 @@ public class TypeResolver {
         return sorted(context, properties, chain.keySet());
     }
 
+    /**
+     * Key of the properties resolved by {@link TypeResolver#getAllFields}. The
+     * reference is only significant when it configures the visibility of the
+     * properties, e.g. with {@code @JsonIgnoreProperties}.
+     */
+    private static final class PropertiesKey {
+        private final Type leaf;
+        private final DotName leafName;
+        private final AnnotationTarget reference;
+        private final Set<Type> views;
+
+        PropertiesKey(AnnotationScannerContext context, Type leaf, ClassInfo leafKlazz, AnnotationTarget reference) {
+            this.leaf = leaf;
+            this.leafName = leafKlazz.name();
+            this.reference = IgnoreResolver.configuresVisibility(context, reference) ? reference : null;
+            Map<Type, Boolean> activeViews = context.getJsonViews();
+            this.views = activeViews.isEmpty() ? Collections.emptySet() : new HashSet<>(activeViews.keySet());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PropertiesKey)) {
+                return false;
+            }
+            PropertiesKey other = (PropertiesKey) obj;
+            return leaf.equals(other.leaf)
+                    && leafName.equals(other.leafName)
+                    && Objects.equals(reference, other.reference)
+                    && views.equals(other.views);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(leaf, leafName, reference, views);
+        }
+    }
+
     private static void maybeAddResolutionParams(Deque<Map<String, Type>> stack, Type type, ClassInfo clazz) {
         if (type.kind() == Type.Kind.PARAMETERIZED_TYPE && clazz != null) {
             stack.push(buildParamTypeResolutionMap(clazz, type));
@@ -702,7 +770,7 @@ public class TypeResolver {
                 break;
             case IGNORED:
                 if (target.kind() == Kind.METHOD) {
-                    if (isAccessor(context, target.asMethod())) {
+                    if (isAccessor(context.annotations(), target.asMethod())) {
                         this.writeOnly = true;
                         this.ignoredReadMethod = target.asMethod();
                     } else {
@@ -727,7 +795,7 @@ public class TypeResolver {
             return;
         }
 
-        switch (context.annotations().getAnnotationValue(target,
+        switch (annotations.getAnnotationValue(target,
                 Collections.singletonList(JacksonConstants.JSON_PROPERTY),
                 JacksonConstants.PROP_ACCESS,
                 JacksonConstants.PROP_ACCESS_AUTO)) {
@@ -838,7 +906,6 @@ public class TypeResolver {
      */
     boolean isUnhidden(AnnotationTarget target) {
         if (target != null) {
-            Annotations annotations = context.annotations();
             AnnotationInstance schema = annotations.getAnnotation(target, SchemaConstant.DOTNAME_SCHEMA);
 
             if (schema != null) {
@@ -921,7 +988,8 @@ public class TypeResolver {
             Type memberType,
             ClassInfo memberClass) {
 
-        Map<String, TypeResolver> unwrappedProperties = getAllFields(context, memberType, memberClass, member);
+        // Not shared, the unwrapped resolvers are modified and merged with the properties of the enclosing class
+        Map<String, TypeResolver> unwrappedProperties = resolveAllFields(context, memberType, memberClass, member);
         AnnotationInstance jsonUnwrapped = context.annotations().getAnnotation(member, JacksonConstants.JSON_UNWRAPPED);
         String unwrapPrefix = context.annotations().value(jsonUnwrapped, "prefix");
         String unwrapSuffix = context.annotations().value(jsonUnwrapped, "suffix");
@@ -970,9 +1038,9 @@ public class TypeResolver {
         Type returnType = resolveType(method.returnType(), stack);
         Type propertyType = null;
 
-        if (isAccessor(context, method)) {
+        if (isAccessor(context.annotations(), method)) {
             propertyType = returnType;
-        } else if (isMutator(context, method)) {
+        } else if (isMutator(context.annotations(), method)) {
             propertyType = method.parameterType(0);
         }
 
@@ -1025,7 +1093,7 @@ public class TypeResolver {
             properties.put(propertyName, resolver);
         }
 
-        final boolean isWriteMethod = isMutator(context, method);
+        final boolean isWriteMethod = isMutator(context.annotations(), method);
 
         if (isWriteMethod) {
             if (isHigherPriority(resolver.targetComparator, method, resolver.getWriteMethod())) {
@@ -1116,7 +1184,7 @@ public class TypeResolver {
      * @param method the method to check
      * @return true if the method is a Java bean getter, otherwise false
      */
-    private static boolean isAccessor(AnnotationScannerContext context, MethodInfo method) {
+    private static boolean isAccessor(Annotations annotations, MethodInfo method) {
         if (!JandexUtil.isSupplier(method)) {
             return false;
         }
@@ -1136,7 +1204,7 @@ public class TypeResolver {
             return true;
         }
 
-        return isAnnotatedProperty(context, method);
+        return isAnnotatedProperty(annotations, method);
     }
 
     /**
@@ -1147,12 +1215,12 @@ public class TypeResolver {
      * @param method the method to check
      * @return true if the method is a Java bean setter or annotated property, otherwise false
      */
-    private static boolean isMutator(AnnotationScannerContext context, MethodInfo method) {
+    private static boolean isMutator(Annotations annotations, MethodInfo method) {
         if (method.parametersCount() != 1) {
             return false;
         }
 
-        if (isAnnotatedProperty(context, method)) {
+        if (isAnnotatedProperty(annotations, method)) {
             return true;
         }
 
@@ -1160,8 +1228,8 @@ public class TypeResolver {
                 && METHOD_PREFIX_SET.equals(methodNamePrefix(method));
     }
 
-    static boolean isAnnotatedProperty(AnnotationScannerContext context, MethodInfo method) {
-        return context.annotations().hasAnnotation(method, PROPERTY_METHOD_ANNOTATIONS);
+    static boolean isAnnotatedProperty(Annotations annotations, MethodInfo method) {
+        return annotations.hasAnnotation(method, PROPERTY_METHOD_ANNOTATIONS);
     }
 
     private static String methodNamePrefix(MethodInfo method) {
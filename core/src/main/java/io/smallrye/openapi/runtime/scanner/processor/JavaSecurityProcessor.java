@@ -173,8 +173,28 @@ public class JavaSecurityProcessor {
      * @param oai the current OpenAPI result
      */
     private void checkSecurityScheme(OpenAPI openApi) {
+        Map.Entry<String, SecurityScheme> scheme = findRolesScheme(openApi);
+
+        if (scheme != null) {
+            saveSecurityScheme(scheme.getKey(), scheme.getValue());
+        }
+    }
+
+    /**
+     * Determine whether roles discovered during scanning may be applied to a
+     * security scheme of the given model, i.e. whether it declares a single
+     * OAuth2 or OpenId Connect security scheme.
+     *
+     * @param openApi the current OpenAPI result
+     * @return true if a scheme is present that may receive roles, otherwise false
+     */
+    public static boolean hasRolesScheme(OpenAPI openApi) {
+        return findRolesScheme(openApi) != null;
+    }
+
+    private static Map.Entry<String, SecurityScheme> findRolesScheme(OpenAPI openApi) {
         if (openApi.getComponents() == null) {
-            return;
+            return null;
         }
 
         Map<String, SecurityScheme> schemes = openApi.getComponents().getSecuritySchemes();
@@ -183,17 +203,12 @@ public class JavaSecurityProcessor {
             Map.Entry<String, SecurityScheme> scheme = schemes.entrySet().iterator().next();
             SecurityScheme.Type schemeType = scheme.getValue().getType();
 
-            if (schemeType != null) {
-                switch (schemeType) {
-                    case OAUTH2:
-                    case OPENIDCONNECT:
-                        saveSecurityScheme(scheme.getKey(), scheme.getValue());
-                        break;
-                    default:
-                        break;
-                }
+            if (schemeType == SecurityScheme.Type.OAUTH2 || schemeType == SecurityScheme.Type.OPENIDCONNECT) {
+                return scheme;
             }
         }
+
+        return null;
     }
 
     /**
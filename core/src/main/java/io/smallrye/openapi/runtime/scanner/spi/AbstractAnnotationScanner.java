@@ -65,6 +65,19 @@ public abstract class AbstractAnnotationScanner implements AnnotationScanner {
         this.contextRoot = path;
     }
 
+    /**
+     * Initialize this scanner with the state of another scanner of the same
+     * kind, for use with a different (typically forked) context.
+     *
+     * @param source the scanner to copy
+     * @param context the context to be used by this scanner
+     */
+    protected void copyOf(AbstractAnnotationScanner source, AnnotationScannerContext context) {
+        this.context = context;
+        this.currentAppPath = source.currentAppPath;
+        this.contextRoot = source.contextRoot;
+    }
+
     protected List<String> makePaths(List<String> operationPaths) {
         return operationPaths.stream()
                 .map(operationPath -> createPathFromSegments(this.contextRoot, this.currentAppPath, operationPath))
@@ -35,12 +35,12 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 import org.jboss.jandex.Type.Kind;
 
-import io.smallrye.openapi.api.OpenApiConfig.DuplicateOperationIdBehavior;
 import io.smallrye.openapi.api.OperationIdGenerator;
 import io.smallrye.openapi.api.SmallRyeOASConfig;
 import io.smallrye.openapi.api.constants.JacksonConstants;
@@ -70,6 +70,42 @@ public interface AnnotationScanner {
 
     public String getName();
 
+    /**
+     * Annotations that indicate an application uses the framework supported
+     * by this scanner, e.g. {@code @Path} for JAX-RS. A scanner without
+     * marker annotations is always used.
+     *
+     * @return the marker annotations of this scanner, possibly empty
+     */
+    default Collection<DotName> getMarkerAnnotations() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Determine whether this scanner has anything to scan in the context's
+     * index. Scanners that are not applicable are skipped entirely. The
+     * default implementation checks the index for any of the
+     * {@linkplain #getMarkerAnnotations() marker annotations}.
+     *
+     * @param context the scanning context
+     * @return true if the scanner should be used, otherwise false
+     */
+    default boolean isApplicable(final AnnotationScannerContext context) {
+        Collection<DotName> markers = getMarkerAnnotations();
+        return markers.isEmpty() || hasAnnotations(context.getIndex(), markers);
+    }
+
+    /**
+     * Determine whether the index contains any use of the given annotations.
+     *
+     * @param index the index to search
+     * @param annotations annotation names
+     * @return true if at least one of the annotations is present, otherwise false
+     */
+    static boolean hasAnnotations(IndexView index, Collection<DotName> annotations) {
+        return annotations.stream().anyMatch(annotation -> !index.getAnnotations(annotation).isEmpty());
+    }
+
     // Scan using this scanner
     public OpenAPI scan(final AnnotationScannerContext annotationScannerContext, OpenAPI oai);
 
@@ -324,27 +360,7 @@ public interface AnnotationScanner {
 
     private void saveOperationId(AnnotationScannerContext context, ClassInfo resourceClass, MethodInfo method,
             String operationId) {
-        final MethodInfo conflictingMethod = context.getOperationIdMap().putIfAbsent(operationId, method);
-
-        if (conflictingMethod != null) {
-            if (context.getAugmentedIndex().ancestry(method).values().contains(conflictingMethod)) {
-                // The conflict was a method from a parent class, replace it
-                context.getOperationIdMap().put(operationId, method);
-            } else {
-                final ClassInfo conflictingClass = conflictingMethod.declaringClass();
-                final String className = resourceClass.name().toString();
-                final String methodName = method.toString();
-                final String conflictingClassName = conflictingClass.name().toString();
-                final String conflictingMethodName = conflictingMethod.toString();
-                if (context.getConfig().getDuplicateOperationIdBehavior() == DuplicateOperationIdBehavior.WARN) {
-                    ScannerSPILogging.log.duplicateOperationId(operationId, className, methodName,
-                            conflictingClassName, conflictingMethodName);
-                } else {
-                    throw ScannerSPIMessages.msg.duplicateOperationId(operationId, className, methodName,
-                            conflictingClassName, conflictingMethodName);
-                }
-            }
-        }
+        context.saveOperationId(resourceClass, method, operationId);
     }
 
     default void setJsonViewContext(AnnotationScannerContext context, Type[] views) {
@@ -2,24 +2,35 @@ package io.smallrye.openapi.runtime.scanner.spi;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.BiConsumer;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiConfig.DuplicateOperationIdBehavior;
 import io.smallrye.openapi.api.OperationHandler;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.model.BaseModel;
 import io.smallrye.openapi.runtime.io.IOContext;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
@@ -32,6 +43,8 @@ import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFact
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
 import io.smallrye.openapi.runtime.util.Annotations;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+import io.smallrye.openapi.runtime.util.TypeHierarchy;
 
 /**
  * Context for scanners.
@@ -43,8 +56,10 @@ public class AnnotationScannerContext {
 
     private final FilteredIndexView index;
     private final AugmentedIndexView augmentedIndex;
+    private final TypeHierarchy typeHierarchy;
     private final IgnoreResolver ignoreResolver;
     private final List<AnnotationScannerExtension> extensions;
+    private final List<AnnotationScannerExtension> defaultExtensions;
     private final OpenApiConfig config;
     private final UnaryOperator<String> propertyNameTranslator;
     private final ClassLoader classLoader;
@@ -55,6 +70,7 @@ public class AnnotationScannerContext {
     private final Optional<BeanValidationScanner> beanValidationScanner;
     private final KotlinMetadataScanner kotlinMetadataScanner;
     private final Map<Type, Boolean> jsonViews = new LinkedHashMap<>();
+    private final Map<Object, Map<String, TypeResolver>> resolvedProperties;
     private String[] currentConsumes;
     private String[] currentProduces;
     private String[] defaultConsumes;
@@ -65,7 +81,8 @@ public class AnnotationScannerContext {
     private final Annotations annotations;
     private final IOContext<?, ?, ?, ?, ?> ioContext;
 
-    private final Map<String, MethodInfo> operationIdMap = new HashMap<>();
+    private final Map<String, MethodInfo> operationIdMap = new LinkedHashMap<>();
+    private final Map<String, ClassInfo> operationIdClasses = new LinkedHashMap<>();
     private final List<Object> unparsedExamples = new ArrayList<>();
 
     public AnnotationScannerContext(FilteredIndexView index,
@@ -77,7 +94,9 @@ public class AnnotationScannerContext {
             OpenAPI openApi) {
         this.index = index;
         this.augmentedIndex = AugmentedIndexView.augment(index);
+        this.typeHierarchy = TypeHierarchy.of(index);
         this.ignoreResolver = new IgnoreResolver(this);
+        this.resolvedProperties = new ConcurrentHashMap<>();
         this.classLoader = classLoader;
         this.config = config;
         this.operationHandler = Objects.requireNonNullElse(operationHandler, OperationHandler.DEFAULT);
@@ -90,17 +109,89 @@ public class AnnotationScannerContext {
         this.annotations = new Annotations(this);
         this.ioContext = IOContext.forScanning(this);
         if (extensions.isEmpty()) {
-            this.extensions = AnnotationScannerExtension.defaultExtension(this);
+            this.defaultExtensions = AnnotationScannerExtension.defaultExtension(this);
+            this.extensions = defaultExtensions;
         } else {
             List<AnnotationScannerExtension> ext = new ArrayList<>(extensions);
             if (addDefaultExtension) {
-                ext.addAll(AnnotationScannerExtension.defaultExtension(this));
+                this.defaultExtensions = AnnotationScannerExtension.defaultExtension(this);
+                ext.addAll(defaultExtensions);
+            } else {
+                this.defaultExtensions = Collections.emptyList();
             }
             this.extensions = ext;
         }
         this.schemaRegistry = new SchemaRegistry(this);
     }
 
+    /**
+     * Create a context for scanning a subset of the targets of the parent
+     * context on a separate thread. The index, configuration, user-provided
+     * extensions, and the caches of annotations, ignored properties and
+     * resolved class properties are shared with the parent. The resolved
+     * class properties do not refer to the context that resolved them, see
+     * {@link TypeResolver#getAllFields}. All state that is
+     * modified during a scan is private to the new context, and results are
+     * collected in a fragment of the OpenAPI model to be applied to the parent
+     * with {@link #join(AnnotationScannerContext)}.
+     */
+    private AnnotationScannerContext(AnnotationScannerContext parent) {
+        this.index = parent.index;
+        this.augmentedIndex = parent.augmentedIndex;
+        this.typeHierarchy = parent.typeHierarchy;
+        this.ignoreResolver = parent.ignoreResolver;
+        this.resolvedProperties = parent.resolvedProperties;
+        this.classLoader = parent.classLoader;
+        this.config = parent.config;
+        this.operationHandler = parent.operationHandler;
+        this.openApi = fragmentOf(parent.openApi);
+        this.propertyNameTranslator = parent.propertyNameTranslator;
+        this.beanValidationScanner = parent.beanValidationScanner.map(s -> new BeanValidationScanner(this));
+        this.kotlinMetadataScanner = new KotlinMetadataScanner();
+        this.javaSecurityProcessor = new JavaSecurityProcessor(this);
+        this.annotations = parent.annotations;
+        this.ioContext = IOContext.forScanning(this);
+        this.io().jsonIO(parent.io().jsonIO());
+        this.defaultExtensions = parent.defaultExtensions.isEmpty() ? Collections.emptyList()
+                : AnnotationScannerExtension.defaultExtension(this);
+
+        List<AnnotationScannerExtension> ext = new ArrayList<>(parent.extensions.size());
+        for (AnnotationScannerExtension e : parent.extensions) {
+            if (!parent.defaultExtensions.contains(e)) {
+                ext.add(e);
+            }
+        }
+        ext.addAll(defaultExtensions);
+        this.extensions = ext;
+
+        this.currentScanner = parent.currentScanner;
+        this.currentConsumes = parent.currentConsumes;
+        this.currentProduces = parent.currentProduces;
+        this.defaultConsumes = parent.defaultConsumes;
+        this.defaultProduces = parent.defaultProduces;
+        this.schemaRegistry = parent.schemaRegistry.fork(this);
+    }
+
+    /**
+     * Create an OpenAPI model containing a copy of the components of the given
+     * model. The component maps are copied so that additions made to the
+     * fragment are not visible in the source.
+     */
+    private static OpenAPI fragmentOf(OpenAPI source) {
+        OpenAPI fragment = OASFactory.createOpenAPI().openapi(source.getOpenapi());
+        Components components = source.getComponents();
+
+        if (components != null) {
+            BaseModel<?> copy = (BaseModel<?>) OASFactory.createComponents();
+            ((BaseModel<?>) components).getAllProperties()
+                    .forEach((name, value) -> copy.setProperty(name,
+                            value instanceof Map ? new LinkedHashMap<>((Map<?, ?>) value) : value));
+            fragment.setComponents((Components) copy);
+        }
+
+        return fragment;
+    }
+
     public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
             List<AnnotationScannerExtension> extensions,
             OpenApiConfig config,
@@ -122,6 +213,13 @@ public class AnnotationScannerContext {
         return augmentedIndex;
     }
 
+    /**
+     * @return the memoized hierarchy of the classes in the {@linkplain #getIndex() index} and the JDK
+     */
+    public TypeHierarchy getTypeHierarchy() {
+        return typeHierarchy;
+    }
+
     public IgnoreResolver getIgnoreResolver() {
         return ignoreResolver;
     }
@@ -174,10 +272,52 @@ public class AnnotationScannerContext {
         return jsonViews;
     }
 
+    /**
+     * @return cache of the properties of classes, maintained by {@link TypeResolver#getAllFields}
+     */
+    public Map<Object, Map<String, TypeResolver>> getResolvedProperties() {
+        return resolvedProperties;
+    }
+
     public Map<String, MethodInfo> getOperationIdMap() {
         return operationIdMap;
     }
 
+    /**
+     * Record the operationId used for a method, verifying that it is unique
+     * within the scan. A duplicate operationId results in either a warning or
+     * an exception depending on the configured
+     * {@link OpenApiConfig#getDuplicateOperationIdBehavior() behavior}.
+     *
+     * @param resourceClass the resource class being scanned
+     * @param method the method declaring the operation
+     * @param operationId the operationId of the operation
+     */
+    public void saveOperationId(ClassInfo resourceClass, MethodInfo method, String operationId) {
+        final MethodInfo conflictingMethod = operationIdMap.putIfAbsent(operationId, method);
+
+        if (conflictingMethod == null) {
+            operationIdClasses.put(operationId, resourceClass);
+        } else if (augmentedIndex.ancestry(method).values().contains(conflictingMethod)) {
+            // The conflict was a method from a parent class, replace it
+            operationIdMap.put(operationId, method);
+            operationIdClasses.put(operationId, resourceClass);
+        } else {
+            final ClassInfo conflictingClass = conflictingMethod.declaringClass();
+            final String className = resourceClass.name().toString();
+            final String methodName = method.toString();
+            final String conflictingClassName = conflictingClass.name().toString();
+            final String conflictingMethodName = conflictingMethod.toString();
+            if (config.getDuplicateOperationIdBehavior() == DuplicateOperationIdBehavior.WARN) {
+                ScannerSPILogging.log.duplicateOperationId(operationId, className, methodName,
+                        conflictingClassName, conflictingMethodName);
+            } else {
+                throw ScannerSPIMessages.msg.duplicateOperationId(operationId, className, methodName,
+                        conflictingClassName, conflictingMethodName);
+            }
+        }
+    }
+
     public String[] getCurrentConsumes() {
         return currentConsumes;
     }
@@ -238,4 +378,129 @@ public class AnnotationScannerContext {
     public List<Object> getUnparsedExamples() {
         return unparsedExamples;
     }
+
+    /**
+     * Apply an action to each of the given targets. When the configured
+     * {@link OpenApiConfig#getScanParallelism() scan parallelism} is greater
+     * than one, the targets are split into that many contiguous chunks that
+     * are scanned concurrently, each chunk sequentially using its own
+     * {@linkplain #AnnotationScannerContext(AnnotationScannerContext) forked}
+     * context. The result of each fork is joined to this context as soon as
+     * its chunk and all preceding chunks are complete, in the iteration order
+     * of the targets, yielding the same result as a sequential scan.
+     *
+     * Chunks are run by a pool shared by all scans, having one thread per
+     * available processor. A parallelism greater than the number of
+     * processors splits the targets further without adding threads.
+     *
+     * Targets are always scanned sequentially with this context when
+     * {@code parallelCapable} is false or when the model declares a single
+     * OAuth2/OpenID Connect security scheme, since roles discovered during the
+     * scan are added to that scheme's flows.
+     *
+     * @param <T> type of the targets
+     * @param targets targets to scan, e.g. resource classes
+     * @param parallelCapable whether the caller supports scanning the targets in parallel
+     * @param action the action to apply to each target, given the context to be used for the scan
+     */
+    public <T> void scan(Collection<T> targets, boolean parallelCapable, BiConsumer<AnnotationScannerContext, T> action) {
+        int parallelism = config.getScanParallelism();
+
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+
+        parallelism = Math.min(parallelism, targets.size());
+
+        if (parallelism < 2 || !parallelCapable || JavaSecurityProcessor.hasRolesScheme(openApi)) {
+            targets.forEach(target -> action.accept(this, target));
+            return;
+        }
+
+        ScannerSPILogging.log.parallelScan(targets.size(), parallelism);
+
+        final ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        final List<T> targetList = new ArrayList<>(targets);
+        final List<ForkJoinTask<AnnotationScannerContext>> tasks = new ArrayList<>(parallelism);
+
+        try {
+            for (int chunk = 0; chunk < parallelism; chunk++) {
+                List<T> chunkTargets = targetList.subList(chunk * targetList.size() / parallelism,
+                        (chunk + 1) * targetList.size() / parallelism);
+                tasks.add(ScanPool.POOL.submit(() -> scanChunk(chunkTargets, contextLoader, action)));
+            }
+
+            for (int i = 0, m = tasks.size(); i < m; i++) {
+                join(tasks.get(i).join());
+                // Release the fork once its results are applied
+                tasks.set(i, null);
+            }
+        } finally {
+            tasks.stream().filter(Objects::nonNull).forEach(task -> task.cancel(false));
+        }
+    }
+
+    private <T> AnnotationScannerContext scanChunk(List<T> targets, ClassLoader contextLoader,
+            BiConsumer<AnnotationScannerContext, T> action) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader workerLoader = thread.getContextClassLoader();
+        final AnnotationScannerContext fork = new AnnotationScannerContext(this);
+
+        thread.setContextClassLoader(contextLoader);
+
+        try {
+            targets.forEach(target -> action.accept(fork, target));
+        } finally {
+            thread.setContextClassLoader(workerLoader);
+        }
+
+        return fork;
+    }
+
+    /**
+     * Holder of the pool used for parallel scans, created on first use.
+     */
+    private static final class ScanPool {
+        static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("smallrye-open-api-scan-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Apply the results of a forked context to this context.
+     */
+    private void join(AnnotationScannerContext fork) {
+        Map<String, String> renames = schemaRegistry.join(fork.schemaRegistry);
+        OpenAPI fragment = fork.openApi;
+
+        if (fragment.getPaths() != null) {
+            for (Map.Entry<String, PathItem> entry : fragment.getPaths().getPathItems().entrySet()) {
+                PathItem pathItem = entry.getValue();
+
+                if (!renames.isEmpty()) {
+                    SchemaRegistry.renameReferences(pathItem, renames);
+                }
+
+                PathItem existingPath = ModelUtil.paths(openApi).getPathItem(entry.getKey());
+
+                if (existingPath == null) {
+                    ModelUtil.paths(openApi).addPathItem(entry.getKey(), pathItem);
+                } else {
+                    MergeUtil.mergeObjects(existingPath, pathItem);
+                }
+            }
+        }
+
+        if (fragment.getTags() != null) {
+            fragment.getTags().forEach(tag -> ModelUtil.addTag(openApi, tag));
+        }
+
+        fork.operationIdMap.forEach((operationId, method) -> saveOperationId(fork.operationIdClasses.get(operationId),
+                method, operationId));
+
+        unparsedExamples.addAll(fork.unparsedExamples);
+    }
 }
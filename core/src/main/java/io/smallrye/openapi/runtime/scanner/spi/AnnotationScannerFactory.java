@@ -3,34 +3,57 @@ package io.smallrye.openapi.runtime.scanner.spi;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.nullsLast;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Factory that allows plugging in more scanners.
  *
+ * The AnnotationScanner implementations are discovered via the ServiceLoader
+ * on first use. The names of the discovered classes are retained for each
+ * ClassLoader so that later factories using the same ClassLoader only
+ * instantiate the scanners, without searching the class path again.
+ *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class AnnotationScannerFactory implements Supplier<Iterable<AnnotationScanner>> {
 
+    /**
+     * Names of the AnnotationScanner classes discovered via the ServiceLoader
+     * for each ClassLoader. Only names are held so that the ClassLoader may
+     * be collected.
+     */
+    private static final Map<ClassLoader, List<String>> PROVIDERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ClassLoader loader;
+
     /**
      * List of AnnotationScanners discovered via the ServiceLoader, ordered by
      * {@linkplain AnnotationScanner#getName() name}
      */
-    private final List<AnnotationScanner> loadedScanners;
+    private List<AnnotationScanner> loadedScanners;
 
     public AnnotationScannerFactory(ClassLoader loader) {
-        Iterable<AnnotationScanner> scanners = ServiceLoader.load(AnnotationScanner.class, loader);
-        loadedScanners = StreamSupport.stream(scanners.spliterator(), false)
-                .sorted(comparing(AnnotationScanner::getName, nullsLast(String::compareTo)))
-                .collect(Collectors.toList());
+        this.loader = loader != null ? loader : ClassLoader.getSystemClassLoader();
     }
 
     public List<AnnotationScanner> getAnnotationScanners() {
+        if (loadedScanners == null) {
+            loadedScanners = PROVIDERS.computeIfAbsent(loader, AnnotationScannerFactory::discover)
+                    .stream()
+                    .map(this::newInstance)
+                    .sorted(comparing(AnnotationScanner::getName, nullsLast(String::compareTo)))
+                    .collect(Collectors.toList());
+        }
+
         return new ArrayList<>(loadedScanners);
     }
 
@@ -39,4 +62,23 @@ public class AnnotationScannerFactory implements Supplier<Iterable<AnnotationSca
         return getAnnotationScanners();
     }
 
+    private static List<String> discover(ClassLoader loader) {
+        return ServiceLoader.load(AnnotationScanner.class, loader)
+                .stream()
+                .map(provider -> provider.type().getName())
+                .collect(Collectors.toList());
+    }
+
+    private AnnotationScanner newInstance(String className) {
+        try {
+            return Class.forName(className, true, loader)
+                    .asSubclass(AnnotationScanner.class)
+                    .getConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new ServiceConfigurationError(AnnotationScanner.class.getName() + ": Provider " + className
+                    + " could not be instantiated", e);
+        }
+    }
 }
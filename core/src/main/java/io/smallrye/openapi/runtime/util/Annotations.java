@@ -5,11 +5,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,6 +58,8 @@ public final class Annotations {
 
     private final AnnotationScannerContext context;
     private final Collection<DotName> excludedPackages;
+    private final Map<DotName, List<ClassInfo>> composedAnnotations = new ConcurrentHashMap<>();
+    private final Map<AnnotationTarget, Map<DotName, List<AnnotationInstance>>> effectiveAnnotations = new ConcurrentHashMap<>();
 
     public Annotations(AnnotationScannerContext context) {
         this.context = context;
@@ -97,24 +101,21 @@ public final class Annotations {
         return true;
     }
 
-    private List<AnnotationInstance> getComposedAnnotation(Collection<AnnotationInstance> declaredAnnotations,
-            DotName name,
-            Set<DotName> scanned) {
-
-        List<AnnotationInstance> results = new ArrayList<>();
+    /**
+     * Retrieve the classes of the composable, runtime-visible annotations
+     * present in the index.
+     */
+    private List<ClassInfo> composedAnnotationClasses(Collection<AnnotationInstance> declaredAnnotations) {
+        List<ClassInfo> results = new ArrayList<>(declaredAnnotations.size());
 
         for (AnnotationInstance annotation : declaredAnnotations) {
             if (annotation.runtimeVisible()) {
                 DotName annotationName = annotation.name();
                 if (composable(annotationName)) {
                     ClassInfo annotationClass = context.getAugmentedIndex().getClassByName(annotationName);
-                    if (annotationClass == null || scanned.contains(annotationClass.name())) {
-                        continue;
+                    if (annotationClass != null) {
+                        results.add(annotationClass);
                     }
-
-                    scanned.add(annotationClass.name());
-                    UtilLogging.logger.composedAnnotationSearch(name, annotationClass.name());
-                    results.addAll(getDeclaredAnnotation(annotationClass, name, scanned));
                 }
             }
         }
@@ -122,32 +123,73 @@ public final class Annotations {
         return results;
     }
 
-    private List<AnnotationInstance> getDeclaredAnnotation(AnnotationTarget target, DotName name, Set<DotName> scanned) {
-        if (target == null) {
-            return Collections.emptyList();
-        }
+    private List<ClassInfo> composedAnnotationClasses(ClassInfo annotationClass) {
+        return composedAnnotations.computeIfAbsent(annotationClass.name(),
+                k -> composedAnnotationClasses(annotationClass.declaredAnnotations()));
+    }
 
-        Collection<AnnotationInstance> declaredAnnotations = getDeclaredAnnotations(target);
+    /**
+     * Retrieve the annotations of the target, grouped by name. Each list
+     * starts with the annotation declared directly on the target (if any),
+     * followed by the annotations found on the annotations of the target,
+     * searched depth-first. Each annotation class is searched once and
+     * contributes at most one instance of each name.
+     */
+    private Map<DotName, List<AnnotationInstance>> getEffectiveAnnotations(AnnotationTarget target) {
+        Map<DotName, List<AnnotationInstance>> result = effectiveAnnotations.get(target);
 
-        if (declaredAnnotations.isEmpty()) {
-            return Collections.emptyList();
+        if (result == null) {
+            Collection<AnnotationInstance> declaredAnnotations = getDeclaredAnnotations(target);
+
+            if (declaredAnnotations.isEmpty()) {
+                result = Collections.emptyMap();
+            } else {
+                result = new HashMap<>();
+                addEffectiveAnnotations(declaredAnnotations, result);
+                Set<DotName> scanned = new HashSet<>();
+
+                for (ClassInfo annotationClass : composedAnnotationClasses(declaredAnnotations)) {
+                    addComposedAnnotations(target, annotationClass, scanned, result);
+                }
+            }
+
+            effectiveAnnotations.putIfAbsent(target, result);
         }
 
-        AnnotationInstance direct = declaredAnnotations.stream().filter(a -> name.equals(a.name())).findFirst().orElse(null);
-        Collection<AnnotationInstance> composed = getComposedAnnotation(declaredAnnotations, name, scanned);
+        return result;
+    }
+
+    private void addComposedAnnotations(AnnotationTarget target, ClassInfo annotationClass, Set<DotName> scanned,
+            Map<DotName, List<AnnotationInstance>> result) {
+        if (!scanned.add(annotationClass.name())) {
+            return;
+        }
 
-        List<AnnotationInstance> results = new ArrayList<>((direct != null ? 1 : 0) + composed.size());
+        UtilLogging.logger.composedAnnotationSearch(annotationClass.name(), target);
+        addEffectiveAnnotations(annotationClass.declaredAnnotations(), result);
 
-        if (direct != null) {
-            results.add(direct);
+        for (ClassInfo composedClass : composedAnnotationClasses(annotationClass)) {
+            addComposedAnnotations(target, composedClass, scanned, result);
         }
-        results.addAll(composed);
+    }
 
-        return results;
+    private static void addEffectiveAnnotations(Collection<AnnotationInstance> declaredAnnotations,
+            Map<DotName, List<AnnotationInstance>> result) {
+        Set<DotName> names = new HashSet<>(declaredAnnotations.size());
+
+        for (AnnotationInstance annotation : declaredAnnotations) {
+            if (names.add(annotation.name())) {
+                result.computeIfAbsent(annotation.name(), k -> new ArrayList<>(1)).add(annotation);
+            }
+        }
     }
 
     private List<AnnotationInstance> getDeclaredAnnotation(AnnotationTarget target, DotName name) {
-        return getDeclaredAnnotation(target, name, new HashSet<>());
+        if (target == null) {
+            return Collections.emptyList();
+        }
+
+        return getEffectiveAnnotations(target).getOrDefault(name, Collections.emptyList());
     }
 
     public <T> T value(AnnotationInstance annotation) {
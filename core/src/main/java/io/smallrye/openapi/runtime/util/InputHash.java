@@ -0,0 +1,100 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Not intended for use outside of smallrye-open-api. Interface and functionality
+ * may not be stable for general use.
+ *
+ * Computes a hash of the inputs used to generate an OpenAPI model, stored in a
+ * model snapshot to determine whether the snapshot is up to date. Files are
+ * represented by their path, size and modification time rather than their
+ * content so that the hash can be computed without reading the class path.
+ */
+public final class InputHash {
+
+    private final MessageDigest digest;
+
+    public InputHash() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public InputHash add(String key, Object value) {
+        update(key);
+        update(String.valueOf(value));
+        return this;
+    }
+
+    public InputHash add(String key, Map<String, String> values) {
+        update(key);
+
+        if (values != null) {
+            for (Map.Entry<String, String> entry : new TreeMap<>(values).entrySet()) {
+                update(entry.getKey());
+                update(entry.getValue());
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Add a file or, for a directory, all regular files it contains.
+     */
+    public InputHash addFile(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.walk(path)) {
+                Iterator<Path> iterator = files.filter(Files::isRegularFile).sorted().iterator();
+
+                while (iterator.hasNext()) {
+                    addRegularFile(iterator.next());
+                }
+            }
+        } else if (Files.isRegularFile(path)) {
+            addRegularFile(path);
+        } else {
+            update(path.toString());
+        }
+
+        return this;
+    }
+
+    private void addRegularFile(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        update(file.toString());
+        update(Long.toString(attributes.size()));
+        update(Long.toString(attributes.lastModifiedTime().toMillis()));
+    }
+
+    private void update(String value) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (byte b : digest.digest()) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+
+/**
+ * Not intended for use outside of smallrye-open-api. Interface and functionality
+ * may not be stable for general use.
+ *
+ * Reads the Jandex index packaged in a jar, used by the build plugins to avoid
+ * indexing dependency jars that already contain an up-to-date index.
+ */
+public final class JarIndexes {
+
+    /**
+     * Location of the Jandex index packaged in a jar
+     */
+    public static final String JAR_INDEX = "META-INF/jandex.idx";
+
+    /**
+     * Oldest index format version that is read from a jar. Version 10, written
+     * by Jandex 2.4 and later, is the first to record the known users of each
+     * class and the components of records, both used by the annotation
+     * scanner. Jars with an index in an older format are indexed instead.
+     */
+    public static final int MIN_JAR_INDEX_VERSION = 10;
+
+    private JarIndexes() {
+    }
+
+    /**
+     * Read the Jandex index packaged in the jar, if any. The packaged index is
+     * not used when its format is older than {@link #MIN_JAR_INDEX_VERSION} or
+     * not supported by this version of Jandex, or when it is stale, i.e. a class
+     * in the jar was modified after the index.
+     *
+     * @param jar the jar file
+     * @return the packaged index, or null when the jar must be indexed
+     */
+    public static Index read(File jar) {
+        try (JarFile jarFile = new JarFile(jar)) {
+            JarEntry entry = jarFile.getJarEntry(JAR_INDEX);
+
+            if (entry == null) {
+                return null;
+            }
+
+            long indexTime = entry.getTime();
+
+            if (jarFile.stream().anyMatch(e -> e.getName().endsWith(".class") && e.getTime() > indexTime)) {
+                UtilLogging.logger.staleJarIndex(JAR_INDEX, jar);
+                return null;
+            }
+
+            try (InputStream in = jarFile.getInputStream(entry)) {
+                IndexReader reader = new IndexReader(in);
+                int version = reader.getIndexVersion();
+
+                if (version < MIN_JAR_INDEX_VERSION) {
+                    UtilLogging.logger.unsupportedJarIndexVersion(JAR_INDEX, jar, version);
+                    return null;
+                }
+
+                return reader.read();
+            }
+        } catch (IOException | RuntimeException e) {
+            UtilLogging.logger.unreadableJarIndex(JAR_INDEX, jar, e);
+            return null;
+        }
+    }
+}
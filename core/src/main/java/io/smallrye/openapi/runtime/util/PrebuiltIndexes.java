@@ -0,0 +1,338 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+import io.smallrye.openapi.runtime.scanner.IterableStandin;
+import io.smallrye.openapi.runtime.scanner.MapStandin;
+import io.smallrye.openapi.runtime.scanner.StreamStandin;
+
+/**
+ * Jandex indexes of the JDK classes and the "standin" collection types used
+ * internally by the scanner. The indexes are written by {@link #main(String[])}
+ * when this module is built and read from the class path when first used,
+ * avoiding the parsing of the class files at runtime. Any class missing from a
+ * serialized index (or when the index itself is missing) is indexed from its
+ * class file instead.
+ *
+ * <p>
+ * Each resource starts with the feature version of the JDK that wrote it. The
+ * JDK classes differ between versions (e.g. the interfaces of the collections),
+ * so the serialized JDK index is only used when that version matches the
+ * running JDK. Otherwise, the JDK classes are indexed at runtime.
+ */
+public final class PrebuiltIndexes {
+
+    static final String JDK_INDEX = "jdk.idx";
+    static final String STANDIN_INDEX = "standins.idx";
+
+    /**
+     * JDK version given to {@link #load} for indexes that do not depend on the
+     * running JDK
+     */
+    static final int ANY_JDK = 0;
+
+    static final List<String> JDK_CLASSES = names(
+            java.lang.Enum.class,
+            java.lang.Object.class,
+
+            // Interfaces commonly implemented by core JDK classes
+            java.lang.AutoCloseable.class,
+            java.lang.Cloneable.class,
+            java.lang.Comparable.class,
+            java.io.Serializable.class,
+            java.util.RandomAccess.class,
+
+            // Common, expected classes
+            java.lang.Boolean.class,
+            java.lang.Byte.class,
+            java.lang.Character.class,
+            java.lang.CharSequence.class,
+            java.lang.Double.class,
+            java.lang.Float.class,
+            java.lang.Integer.class,
+            java.lang.Long.class,
+            java.lang.Number.class,
+            java.lang.Short.class,
+            java.lang.String.class,
+            java.lang.Void.class,
+            java.util.Date.class,
+            java.util.UUID.class,
+
+            // Java Time APIs
+            java.time.Duration.class,
+            java.time.Instant.class,
+            java.time.LocalDate.class,
+            java.time.LocalDateTime.class,
+            java.time.LocalTime.class,
+            java.time.OffsetDateTime.class,
+            java.time.OffsetTime.class,
+            java.time.Period.class,
+            java.time.ZonedDateTime.class,
+            java.time.chrono.ChronoLocalDate.class,
+            java.time.chrono.ChronoLocalDateTime.class,
+            java.time.chrono.ChronoPeriod.class,
+            java.time.chrono.ChronoZonedDateTime.class,
+            java.time.temporal.Temporal.class,
+            java.time.temporal.TemporalAccessor.class,
+            java.time.temporal.TemporalAdjuster.class,
+            java.time.temporal.TemporalAmount.class,
+
+            // Collection Interfaces
+            java.lang.Iterable.class,
+            java.util.Collection.class,
+            java.util.Deque.class,
+            java.util.List.class,
+            java.util.Map.class,
+            java.util.NavigableMap.class,
+            java.util.NavigableSet.class,
+            java.util.Queue.class,
+            java.util.Set.class,
+            java.util.SortedMap.class,
+            java.util.SortedSet.class,
+            java.util.concurrent.BlockingDeque.class,
+            java.util.concurrent.BlockingQueue.class,
+            java.util.concurrent.ConcurrentMap.class,
+            java.util.concurrent.ConcurrentNavigableMap.class,
+            java.util.concurrent.TransferQueue.class,
+
+            // Abstract Collections
+            java.util.AbstractCollection.class,
+            java.util.AbstractList.class,
+            java.util.AbstractMap.class,
+            java.util.AbstractQueue.class,
+            java.util.AbstractSequentialList.class,
+            java.util.AbstractSet.class,
+            java.util.EnumSet.class,
+
+            // Collections
+            java.util.ArrayDeque.class,
+            java.util.ArrayList.class,
+            java.util.Dictionary.class,
+            java.util.EnumMap.class,
+            java.util.HashMap.class,
+            java.util.HashSet.class,
+            java.util.Hashtable.class,
+            java.util.IdentityHashMap.class,
+            java.util.LinkedHashMap.class,
+            java.util.LinkedHashSet.class,
+            java.util.LinkedList.class,
+            java.util.PriorityQueue.class,
+            java.util.Properties.class,
+            java.util.Stack.class,
+            java.util.TreeMap.class,
+            java.util.TreeSet.class,
+            java.util.Vector.class,
+            java.util.concurrent.ArrayBlockingQueue.class,
+            java.util.concurrent.ConcurrentHashMap.class,
+            java.util.concurrent.ConcurrentLinkedDeque.class,
+            java.util.concurrent.ConcurrentLinkedQueue.class,
+            java.util.concurrent.ConcurrentSkipListMap.class,
+            java.util.concurrent.ConcurrentSkipListSet.class,
+            java.util.concurrent.CopyOnWriteArrayList.class,
+            java.util.concurrent.CopyOnWriteArraySet.class,
+            java.util.concurrent.DelayQueue.class,
+            java.util.concurrent.LinkedBlockingDeque.class,
+            java.util.concurrent.LinkedBlockingQueue.class,
+            java.util.concurrent.LinkedTransferQueue.class,
+            java.util.concurrent.PriorityBlockingQueue.class,
+            java.util.concurrent.SynchronousQueue.class,
+
+            // Streams
+            java.util.stream.BaseStream.class,
+            java.util.stream.Stream.class,
+            java.util.stream.IntStream.class,
+            java.util.stream.LongStream.class,
+            java.util.stream.DoubleStream.class,
+
+            // CompletionStage and implementation
+            java.util.concurrent.CompletionStage.class,
+            java.util.concurrent.CompletableFuture.class,
+            java.util.concurrent.Future.class);
+
+    /**
+     * Classes that may not be present in older Java versions
+     */
+    static final List<String> OPTIONAL_JDK_CLASSES = Arrays.asList(
+            "java.lang.constant.Constable",
+            "java.lang.constant.ConstantDesc");
+
+    static final List<String> STANDIN_CLASSES = names(
+            IterableStandin.class,
+            MapStandin.class,
+            StreamStandin.class);
+
+    private static final class JdkIndexHolder {
+        static final IndexView INDEX = load(JDK_INDEX, Runtime.version().feature(), JDK_CLASSES, OPTIONAL_JDK_CLASSES);
+    }
+
+    private static final class StandinIndexHolder {
+        static final IndexView INDEX = load(STANDIN_INDEX, ANY_JDK, STANDIN_CLASSES, Collections.emptyList());
+    }
+
+    private PrebuiltIndexes() {
+    }
+
+    /**
+     * @return an index of commonly used JDK classes, loaded on first use
+     */
+    public static IndexView jdk() {
+        return JdkIndexHolder.INDEX;
+    }
+
+    /**
+     * @return an index of the scanner's collection standin types, loaded on first use
+     */
+    public static IndexView standins() {
+        return StandinIndexHolder.INDEX;
+    }
+
+    /**
+     * Write the serialized indexes to the directory given as the first
+     * argument, invoked during the build of this module.
+     *
+     * @param args the output directory
+     * @throws IOException when the indexes can not be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args[0], PrebuiltIndexes.class.getPackage().getName().replace('.', '/'));
+        Files.createDirectories(directory);
+        write(directory.resolve(JDK_INDEX), index(JDK_CLASSES, OPTIONAL_JDK_CLASSES));
+        write(directory.resolve(STANDIN_INDEX), index(STANDIN_CLASSES, Collections.emptyList()));
+    }
+
+    private static void write(Path file, Index index) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out, Runtime.version().feature(), index);
+        }
+    }
+
+    static void write(OutputStream out, int jdkVersion, Index index) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(jdkVersion);
+        data.flush();
+        new IndexWriter(out).write(index);
+    }
+
+    /**
+     * Load a prebuilt index, indexing any missing classes at runtime.
+     *
+     * @param resourceName name of the serialized index, relative to this class
+     * @param jdkVersion feature version of the JDK that must have written the
+     *        index, or {@link #ANY_JDK}
+     * @param classNames names of the classes of the index
+     * @param optionalClassNames names of classes that are indexed when present
+     * @return the index
+     */
+    static IndexView load(String resourceName, int jdkVersion, List<String> classNames,
+            List<String> optionalClassNames) {
+        Index prebuilt = read(resourceName, jdkVersion);
+
+        if (prebuilt == null) {
+            return index(classNames, optionalClassNames);
+        }
+
+        List<String> missing = new ArrayList<>();
+        List<String> missingOptional = new ArrayList<>();
+
+        for (String className : classNames) {
+            if (prebuilt.getClassByName(DotName.createSimple(className)) == null) {
+                missing.add(className);
+            }
+        }
+        for (String className : optionalClassNames) {
+            if (prebuilt.getClassByName(DotName.createSimple(className)) == null) {
+                missingOptional.add(className);
+            }
+        }
+
+        if (missing.isEmpty() && missingOptional.isEmpty()) {
+            return prebuilt;
+        }
+
+        // E.g. optional classes not available to the JDK that wrote the index
+        return CompositeIndex.create(prebuilt, index(missing, missingOptional));
+    }
+
+    private static Index read(String resourceName, int jdkVersion) {
+        try (InputStream stream = PrebuiltIndexes.class.getResourceAsStream(resourceName)) {
+            return stream != null ? read(stream, jdkVersion) : null;
+        } catch (IOException | RuntimeException e) {
+            // Unreadable (e.g. unsupported version), index the classes instead
+            return null;
+        }
+    }
+
+    static Index read(InputStream stream, int jdkVersion) throws IOException {
+        int writtenBy = new DataInputStream(stream).readInt();
+
+        if (jdkVersion != ANY_JDK && writtenBy != jdkVersion) {
+            // Written by a different JDK, its classes may not match those in use
+            return null;
+        }
+
+        return new IndexReader(stream).read();
+    }
+
+    static Index index(List<String> classNames, List<String> optionalClassNames) {
+        Indexer indexer = new Indexer();
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+
+        for (String className : classNames) {
+            index(indexer, className);
+        }
+
+        for (String className : optionalClassNames) {
+            try {
+                Class.forName(className, false, contextLoader);
+                index(indexer, className);
+            } catch (Exception e) {
+                // Ignore anything
+            }
+        }
+
+        return indexer.complete();
+    }
+
+    private static void index(Indexer indexer, String className) {
+        String resourceName = className.replace('.', '/') + ".class";
+        ClassLoader loader = PrebuiltIndexes.class.getClassLoader();
+
+        try (InputStream stream = loader != null ? loader.getResourceAsStream(resourceName)
+                : ClassLoader.getSystemResourceAsStream(resourceName)) {
+            if (stream == null) {
+                throw new IOException("Class file not found: " + resourceName);
+            }
+            indexer.index(stream);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static List<String> names(Class<?>... classes) {
+        List<String> names = new ArrayList<>(classes.length);
+        for (Class<?> clazz : classes) {
+            names.add(clazz.getName());
+        }
+        return Collections.unmodifiableList(names);
+    }
+}
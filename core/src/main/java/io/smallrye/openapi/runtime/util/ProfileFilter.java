@@ -5,7 +5,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
@@ -14,6 +13,7 @@ import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.model.Extensions;
+import io.smallrye.openapi.model.PipelineFilter;
 
 /**
  * Not intended for use outside of smallrye-open-api. Interface and functionality
@@ -24,7 +24,7 @@ import io.smallrye.openapi.model.Extensions;
  * have been removed by the filter and if the path item is not specified in the
  * OpenAPI components section.
  */
-public class ProfileFilter implements OASFilter {
+public class ProfileFilter implements PipelineFilter {
 
     private final Map<String, PathItem> pathItemComponents;
     private final Set<String> included;
@@ -69,4 +69,9 @@ public class ProfileFilter implements OASFilter {
         }
         return true;
     }
+
+    @Override
+    public boolean isDocumentScoped() {
+        return true;
+    }
 }
@@ -0,0 +1,182 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+/**
+ * Memoized type hierarchy of the classes in an index. The super types,
+ * super classes and interfaces of each class are computed once, on first use,
+ * and re-used by later queries for the class itself and for any of its
+ * sub-types. Instances are intended to be used for the duration of a single
+ * scan and may be used concurrently.
+ */
+public final class TypeHierarchy {
+
+    /**
+     * The transitive super types of a class.
+     */
+    public static final class SuperTypes {
+        private final Set<DotName> names;
+        private final boolean complete;
+
+        SuperTypes(Set<DotName> names, boolean complete) {
+            this.names = names;
+            this.complete = complete;
+        }
+
+        /**
+         * @param name name of a class or interface
+         * @return true if the class or interface is a super type
+         */
+        public boolean contains(DotName name) {
+            return names.contains(name);
+        }
+
+        /**
+         * @return true when all super types were found in the index, i.e. a
+         *         name not {@linkplain #contains(DotName) contained} is not a
+         *         super type
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+
+    private final Function<DotName, ClassInfo> lookup;
+    private final Map<DotName, SuperTypes> superTypes = new ConcurrentHashMap<>();
+    private final Map<DotName, List<ClassInfo>> superClasses = new ConcurrentHashMap<>();
+    private final Map<DotName, Set<Type>> interfaces = new ConcurrentHashMap<>();
+
+    /**
+     * @param lookup function to find a class by name, returning null when the class is not known
+     */
+    public TypeHierarchy(Function<DotName, ClassInfo> lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * Create a hierarchy of the classes in the index, together with the JDK
+     * classes known to {@link TypeUtil#jdkIndex}.
+     *
+     * @param index the index
+     * @return a new hierarchy
+     */
+    public static TypeHierarchy of(IndexView index) {
+        return new TypeHierarchy(name -> TypeUtil.getClassInfo(index, name));
+    }
+
+    /**
+     * Retrieve the transitive super classes and interfaces of the class.
+     *
+     * @param klazz the class
+     * @return the super types of the class
+     */
+    public SuperTypes superTypes(ClassInfo klazz) {
+        SuperTypes result = superTypes.get(klazz.name());
+
+        if (result == null) {
+            Set<DotName> names = new HashSet<>();
+            boolean complete = true;
+
+            for (DotName iface : klazz.interfaceNames()) {
+                complete &= addSuperType(iface, names);
+            }
+
+            DotName superName = klazz.superName();
+
+            if (superName != null) {
+                complete &= addSuperType(superName, names);
+            }
+
+            result = new SuperTypes(names, complete);
+            superTypes.putIfAbsent(klazz.name(), result);
+        }
+
+        return result;
+    }
+
+    private boolean addSuperType(DotName superName, Set<DotName> names) {
+        names.add(superName);
+        ClassInfo superKlazz = lookup.apply(superName);
+
+        if (superKlazz == null) {
+            return false;
+        }
+
+        SuperTypes inherited = superTypes(superKlazz);
+        names.addAll(inherited.names);
+        return inherited.complete;
+    }
+
+    /**
+     * Retrieve the known super classes of the class, nearest first, ending
+     * with the first super class not found.
+     *
+     * @param klazz the class
+     * @return unmodifiable list of super classes, not including the class itself
+     */
+    public List<ClassInfo> superClasses(ClassInfo klazz) {
+        List<ClassInfo> result = superClasses.get(klazz.name());
+
+        if (result == null) {
+            Type superType = klazz.superClassType();
+            ClassInfo superKlazz = superType != null ? lookup.apply(TypeUtil.getName(superType)) : null;
+
+            if (superKlazz == null) {
+                result = Collections.emptyList();
+            } else {
+                List<ClassInfo> inherited = superClasses(superKlazz);
+                List<ClassInfo> chain = new ArrayList<>(inherited.size() + 1);
+                chain.add(superKlazz);
+                chain.addAll(inherited);
+                result = Collections.unmodifiableList(chain);
+            }
+
+            superClasses.putIfAbsent(klazz.name(), result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieve the unique interface types implemented by the class, directly
+     * or inherited from its known interfaces, in declaration order and
+     * depth-first.
+     *
+     * @param klazz the class
+     * @return unmodifiable set of interface types
+     */
+    public Set<Type> interfaces(ClassInfo klazz) {
+        Set<Type> result = interfaces.get(klazz.name());
+
+        if (result == null) {
+            Set<Type> types = new LinkedHashSet<>();
+
+            for (Type type : klazz.interfaceTypes()) {
+                types.add(type);
+                ClassInfo iface = lookup.apply(TypeUtil.getName(type));
+
+                if (iface != null) {
+                    types.addAll(interfaces(iface));
+                }
+            }
+
+            result = Collections.unmodifiableSet(types);
+            interfaces.putIfAbsent(klazz.name(), result);
+        }
+
+        return result;
+    }
+}
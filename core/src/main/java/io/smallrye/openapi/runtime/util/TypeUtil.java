@@ -1,7 +1,5 @@
 package io.smallrye.openapi.runtime.util;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -14,10 +12,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
@@ -28,7 +24,6 @@ import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
@@ -183,130 +178,7 @@ public class TypeUtil {
             TYPE_MAP.put(DotName.createSimple(qualifier + "json.JsonString"), STRING_FORMAT);
         }
 
-        Indexer indexer = new Indexer();
-        index(indexer, java.lang.Enum.class);
-        index(indexer, java.lang.Object.class);
-
-        // Interfaces commonly implemented by core JDK classes
-        index(indexer, java.lang.AutoCloseable.class);
-        index(indexer, java.lang.Cloneable.class);
-        index(indexer, java.lang.Comparable.class);
-        index(indexer, java.io.Serializable.class);
-        index(indexer, java.util.RandomAccess.class);
-
-        // Common, expected classes
-        index(indexer, java.lang.Boolean.class);
-        index(indexer, java.lang.Byte.class);
-        index(indexer, java.lang.Character.class);
-        index(indexer, java.lang.CharSequence.class);
-        index(indexer, java.lang.Double.class);
-        index(indexer, java.lang.Float.class);
-        index(indexer, java.lang.Integer.class);
-        index(indexer, java.lang.Long.class);
-        index(indexer, java.lang.Number.class);
-        index(indexer, java.lang.Short.class);
-        index(indexer, java.lang.String.class);
-        index(indexer, java.lang.Void.class);
-        index(indexer, java.util.Date.class);
-        index(indexer, java.util.UUID.class);
-
-        // Java Time APIs
-        index(indexer, java.time.Duration.class);
-        index(indexer, java.time.Instant.class);
-        index(indexer, java.time.LocalDate.class);
-        index(indexer, java.time.LocalDateTime.class);
-        index(indexer, java.time.LocalTime.class);
-        index(indexer, java.time.OffsetDateTime.class);
-        index(indexer, java.time.OffsetTime.class);
-        index(indexer, java.time.Period.class);
-        index(indexer, java.time.ZonedDateTime.class);
-        index(indexer, java.time.chrono.ChronoLocalDate.class);
-        index(indexer, java.time.chrono.ChronoLocalDateTime.class);
-        index(indexer, java.time.chrono.ChronoPeriod.class);
-        index(indexer, java.time.chrono.ChronoZonedDateTime.class);
-        index(indexer, java.time.temporal.Temporal.class);
-        index(indexer, java.time.temporal.TemporalAccessor.class);
-        index(indexer, java.time.temporal.TemporalAdjuster.class);
-        index(indexer, java.time.temporal.TemporalAmount.class);
-
-        // Collection Interfaces
-        index(indexer, java.lang.Iterable.class);
-        index(indexer, java.util.Collection.class);
-        index(indexer, java.util.Deque.class);
-        index(indexer, java.util.List.class);
-        index(indexer, java.util.Map.class);
-        index(indexer, java.util.NavigableMap.class);
-        index(indexer, java.util.NavigableSet.class);
-        index(indexer, java.util.Queue.class);
-        index(indexer, java.util.Set.class);
-        index(indexer, java.util.SortedMap.class);
-        index(indexer, java.util.SortedSet.class);
-        index(indexer, java.util.concurrent.BlockingDeque.class);
-        index(indexer, java.util.concurrent.BlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentMap.class);
-        index(indexer, java.util.concurrent.ConcurrentNavigableMap.class);
-        index(indexer, java.util.concurrent.TransferQueue.class);
-
-        // Abstract Collections
-        index(indexer, java.util.AbstractCollection.class);
-        index(indexer, java.util.AbstractList.class);
-        index(indexer, java.util.AbstractMap.class);
-        index(indexer, java.util.AbstractQueue.class);
-        index(indexer, java.util.AbstractSequentialList.class);
-        index(indexer, java.util.AbstractSet.class);
-        index(indexer, java.util.EnumSet.class);
-
-        // Collections
-        index(indexer, java.util.ArrayDeque.class);
-        index(indexer, java.util.ArrayList.class);
-        index(indexer, java.util.Dictionary.class);
-        index(indexer, java.util.EnumMap.class);
-        index(indexer, java.util.HashMap.class);
-        index(indexer, java.util.HashSet.class);
-        index(indexer, java.util.Hashtable.class);
-        index(indexer, java.util.IdentityHashMap.class);
-        index(indexer, java.util.LinkedHashMap.class);
-        index(indexer, java.util.LinkedHashSet.class);
-        index(indexer, java.util.LinkedList.class);
-        index(indexer, java.util.PriorityQueue.class);
-        index(indexer, java.util.Properties.class);
-        index(indexer, java.util.Stack.class);
-        index(indexer, java.util.TreeMap.class);
-        index(indexer, java.util.TreeSet.class);
-        index(indexer, java.util.Vector.class);
-        index(indexer, java.util.concurrent.ArrayBlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentHashMap.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedDeque.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListMap.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListSet.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArrayList.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArraySet.class);
-        index(indexer, java.util.concurrent.DelayQueue.class);
-        index(indexer, java.util.concurrent.LinkedBlockingDeque.class);
-        index(indexer, java.util.concurrent.LinkedBlockingQueue.class);
-        index(indexer, java.util.concurrent.LinkedTransferQueue.class);
-        index(indexer, java.util.concurrent.PriorityBlockingQueue.class);
-        index(indexer, java.util.concurrent.SynchronousQueue.class);
-
-        // Streams
-        index(indexer, java.util.stream.BaseStream.class);
-        index(indexer, java.util.stream.Stream.class);
-        index(indexer, java.util.stream.IntStream.class);
-        index(indexer, java.util.stream.LongStream.class);
-        index(indexer, java.util.stream.DoubleStream.class);
-
-        // CompletionStage and implementation
-        index(indexer, java.util.concurrent.CompletionStage.class);
-        index(indexer, java.util.concurrent.CompletableFuture.class);
-        index(indexer, java.util.concurrent.Future.class);
-
-        // Index classes that may not be present in older Java versions
-        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
-        Stream.of("java.lang.constant.Constable", "java.lang.constant.ConstantDesc")
-                .forEach(className -> indexOptional(indexer, className, contextLoader));
-
-        jdkIndex = indexer.complete();
+        jdkIndex = PrebuiltIndexes.jdk();
 
         wrapperTypes.addAll(JaxbConstants.JAXB_ELEMENT);
         wrapperTypes.add(MutinyConstants.UNI_TYPE.name());
@@ -315,22 +187,6 @@ public class TypeUtil {
         wrapperTypes.add(DotName.createSimple("io.reactivex.Single"));
     }
 
-    private static void indexOptional(Indexer indexer, String className, ClassLoader contextLoader) {
-        try {
-            index(indexer, Class.forName(className, false, contextLoader));
-        } catch (Exception e) {
-            // Ignore anything
-        }
-    }
-
-    private static void index(Indexer indexer, Class<?> klazz) {
-        try {
-            indexer.indexClass(klazz);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
-    }
-
     private TypeUtil() {
     }
 
@@ -509,15 +365,13 @@ public class TypeUtil {
         ClassInfo subJandexKlazz = getClassInfo(index, testSubjectName);
 
         if (subJandexKlazz != null) {
-            Set<DotName> superTypes = new HashSet<>();
-            AtomicBoolean indexComplete = new AtomicBoolean(true);
-            loadSuperTypes(index, subJandexKlazz, superTypes, indexComplete);
+            TypeHierarchy.SuperTypes superTypes = context.getTypeHierarchy().superTypes(subJandexKlazz);
 
             if (superTypes.contains(testObjectName)) {
                 return true;
             }
 
-            if (indexComplete.get()) {
+            if (superTypes.isComplete()) {
                 /*
                  * When indexComplete remains `true` during the search for super types of the
                  * `testSubject`, we can be sure that the testSubject is not an instance of the
@@ -530,31 +384,6 @@ public class TypeUtil {
         return isAssignableFrom(testSubject.name(), testObject.name(), context.getClassLoader());
     }
 
-    private static void loadSuperTypes(IndexView index, ClassInfo testSubject, Set<DotName> superTypes,
-            AtomicBoolean indexComplete) {
-        testSubject.interfaceNames()
-                .forEach(iface -> loadSuperType(index, iface, superTypes, indexComplete));
-
-        DotName superName = testSubject.superName();
-
-        if (superName != null) {
-            loadSuperType(index, superName, superTypes, indexComplete);
-        }
-    }
-
-    private static void loadSuperType(IndexView index, DotName superName, Set<DotName> superTypes,
-            AtomicBoolean indexComplete) {
-        superTypes.add(superName);
-
-        ClassInfo superKlazz = getClassInfo(index, superName);
-
-        if (superKlazz != null) {
-            loadSuperTypes(index, superKlazz, superTypes, indexComplete);
-        } else {
-            indexComplete.set(false);
-        }
-    }
-
     public static boolean isTerminalType(Type type) {
         boolean terminal;
 
@@ -2,9 +2,13 @@ package io.smallrye.openapi.runtime.util;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
+import java.io.File;
+
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.DotName;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -18,7 +22,19 @@ interface UtilLogging extends BasicLogger {
     void reflectionInstanceOf(Class<?> subject, Class<?> object);
 
     @LogMessage(level = Logger.Level.DEBUG)
-    @Message(id = 8501, value = "Search annotation %s for %s")
-    void composedAnnotationSearch(DotName seekName, DotName annotationName);
+    @Message(id = 8501, value = "Search annotation %s for annotations composed on %s")
+    void composedAnnotationSearch(DotName annotationName, AnnotationTarget target);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 8502, value = "%s of %s is older than its classes, indexing the jar")
+    void staleJarIndex(String indexName, File jar);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 8503, value = "%s of %s has format version %d, indexing the jar")
+    void unsupportedJarIndexVersion(String indexName, File jar, int version);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 8504, value = "%s of %s can not be read, indexing the jar")
+    void unreadableJarIndex(String indexName, File jar, @Cause Throwable cause);
 
 }
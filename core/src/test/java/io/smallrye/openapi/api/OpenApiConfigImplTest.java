@@ -2,8 +2,18 @@ package io.smallrye.openapi.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -63,4 +73,52 @@ class OpenApiConfigImplTest {
         assertEquals(Set.of("java.lang", "java.util"), oaiConfig.scanExcludePackages());
         assertEquals(Set.of("my.pkg.Test", "my.pkg.Another"), oaiConfig.scanExcludeClasses());
     }
+
+    @Test
+    void testSnapshotSharedAcrossInstances() {
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValue(OASConfig.SCHEMA_PREFIX + "java.util.UUID", "{ \"type\": \"string\" }")
+                .withDefaultValue(OASConfig.SCAN_DISABLE, "true")
+                .withDefaultValue(OASConfig.SERVERS, "https://a.example.com, https://b.example.com")
+                .build();
+
+        OpenApiConfig first = OpenApiConfig.snapshot(config);
+        OpenApiConfig second = OpenApiConfig.snapshot(config);
+
+        assertTrue(first.scanDisable());
+        assertEquals(List.of("https://a.example.com", "https://b.example.com"), first.servers());
+        assertEquals(Map.of("java.util.UUID", "{ \"type\": \"string\" }"), first.getSchemas());
+        assertEquals(Map.of(), first.getScanResourceClasses());
+        assertNull(first.filter());
+
+        assertSame(first.servers(), second.servers());
+        assertSame(first.getSchemas(), second.getSchemas());
+
+        second.setAllowNakedPathParameter(Boolean.TRUE);
+        assertEquals(Optional.empty(), first.allowNakedPathParameter());
+        assertEquals(Optional.of(Boolean.TRUE), second.allowNakedPathParameter());
+    }
+
+    @Test
+    void testSnapshotConcurrentAccess() throws Exception {
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValue(OASConfig.SCAN_PACKAGES, "pkg1,pkg2")
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<Set<String>>> results = IntStream.range(0, 16)
+                    .mapToObj(i -> executor.submit(() -> OpenApiConfig.snapshot(config).scanPackages()))
+                    .collect(Collectors.toList());
+
+            Set<String> expected = results.get(0).get();
+            assertEquals(Set.of("pkg1", "pkg2"), expected);
+
+            for (Future<Set<String>> result : results) {
+                assertSame(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.RenderedDocument.Encoding;
+import io.smallrye.openapi.runtime.io.Format;
+
+class RenderedDocumentTest {
+
+    private static SmallRyeOpenAPI.Builder builder() {
+        URL resource = RenderedDocumentTest.class
+                .getClassLoader()
+                .getResource("io/smallrye/openapi/runtime/io/_everything.yaml");
+
+        return SmallRyeOpenAPI.builder()
+                .enableModelReader(false)
+                .enableStandardFilter(false)
+                .enableAnnotationScan(false)
+                .enableStandardStaticFiles(false)
+                .withCustomStaticFile(() -> {
+                    try {
+                        return resource.openStream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+
+    @Test
+    void testUnmodifiableDocumentRenderedOnce() {
+        SmallRyeOpenAPI result = builder().buildUnmodifiable();
+        RenderedDocument json = result.render(Format.JSON);
+
+        assertSame(json, result.render(Format.JSON));
+        assertNotSame(json, result.render(Format.YAML));
+        assertEquals("application/json", json.getMediaType());
+        assertEquals(result.toJSON(), new String(bytes(json.getContent()), StandardCharsets.UTF_8));
+        assertEquals(result.toYAML(), new String(bytes(result.render(Format.YAML).getContent()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testModifiableDocumentRenderedOnEveryCall() {
+        SmallRyeOpenAPI result = builder().build();
+        RenderedDocument before = result.render(Format.JSON);
+
+        result.model().getInfo().setTitle("Changed");
+        RenderedDocument after = result.render(Format.JSON);
+
+        assertNotEquals(before.getETag(), after.getETag());
+        assertTrue(new String(bytes(after.getContent()), StandardCharsets.UTF_8).contains("Changed"));
+    }
+
+    @Test
+    void testCompressedContent() throws IOException {
+        RenderedDocument document = builder().buildUnmodifiable().render(Format.YAML);
+        byte[] identity = bytes(document.getContent());
+
+        try (InputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(bytes(document.getContent(Encoding.GZIP))))) {
+            assertEquals(new String(identity, StandardCharsets.UTF_8),
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        try (InputStream in = new InflaterInputStream(
+                new ByteArrayInputStream(bytes(document.getContent(Encoding.DEFLATE))))) {
+            assertEquals(new String(identity, StandardCharsets.UTF_8),
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        assertTrue(document.getLength(Encoding.GZIP) < document.getLength(Encoding.IDENTITY));
+        assertEquals(identity.length, document.getLength(Encoding.IDENTITY));
+    }
+
+    @Test
+    void testContentIsReadOnly() {
+        ByteBuffer content = builder().buildUnmodifiable().render(Format.JSON).getContent(Encoding.GZIP);
+        assertTrue(content.isReadOnly());
+        assertThrows(ReadOnlyBufferException.class, () -> content.put(0, (byte) 0));
+    }
+
+    @Test
+    void testETagMatching() {
+        RenderedDocument document = builder().buildUnmodifiable().render(Format.JSON);
+        String etag = document.getETag();
+        String gzipETag = document.getETag(Encoding.GZIP);
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertNotEquals(etag, gzipETag);
+        assertEquals(etag, builder().buildUnmodifiable().render(Format.JSON).getETag());
+
+        assertTrue(document.matches(etag, Encoding.IDENTITY));
+        assertTrue(document.matches("\"other\", W/" + gzipETag, Encoding.GZIP));
+        assertTrue(document.matches("*", Encoding.DEFLATE));
+        assertFalse(document.matches(etag, Encoding.GZIP));
+        assertFalse(document.matches("\"other\"", Encoding.IDENTITY));
+        assertFalse(document.matches(null, Encoding.IDENTITY));
+    }
+}
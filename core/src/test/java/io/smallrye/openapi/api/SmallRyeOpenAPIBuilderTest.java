@@ -1,22 +1,46 @@
 package io.smallrye.openapi.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.openapi.OASConfig;
 import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.openapi.model.ModelSnapshot;
+import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+import io.smallrye.openapi.runtime.io.Format;
+
 class SmallRyeOpenAPIBuilderTest {
 
     @Test
@@ -159,4 +183,246 @@ class SmallRyeOpenAPIBuilderTest {
         assertEquals("The initial description", initialModel.getInfo().getDescription());
         assertEquals("Description modified by filter", result.model().getInfo().getDescription());
     }
+
+    @Test
+    void testPrebuiltModelMatchesBuiltModel() throws Exception {
+        URL resource = getClass()
+                .getClassLoader()
+                .getResource("io/smallrye/openapi/runtime/io/_everything.yaml");
+
+        SmallRyeOpenAPI built = SmallRyeOpenAPI.builder()
+                .enableModelReader(false)
+                .enableStandardFilter(false)
+                .enableAnnotationScan(false)
+                .enableStandardStaticFiles(false)
+                .withCustomStaticFile(() -> {
+                    try {
+                        return resource.openStream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .build();
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        ModelSnapshot.write(built.model(), "test-hash", snapshot);
+        assertEquals("test-hash", ModelSnapshot.readInputHash(new ByteArrayInputStream(snapshot.toByteArray())));
+
+        SmallRyeOpenAPI.Builder builder = SmallRyeOpenAPI.builder()
+                .withPrebuiltModel(new ByteArrayInputStream(snapshot.toByteArray()));
+        SmallRyeOpenAPI prebuilt1 = builder.build();
+        SmallRyeOpenAPI prebuilt2 = builder.build();
+
+        assertEquals(built.toJSON(), prebuilt1.toJSON());
+        assertEquals(built.model(), prebuilt1.model());
+        assertNotSame(prebuilt1.model(), prebuilt2.model());
+    }
+
+    @Test
+    void testPrebuiltModelAppliesRuntimeConfig() throws Exception {
+        OpenAPI model = OASFactory.createOpenAPI()
+                .openapi("3.1.0")
+                .info(OASFactory.createInfo().title("Prebuilt").version("1.0"))
+                .addServer(OASFactory.createServer().url("https://build.example.com"))
+                .paths(OASFactory.createPaths());
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        ModelSnapshot.write(model, null, snapshot);
+
+        class UpdateInfoDescriptionFilter implements OASFilter {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getInfo().setDescription("Description modified by filter");
+            }
+        }
+
+        SmallRyeOpenAPI result = SmallRyeOpenAPI.builder()
+                .withConfig(new SmallRyeConfigBuilder()
+                        .withSources(new PropertiesConfigSource(
+                                Map.of(OASConfig.SERVERS, "https://runtime.example.com"),
+                                "unit-test",
+                                ConfigSource.DEFAULT_ORDINAL))
+                        .build())
+                .withPrebuiltModel(new ByteArrayInputStream(snapshot.toByteArray()))
+                .addFilter(new UpdateInfoDescriptionFilter())
+                .build();
+
+        assertEquals("Prebuilt", result.model().getInfo().getTitle());
+        assertEquals("Description modified by filter", result.model().getInfo().getDescription());
+        assertEquals(1, result.model().getServers().size());
+        assertEquals("https://runtime.example.com", result.model().getServers().get(0).getUrl());
+    }
+
+    @Test
+    void testInvalidPrebuiltModelRejected() {
+        SmallRyeOpenAPI.Builder builder = SmallRyeOpenAPI.builder();
+        ByteArrayInputStream invalid = new ByteArrayInputStream(new byte[] { 'o', 'p', 'e', 'n', 'a', 'p', 'i' });
+        assertThrows(OpenApiRuntimeException.class, () -> builder.withPrebuiltModel(invalid));
+    }
+
+    @Test
+    void testWriteToMatchesStrings() throws Exception {
+        URL resource = getClass()
+                .getClassLoader()
+                .getResource("io/smallrye/openapi/runtime/io/_everything.yaml");
+
+        SmallRyeOpenAPI result = SmallRyeOpenAPI.builder()
+                .enableModelReader(false)
+                .enableStandardFilter(false)
+                .enableAnnotationScan(false)
+                .enableStandardStaticFiles(false)
+                .withCustomStaticFile(() -> {
+                    try {
+                        return resource.openStream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .buildUnmodifiable();
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        result.writeTo(json, Format.JSON);
+        ByteArrayOutputStream yaml = new ByteArrayOutputStream();
+        result.writeTo(yaml, Format.YAML);
+
+        assertEquals(result.toJSON(), json.toString(StandardCharsets.UTF_8));
+        assertEquals(result.toYAML(), yaml.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPreparedVariants() throws Exception {
+        URL resource = getClass()
+                .getClassLoader()
+                .getResource("io/smallrye/openapi/runtime/io/_everything.yaml");
+
+        SmallRyeOpenAPI.Builder builder = SmallRyeOpenAPI.builder()
+                .enableModelReader(false)
+                .enableStandardFilter(false)
+                .enableAnnotationScan(false)
+                .enableStandardStaticFiles(false)
+                .withCustomStaticFile(() -> {
+                    try {
+                        return resource.openStream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        SmallRyeOpenAPI expected = builder.build();
+        SmallRyeOpenAPI.Prepared prepared = builder.prepare();
+        assertEquals(expected.toJSON(), prepared.build().toJSON());
+
+        class UpdateInfoDescriptionFilter implements OASFilter {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getInfo().setDescription("Description modified by filter");
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<SmallRyeOpenAPI>> variants = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> prepared.variant()
+                            .withConfig(new SmallRyeConfigBuilder()
+                                    .withSources(new PropertiesConfigSource(
+                                            Map.of(OASConfig.SERVERS, "https://tenant" + i + ".example.com"),
+                                            "unit-test",
+                                            ConfigSource.DEFAULT_ORDINAL))
+                                    .build())
+                            .addFilter(new UpdateInfoDescriptionFilter())
+                            .build()))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < variants.size(); i++) {
+                OpenAPI model = variants.get(i).get().model();
+                assertEquals(1, model.getServers().size());
+                assertEquals("https://tenant" + i + ".example.com", model.getServers().get(0).getUrl());
+                assertEquals("Description modified by filter", model.getInfo().getDescription());
+                assertEquals(expected.model().getPaths(), model.getPaths());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Variants do not modify the prepared model
+        assertEquals(expected.toJSON(), prepared.build().toJSON());
+    }
+
+    public static class UpdateInfoTitleFilter implements OASFilter {
+        @Override
+        public void filterOpenAPI(OpenAPI openAPI) {
+            openAPI.getInfo().setTitle("Title modified by filter");
+        }
+    }
+
+    @Test
+    void testPreparedPrebuiltVariantsMatchBuild() throws Exception {
+        OpenAPI model = OASFactory.createOpenAPI()
+                .openapi("3.1.0")
+                .info(OASFactory.createInfo().title("Prebuilt").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/test", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("test"))));
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        ModelSnapshot.write(model, null, snapshot);
+
+        Config config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(
+                        Map.of(OASConfig.SERVERS, "https://runtime.example.com",
+                                OASConfig.FILTER, UpdateInfoTitleFilter.class.getName()),
+                        "unit-test",
+                        ConfigSource.DEFAULT_ORDINAL))
+                .build();
+
+        SmallRyeOpenAPI.Builder builder = SmallRyeOpenAPI.builder()
+                .withPrebuiltModel(new ByteArrayInputStream(snapshot.toByteArray()));
+        SmallRyeOpenAPI.Prepared prepared = builder.prepare();
+        SmallRyeOpenAPI expected = builder.withConfig(config).build();
+        SmallRyeOpenAPI variant = prepared.variant().withConfig(config).build();
+
+        // The standard filter is not applied to a prebuilt model, only the servers of the configuration
+        assertEquals("Prebuilt", variant.model().getInfo().getTitle());
+        assertEquals("https://runtime.example.com", variant.model().getServers().get(0).getUrl());
+        assertEquals(expected.toJSON(), variant.toJSON());
+    }
+
+    @Test
+    void testPreparedVariantsShareUnmodifiedModel() throws Exception {
+        URL resource = getClass()
+                .getClassLoader()
+                .getResource("io/smallrye/openapi/runtime/io/_everything.yaml");
+
+        SmallRyeOpenAPI.Prepared prepared = SmallRyeOpenAPI.builder()
+                .enableModelReader(false)
+                .enableStandardFilter(false)
+                .enableAnnotationScan(false)
+                .enableStandardStaticFiles(false)
+                .withCustomStaticFile(() -> {
+                    try {
+                        return resource.openStream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .prepare();
+
+        OpenAPI variant1 = prepared.variant().addFilter(new UpdateInfoTitleFilter()).buildUnmodifiable().model();
+        OpenAPI variant2 = prepared.variant().buildUnmodifiable().model();
+
+        assertEquals("Title modified by filter", variant1.getInfo().getTitle());
+        assertNotEquals(variant1.getInfo(), variant2.getInfo());
+
+        // Parts of the model not modified by a variant are not copied
+        Map<String, Schema> schemas1 = variant1.getComponents().getSchemas();
+        Map<String, Schema> schemas2 = variant2.getComponents().getSchemas();
+        assertFalse(schemas1.isEmpty());
+        schemas1.forEach((name, schema) -> assertSame(schema, schemas2.get(name)));
+        variant1.getPaths().getPathItems().forEach((path, pathItem) -> {
+            if (pathItem.getGET() != null) {
+                assertSame(pathItem.getGET().getResponses(), variant2.getPaths().getPathItem(path).getGET().getResponses());
+            }
+        });
+    }
 }
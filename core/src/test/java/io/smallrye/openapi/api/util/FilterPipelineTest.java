@@ -0,0 +1,244 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.model.BaseModel;
+import io.smallrye.openapi.model.Extensions;
+import io.smallrye.openapi.model.FilterPipeline;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class FilterPipelineTest {
+
+    static class RecordingFilter implements OASFilter {
+        final String name;
+        final List<String> calls;
+
+        RecordingFilter(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            calls.add(name + ":" + schema.getDescription());
+            return "drop".equals(schema.getDescription()) ? null : schema;
+        }
+    }
+
+    @Test
+    void testNodeFiltersCombinedIntoSinglePass() {
+        List<OASFilter> filters = Arrays.asList(new RecordingFilter("a", null), new RecordingFilter("b", null),
+                Extensions.newRemovalFilter());
+        assertEquals(1, FilterPipeline.of(filters).passCount());
+    }
+
+    @Test
+    void testDocumentScopedFiltersEndPass() {
+        OASFilter openApiFilter = new OASFilter() {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.setOpenapi("3.1.0");
+            }
+        };
+
+        List<OASFilter> filters = Arrays.asList(new RecordingFilter("a", null),
+                openApiFilter,
+                new RecordingFilter("b", null),
+                new UnusedComponentFilter(),
+                new UnusedTagFilter(),
+                Extensions.newRemovalFilter());
+
+        // [a], [openApiFilter], [b], [UnusedComponentFilter], [UnusedTagFilter], [removal]
+        assertEquals(6, FilterPipeline.of(filters).passCount());
+        assertEquals(0, FilterPipeline.of(Collections.emptyList()).passCount());
+    }
+
+    @Test
+    void testUnusedComponentsCollectedAfterPrecedingFilters() throws Exception {
+        OASFilter removePathItem = new OASFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                return pathItem.getGET() != null && "foo".equals(pathItem.getGET().getOperationId()) ? null : pathItem;
+            }
+        };
+
+        OpenAPI sequential = filter(filter(newReferencingModel(), removePathItem), new UnusedComponentFilter());
+        OpenAPI fused = FilterPipeline.of(Arrays.asList(removePathItem, new UnusedComponentFilter()))
+                .apply(newReferencingModel());
+
+        assertEquals(Collections.emptyMap(), sequential.getComponents().getSchemas());
+        assertEquals(Collections.emptyMap(), fused.getComponents().getSchemas());
+        assertEquals(OpenApiSerializer.serialize(sequential, Format.JSON), OpenApiSerializer.serialize(fused, Format.JSON));
+    }
+
+    private static OpenAPI newReferencingModel() {
+        return OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/foo", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("foo")
+                                        .responses(OASFactory.createAPIResponses()
+                                                .addAPIResponse("200", OASFactory.createAPIResponse()
+                                                        .description("Foo")
+                                                        .content(OASFactory.createContent()
+                                                                .addMediaType("application/json",
+                                                                        OASFactory.createMediaType()
+                                                                                .schema(OASFactory.createSchema()
+                                                                                        .ref("Foo")))))))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Foo", OASFactory.createSchema().addType(Schema.SchemaType.STRING)));
+    }
+
+    @Test
+    void testFiltersAppliedInOrderPerNode() {
+        List<String> calls = new ArrayList<>();
+        Schema kept = OASFactory.createSchema().description("keep");
+        Schema dropped = OASFactory.createSchema().description("drop");
+        OpenAPI model = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents()
+                        .addSchema("Kept", kept.addProperty("nested", OASFactory.createSchema().description("nested")))
+                        .addSchema("Dropped", dropped));
+
+        FilterPipeline.of(Arrays.asList(new RecordingFilter("a", calls), new RecordingFilter("b", calls)))
+                .apply(model);
+
+        // Children before parents, every filter for a node before the next node, no calls after removal
+        assertEquals(Arrays.asList("a:nested", "b:nested", "a:keep", "b:keep", "a:drop"), calls);
+        assertEquals(Collections.singleton("Kept"), model.getComponents().getSchemas().keySet());
+    }
+
+    @Test
+    void testPipelineMatchesSequentialFilters() throws Exception {
+        List<OASFilter> filters = Arrays.asList(
+                new OASFilter() {
+                    @Override
+                    public PathItem filterPathItem(PathItem pathItem) {
+                        return pathItem.getRef() != null ? null : pathItem;
+                    }
+                },
+                new OASFilter() {
+                    @Override
+                    public Operation filterOperation(Operation operation) {
+                        if (operation.getTags() != null && operation.getTags().contains("tag-1")) {
+                            operation.removeTag("tag-1");
+                        }
+                        return operation;
+                    }
+                },
+                new OASFilter() {
+                    @Override
+                    public void filterOpenAPI(OpenAPI openAPI) {
+                        openAPI.addServer(OASFactory.createServer().url("urn:server"));
+                    }
+                });
+
+        OpenAPI sequential = OpenApiParser.parse(FilterPipelineTest.class.getResource("filter-before.json"));
+        for (OASFilter filter : filters) {
+            ((BaseModel<?>) sequential).filter(filter, new IdentityHashMap<>());
+        }
+        sequential = filter(sequential, new UnusedTagFilter());
+        sequential = filter(sequential, Extensions.newRemovalFilter());
+
+        List<OASFilter> all = new ArrayList<>(filters);
+        all.add(new UnusedTagFilter());
+        all.add(Extensions.newRemovalFilter());
+        OpenAPI fused = FilterPipeline.of(all)
+                .apply(OpenApiParser.parse(FilterPipelineTest.class.getResource("filter-before.json")));
+
+        assertEquals(OpenApiSerializer.serialize(sequential, Format.JSON), OpenApiSerializer.serialize(fused, Format.JSON));
+    }
+
+    @Test
+    void testRemovalFilterInPipeline() {
+        Schema schema = OASFactory.createSchema().addExtension("x-smallrye-profile-test", "");
+        OpenAPI model = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents().addSchema("Test", schema));
+
+        FilterPipeline.of(Collections.singletonList(Extensions.newRemovalFilter())).apply(model);
+
+        assertTrue(schema.getExtensions() == null || schema.getExtensions().isEmpty());
+        assertNull(FilterPipeline.of(Collections.singletonList(Extensions.newRemovalFilter())).apply(null));
+    }
+
+    @Test
+    void testFrozenModelCopiedOnWrite() {
+        List<String> calls = new ArrayList<>();
+        OpenAPI frozen = BaseModel.freeze(OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Frozen").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/test", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("test")
+                                        .addExtension("x-smallrye-profile-test", ""))))
+                .components(OASFactory.createComponents()
+                        .addSchema("kept", OASFactory.createSchema().description("keep"))
+                        .addSchema("dropped", OASFactory.createSchema().description("drop"))));
+
+        OpenAPI result = FilterPipeline.of(List.of(new RecordingFilter("a", calls), Extensions.newRemovalFilter()))
+                .apply(frozen);
+        assertNotSame(frozen, result);
+        assertEquals(Arrays.asList("a:keep", "a:drop"), calls);
+
+        // Freezing the result retains the frozen nodes it shares with the original model
+        BaseModel.freeze(result);
+        assertSame(frozen.getInfo(), result.getInfo());
+        assertNotSame(frozen.getPaths(), result.getPaths());
+        assertNotSame(frozen.getComponents(), result.getComponents());
+        assertEquals(Set.of("kept"), result.getComponents().getSchemas().keySet());
+        assertTrue(result.getPaths().getPathItem("/test").getGET().getExtensions().isEmpty());
+
+        // The original is unchanged
+        assertEquals(Set.of("kept", "dropped"), frozen.getComponents().getSchemas().keySet());
+        assertEquals(Set.of("x-smallrye-profile-test"),
+                frozen.getPaths().getPathItem("/test").getGET().getExtensions().keySet());
+    }
+
+    @Test
+    void testUnfreezeCopiesOnRead() {
+        OpenAPI frozen = BaseModel.freeze(OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo().title("Frozen").version("1.0"))
+                .components(OASFactory.createComponents()
+                        .addSchema("Test", OASFactory.createSchema().description("frozen"))));
+
+        OpenAPI copy = BaseModel.unfreeze(frozen);
+        copy.getInfo().setTitle("Copy");
+        copy.getComponents().getSchemas().get("Test").setDescription("copy");
+        copy.getComponents().addSchema("Added", OASFactory.createSchema());
+
+        assertTrue(((BaseModel<?>) frozen).isFrozen());
+        assertFalse(((BaseModel<?>) copy).isFrozen());
+        assertEquals("Copy", copy.getInfo().getTitle());
+        assertEquals("copy", copy.getComponents().getSchemas().get("Test").getDescription());
+        assertEquals("Frozen", frozen.getInfo().getTitle());
+        assertEquals("frozen", frozen.getComponents().getSchemas().get("Test").getDescription());
+        assertEquals(Set.of("Test"), frozen.getComponents().getSchemas().keySet());
+
+        OpenAPI modifiable = OASFactory.createOpenAPI();
+        assertSame(modifiable, BaseModel.unfreeze(modifiable));
+    }
+
+    private static OpenAPI filter(OpenAPI model, OASFilter filter) {
+        ((BaseModel<?>) model).filter(filter, new IdentityHashMap<>());
+        return model;
+    }
+}
@@ -0,0 +1,71 @@
+package io.smallrye.openapi.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.jupiter.api.Test;
+
+class ExtensionsTest {
+
+    @Test
+    void testPrivateExtensionsHeldApart() {
+        Schema schema = OASFactory.createSchema().addExtension("x-public", "value");
+        Extensions.setName(schema, "MySchema");
+        BaseExtensibleModel<?> model = (BaseExtensibleModel<?>) schema;
+
+        assertEquals("MySchema", Extensions.getName(schema));
+        assertEquals(Map.of("x-public", "value"), schema.getExtensions());
+        assertEquals(Map.of("x-public", "value"), model.getAllProperties());
+        assertFalse(model.getModelProperties().containsKey(Extensions.PRIVATE_EXT_PREFIX + "name"));
+        assertTrue(schema.hasExtension(Extensions.PRIVATE_EXT_PREFIX + "name"));
+        assertEquals(2, model.getAllExtensions().size());
+
+        Schema other = OASFactory.createSchema().addExtension("x-public", "value");
+        assertNotEquals(schema, other);
+        Extensions.setName(other, "MySchema");
+        assertEquals(schema, other);
+        assertEquals(schema.hashCode(), other.hashCode());
+
+        Extensions.setName(schema, null);
+        assertNull(Extensions.getName(schema));
+        assertFalse(schema.hasExtension(Extensions.PRIVATE_EXT_PREFIX + "name"));
+    }
+
+    @Test
+    void testPrivateExtensionsCopied() throws IOException {
+        Schema schema = OASFactory.createSchema().type(List.of(Schema.SchemaType.STRING));
+        Extensions.setName(schema, "MySchema");
+        OpenAPI openAPI = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents().addSchema("MySchema", schema));
+
+        OpenAPI copy = BaseModel.deepCopy(openAPI, OpenAPI.class);
+        assertEquals("MySchema", Extensions.getName(copy.getComponents().getSchemas().get("MySchema")));
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        ModelSnapshot.write(openAPI, null, snapshot);
+        OpenAPI read = ModelSnapshot.read(new ByteArrayInputStream(snapshot.toByteArray()));
+        assertEquals("MySchema", Extensions.getName(read.getComponents().getSchemas().get("MySchema")));
+        assertEquals(openAPI, read);
+
+        Schema merged = OASFactory.createSchema();
+        ((BaseModel<?>) merged).merge((BaseExtensibleModel) schema);
+        assertEquals("MySchema", Extensions.getName(merged));
+
+        BaseModel.freeze(openAPI);
+        assertEquals("MySchema", Extensions.getName(schema));
+        assertThrows(UnsupportedOperationException.class, () -> Extensions.setName(schema, "Other"));
+    }
+}
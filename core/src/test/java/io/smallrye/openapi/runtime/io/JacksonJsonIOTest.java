@@ -1,10 +1,19 @@
 package io.smallrye.openapi.runtime.io;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.Locale;
 import java.util.Properties;
 
+import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -12,6 +21,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.openapi.model.BaseModel;
+import io.smallrye.openapi.runtime.io.JsonIO.PropertyMapper;
+
 class JacksonJsonIOTest extends JsonIOTest<JsonNode, ArrayNode, ObjectNode, ArrayNode, ObjectNode> {
 
     private Properties originalSystemProperties;
@@ -37,4 +49,42 @@ class JacksonJsonIOTest extends JsonIOTest<JsonNode, ArrayNode, ObjectNode, Arra
     void teardown() {
         System.setProperties(originalSystemProperties);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "_everything.json",
+            "paths-get-requestBody.json",
+            "schemas-with-extra-properties.json",
+    })
+    void testWriteMatchesToJsonWithPropertyMapper(String resource) throws IOException {
+        OpenAPIDefinitionIO<JsonNode, ArrayNode, ObjectNode, ArrayNode, ObjectNode> modelIO = new OpenAPIDefinitionIO<>(
+                IOContext.forJson(target));
+        OpenAPI model;
+
+        try (InputStream stream = getClass().getResourceAsStream(resource)) {
+            model = modelIO.readValue(target.fromStream(stream, Format.JSON));
+        }
+
+        PropertyMapper<JsonNode, ObjectNode> propertyMapper = new PropertyMapper<>() {
+            @Override
+            public void mapObject(BaseModel<?> object, ObjectNode nodeBuilder) {
+                // Rewrites and counts the properties already converted
+                JsonNode description = nodeBuilder.get("description");
+
+                if (description != null && description.isTextual()) {
+                    nodeBuilder.put("description", description.textValue().toUpperCase(Locale.ROOT));
+                }
+
+                nodeBuilder.put("x-property-count", nodeBuilder.size());
+            }
+        };
+
+        for (Format format : Format.values()) {
+            String expected = target.toString(target.toJson(model, target.nullValue(), propertyMapper), format);
+
+            StringWriter writer = new StringWriter();
+            target.write(model, propertyMapper, writer, format);
+            assertEquals(expected, writer.toString(), resource + " as " + format);
+        }
+    }
 }
@@ -5,16 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
+import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import io.smallrye.openapi.api.SmallRyeOASConfig;
 
@@ -126,4 +131,45 @@ abstract class JsonIOTest<V, A extends V, O extends V, AB, OB> {
         assertEquals("putResource2", target.getString(r2post, "operationId"));
 
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "_everything.json",
+            "_everything30.json",
+            "extensions.json",
+            "paths-get-requestBody.json",
+            "paths-ref.json",
+            "schemas-discriminator30.json",
+            "schemas-with-nullable-reference30.json",
+            "schemas-with-extra-properties.json",
+            "components-schemas.json",
+            "schemas-discriminator.json",
+            "schemas-with-additionalProperties.json",
+            "schemas-with-allOf.json",
+            "schemas-with-composition.json",
+            "schemas-with-example.json",
+            "schemas-with-xml.json",
+    })
+    void testWriteMatchesToString(String resource) throws IOException {
+        assumeTrue(getClass().equals(JacksonJsonIOTest.class), "Writing models only supported for JacksonJsonIO");
+
+        OpenAPIDefinitionIO<V, A, O, AB, OB> modelIO = new OpenAPIDefinitionIO<>(IOContext.forJson(target));
+        OpenAPI model;
+
+        try (InputStream stream = getClass().getResourceAsStream(resource)) {
+            model = modelIO.readValue(target.fromStream(stream, Format.JSON));
+        }
+
+        for (Format format : Format.values()) {
+            String expected = target.toString(modelIO.write(model).orElseThrow(), format);
+
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            modelIO.write(model, stream, format);
+            assertEquals(expected, stream.toString(StandardCharsets.UTF_8), resource + " as " + format);
+
+            StringWriter writer = new StringWriter();
+            modelIO.write(model, writer, format);
+            assertEquals(expected, writer.toString(), resource + " as " + format);
+        }
+    }
 }
@@ -3,12 +3,14 @@ package io.smallrye.openapi.runtime.io;
 import static io.smallrye.openapi.runtime.scanner.IndexScannerTestBase.loadResource;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -677,6 +679,40 @@ class OpenApiParserAndSerializerTest {
         }
     }
 
+    @Test
+    void testStreamingReadMatchesTreeRead() throws IOException {
+        String versionLast = "{ \"info\": { \"title\": \"Versioned last\", \"version\": \"1.0\" },"
+                + " \"components\": { \"schemas\": { \"Name\": { \"type\": \"string\", \"nullable\": true } } },"
+                + " \"openapi\": \"3.0.3\" }";
+
+        for (JsonIO<?, ?, ?, ?, ?> jsonIO : new JsonIO<?, ?, ?, ?, ?>[] { new JacksonJsonIO(), new JakartaJsonIO() }) {
+            assertStreamingReadMatchesTreeRead(jsonIO, loadResource(getClass().getResource("_everything.json")),
+                    Format.JSON);
+            assertStreamingReadMatchesTreeRead(jsonIO, loadResource(getClass().getResource("_everything.yaml")),
+                    Format.YAML);
+            assertStreamingReadMatchesTreeRead(jsonIO, loadResource(getClass().getResource("_everything30.yaml")),
+                    Format.YAML);
+            OpenAPI model = assertStreamingReadMatchesTreeRead(jsonIO, versionLast, Format.JSON);
+            assertEquals("3.0.3", model.getOpenapi());
+            assertEquals(2, model.getComponents().getSchemas().get("Name").getType().size());
+            assertNull(assertStreamingReadMatchesTreeRead(jsonIO, "[]", Format.JSON));
+        }
+    }
+
+    private static <V> OpenAPI assertStreamingReadMatchesTreeRead(JsonIO<V, ?, ?, ?, ?> jsonIO, String document,
+            Format format) throws IOException {
+        OpenAPI expected = new OpenAPIDefinitionIO<>(IOContext.forJson(jsonIO))
+                .readValue(jsonIO.fromString(document, format));
+        OpenAPI actual;
+
+        try (JsonIO.TokenReader<V> reader = jsonIO.reader(new StringReader(document), format)) {
+            actual = new OpenAPIDefinitionIO<>(IOContext.forJson(jsonIO)).readValue(reader);
+        }
+
+        assertEquals(expected, actual);
+        return actual;
+    }
+
     @Test
     void testSerializeLongKeyPreserved() throws IOException {
         OpenAPI doc = OASFactory.createOpenAPI();
@@ -240,6 +240,41 @@ class FilteredIndexViewTest {
         assertTrue(view.accepts(DotName.createSimple("int")));
     }
 
+    @Test
+    void testAccepts_LongestOfMultiplePackagePatterns() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OASConfig.SCAN_PACKAGES, "^org.example.a.b, ^org.example.a.b.c$");
+        properties.put(OASConfig.SCAN_EXCLUDE_PACKAGES, "^org.example, ^org.example.a.b.c.d");
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        FilteredIndexView view = new FilteredIndexView(null, config);
+        assertFalse(view.accepts(DotName.createSimple("org.example.a.MyClassA")));
+        assertTrue(view.accepts(DotName.createSimple("org.example.a.b.MyClassB")));
+        assertTrue(view.accepts(DotName.createSimple("org.example.a.b.c.MyClassC")));
+        assertFalse(view.accepts(DotName.createSimple("org.example.a.b.c.d.MyClassD")));
+        assertFalse(view.accepts(DotName.createSimple("com.example.MyClass")));
+    }
+
+    @Test
+    void testAccepts_RepeatedLookupsWithAndWithoutImpliedInclusion() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OASConfig.SCAN_EXCLUDE_PACKAGES, "org.example.a, org.example.b, org.example.c");
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        FilteredIndexView view = new FilteredIndexView(null, config);
+        DotName other = DotName.createSimple("org.example.d.MyClass");
+        DotName excluded = DotName.createComponentized(
+                DotName.createComponentized(DotName.createComponentized(DotName.createComponentized(null, "org"), "example"),
+                        "b"),
+                "MyClass");
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(view.accepts(other));
+            assertFalse(view.explicitlyAccepts(other));
+            assertFalse(view.accepts(excluded));
+            assertFalse(view.accepts(DotName.createSimple("org.example.b.MyClass")));
+            assertFalse(view.accepts(DotName.createSimple("org.example.b.OtherClass")));
+        }
+    }
+
     @Test
     void testGetAnnotationsWithRepeatable() {
         class Target {
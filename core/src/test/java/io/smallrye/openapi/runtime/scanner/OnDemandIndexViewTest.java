@@ -0,0 +1,120 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+
+class OnDemandIndexViewTest extends IndexScannerTestBase {
+
+    @Schema(name = "Pet")
+    static class Pet {
+        public String name;
+        public Owner owner;
+    }
+
+    static class Owner extends Person {
+        public Address address;
+    }
+
+    static class Person {
+        public String name;
+    }
+
+    static class Address {
+        public String street;
+    }
+
+    static class Unreferenced {
+        public String name;
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private Path jarOf(String name, Class<?>... classes) throws IOException {
+        Path jar = tempDir.resolve(name);
+
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (Class<?> clazz : classes) {
+                String resourceName = clazz.getName().replace('.', '/') + ".class";
+                jarOut.putNextEntry(new JarEntry(resourceName));
+
+                try (InputStream in = clazz.getClassLoader().getResourceAsStream(resourceName)) {
+                    in.transferTo(jarOut);
+                }
+
+                jarOut.closeEntry();
+            }
+        }
+
+        return jar;
+    }
+
+    private static OpenAPI scan(IndexView index) {
+        return SmallRyeOpenAPI.builder()
+                .withConfig(config(Collections.emptyMap()))
+                .enableModelReader(false)
+                .enableStandardFilter(false)
+                .enableStandardStaticFiles(false)
+                .withIndex(index)
+                .build()
+                .model();
+    }
+
+    @Test
+    void testClassesIndexedOnDemand() throws IOException {
+        try (OnDemandIndexView index = new OnDemandIndexView(indexOf(Pet.class))) {
+            index.addJar(jarOf("people.jar", Owner.class, Person.class));
+            index.addJar(jarOf("other.jar", Address.class, Unreferenced.class));
+
+            assertEquals(0, index.getLoadedClassCount());
+            assertNotNull(index.getClassByName(DotName.createSimple(Pet.class)));
+            assertEquals(0, index.getLoadedClassCount());
+
+            assertEquals(DotName.createSimple(Person.class),
+                    index.getClassByName(DotName.createSimple(Owner.class)).superName());
+            assertEquals(1, index.getLoadedClassCount());
+
+            assertNull(index.getClassByName(DotName.createSimple("com.example.Missing")));
+            assertNull(index.getClassByName(DotName.createSimple(OnDemandIndexViewTest.class.getName() + "$Missing")));
+            assertEquals(1, index.getLoadedClassCount());
+
+            // Queries other than lookups by name are answered by the application index
+            assertTrue(index.getAllKnownSubclasses(DotName.createSimple(Person.class)).isEmpty());
+            assertEquals(1, index.getKnownClasses().size());
+        }
+    }
+
+    @Test
+    void testScanResolvesReachableClasses() throws IOException {
+        OpenAPI expected = scan(indexOf(Pet.class, Owner.class, Person.class, Address.class));
+
+        try (OnDemandIndexView index = new OnDemandIndexView(indexOf(Pet.class))) {
+            index.addJar(jarOf("people.jar", Owner.class, Person.class));
+            index.addJar(jarOf("other.jar", Address.class, Unreferenced.class));
+
+            assertEquals(expected, scan(index));
+            // Owner, Person and Address, but not Unreferenced
+            assertEquals(3, index.getLoadedClassCount());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+
+class ScanDependenciesTest extends IndexScannerTestBase {
+
+    @Schema(name = "Pet")
+    static class Pet {
+        public String name;
+        public Owner owner;
+    }
+
+    static class Owner {
+        public String name;
+    }
+
+    @Schema(name = "Toy")
+    static class Toy {
+        public String name;
+    }
+
+    static class Unrelated {
+        public String name;
+    }
+
+    private static final List<DotName> UNRELATED = Collections.singletonList(DotName.createSimple(Unrelated.class));
+
+    private static SmallRyeOpenAPI.Builder builder(Index index) {
+        return SmallRyeOpenAPI.builder()
+                .withConfig(config(Collections.emptyMap()))
+                .enableModelReader(false)
+                .enableStandardFilter(false)
+                .enableStandardStaticFiles(false)
+                .withIndex(index)
+                .enableScanReuse(true);
+    }
+
+    @Test
+    void testScanReusedForUnrelatedChange() {
+        Index index = indexOf(Pet.class, Owner.class, Unrelated.class);
+        ScanDependencies dependencies = ScanDependencies.recording(index);
+        new OpenApiAnnotationScanner(emptyConfig(), dependencies.index()).scan();
+
+        assertFalse(dependencies.isAffectedBy(index, UNRELATED));
+        assertFalse(dependencies.isAffectedBy(index, Collections.emptyList()));
+        assertTrue(dependencies.isAffectedBy(index, Collections.singletonList(DotName.createSimple(Pet.class))));
+        // Referenced from a field of a scanned class
+        assertTrue(dependencies.isAffectedBy(index, Collections.singletonList(DotName.createSimple(Owner.class))));
+    }
+
+    @Test
+    void testNewlyAnnotatedClassRequiresScan() {
+        ScanDependencies dependencies = ScanDependencies.recording(indexOf(Pet.class, Owner.class));
+        new OpenApiAnnotationScanner(emptyConfig(), dependencies.index()).scan();
+
+        Index updated = indexOf(Pet.class, Owner.class, Toy.class);
+        assertTrue(dependencies.isAffectedBy(updated, Collections.singletonList(DotName.createSimple(Toy.class))));
+    }
+
+    @Test
+    void testBuilderSkipsUnaffectedScan() {
+        Index index = indexOf(Pet.class, Owner.class, Unrelated.class);
+        SmallRyeOpenAPI first = builder(index).build();
+
+        SmallRyeOpenAPI second = builder(index)
+                .withPreviousBuild(first, UNRELATED)
+                .build();
+
+        OpenAPI model = second.model();
+        assertNotSame(first.model(), model);
+        assertNotSame(first.model().getComponents().getSchemas().get("Pet"), model.getComponents().getSchemas().get("Pet"));
+        assertEquals(first.toJSON(), second.toJSON());
+
+        Index updated = indexOf(Pet.class, Owner.class, Toy.class, Unrelated.class);
+        SmallRyeOpenAPI third = builder(updated)
+                .withPreviousBuild(second, Collections.singletonList(DotName.createSimple(Toy.class)))
+                .build();
+
+        assertTrue(third.model().getComponents().getSchemas().containsKey("Toy"));
+    }
+
+    @Test
+    void testBuilderRepeatsAffectedScan() {
+        Index index = indexOf(Pet.class, Owner.class, Toy.class);
+        SmallRyeOpenAPI first = builder(index).build();
+        assertTrue(first.model().getComponents().getSchemas().containsKey("Pet"));
+
+        // A change to a scanned class repeats the complete scan
+        Index updated = indexOf(Owner.class, Toy.class);
+        SmallRyeOpenAPI second = builder(updated)
+                .withPreviousBuild(first, Collections.singletonList(DotName.createSimple(Pet.class)))
+                .build();
+
+        assertFalse(second.model().getComponents().getSchemas().containsKey("Pet"));
+        assertTrue(second.model().getComponents().getSchemas().containsKey("Toy"));
+    }
+}
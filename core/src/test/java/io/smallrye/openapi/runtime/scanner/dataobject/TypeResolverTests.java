@@ -3,10 +3,15 @@ package io.smallrye.openapi.runtime.scanner.dataobject;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -1002,4 +1007,34 @@ class TypeResolverTests extends IndexScannerTestBase {
         assertNull(properties.get("field2").getWriteMethod());
     }
 
+    @Test
+    void testPropertiesRetainedByContext() {
+        @SuppressWarnings("unused")
+        class Bean {
+            public String field1;
+            @JsonView(Bean.class)
+            public String field2;
+        }
+
+        AnnotationScannerContext context = buildContext(emptyConfig(), Bean.class);
+        Map<String, TypeResolver> properties = getProperties(context, Bean.class);
+        assertSame(properties, getProperties(context, Bean.class));
+        assertThrows(UnsupportedOperationException.class, properties::clear);
+
+        context.getJsonViews().put(Type.create(DotName.createSimple(String.class), Type.Kind.CLASS), true);
+        Map<String, TypeResolver> viewProperties = getProperties(context, Bean.class);
+        assertNotSame(properties, viewProperties);
+        assertFalse(properties.get("field2").isIgnored());
+        assertTrue(viewProperties.get("field2").isIgnored());
+    }
+
+    @Test
+    void testRetainedPropertiesIndependentOfContext() {
+        // Retained resolvers may be used with any context of the scan, e.g. forks of a parallel scan
+        for (Field field : TypeResolver.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                assertFalse(AnnotationScannerContext.class.isAssignableFrom(field.getType()), field::getName);
+            }
+        }
+    }
 }
@@ -1,18 +1,22 @@
 package io.smallrye.openapi.runtime.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.OASFactory;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.Index;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -181,4 +185,48 @@ class AnnotationsTest extends IndexScannerTestBase {
 
         assertEquals(2, annotations.size());
     }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Label {
+        String value();
+    }
+
+    @Label("inner")
+    @Outer
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Inner {
+    }
+
+    @Label("outer")
+    @Inner
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Outer {
+    }
+
+    @Test
+    void testNestedComposedAnnotationOrder() throws IOException {
+        class Bean {
+            @Label("field")
+            @Outer
+            String target;
+
+            String unannotated;
+        }
+
+        FilteredIndexView index = new FilteredIndexView(Index.of(Bean.class, Label.class, Inner.class, Outer.class,
+                Retention.class), emptyConfig());
+        AnnotationScannerContext context = new AnnotationScannerContext(index, Thread.currentThread().getContextClassLoader(),
+                Collections.emptyList(),
+                emptyConfig(), OASFactory.createOpenAPI());
+        Annotations annotations = context.annotations();
+        DotName label = DotName.createSimple(Label.class);
+        FieldInfo target = index.getClassByName(Bean.class).field("target");
+
+        List<AnnotationInstance> labels = annotations.getRepeatableAnnotation(target, label, DotName.createSimple("none"));
+        assertEquals(Arrays.asList("field", "outer", "inner"),
+                labels.stream().map(a -> a.value().asString()).collect(Collectors.toList()));
+        assertEquals("field", annotations.<String> getAnnotationValue(target, label));
+        assertTrue(annotations.hasAnnotation(target, DotName.createSimple(Inner.class)));
+        assertFalse(annotations.hasAnnotation(index.getClassByName(Bean.class).field("unannotated"), label));
+    }
 }
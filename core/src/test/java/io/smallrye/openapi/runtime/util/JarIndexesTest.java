@@ -0,0 +1,107 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JarIndexesTest {
+
+    static final long INDEX_TIME = 1_700_000_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPackagedIndexRead() throws IOException {
+        File jar = writeJar("current.jar", -1, INDEX_TIME);
+        Index index = JarIndexes.read(jar);
+
+        assertNotNull(index);
+        assertNotNull(index.getClassByName(DotName.createSimple(JarIndexesTest.class.getName())));
+    }
+
+    @Test
+    void testJarWithoutIndex() throws IOException {
+        File jar = tempDir.resolve("empty.jar").toFile();
+
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+            out.putNextEntry(new JarEntry("Test.class"));
+            out.closeEntry();
+        }
+
+        assertNull(JarIndexes.read(jar));
+    }
+
+    @Test
+    void testOldIndexVersionIgnored() throws IOException {
+        assertNull(JarIndexes.read(writeJar("old.jar", JarIndexes.MIN_JAR_INDEX_VERSION - 1, INDEX_TIME)));
+        assertNotNull(JarIndexes.read(writeJar("min.jar", JarIndexes.MIN_JAR_INDEX_VERSION, INDEX_TIME)));
+    }
+
+    @Test
+    void testStaleIndexIgnored() throws IOException {
+        assertNull(JarIndexes.read(writeJar("stale.jar", -1, INDEX_TIME - 60_000)));
+    }
+
+    @Test
+    void testUnreadableIndexIgnored() throws IOException {
+        File jar = tempDir.resolve("invalid.jar").toFile();
+
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+            out.putNextEntry(new JarEntry(JarIndexes.JAR_INDEX));
+            out.write(new byte[] { 'n', 'o', 't', 'a', 'n', 'i', 'd', 'x' });
+            out.closeEntry();
+        }
+
+        assertNull(JarIndexes.read(jar));
+    }
+
+    /**
+     * Write a jar holding a class entry and an index of this test class
+     *
+     * @param version index format version, or -1 for the current version
+     * @param indexTime modification time of the index entry
+     */
+    private File writeJar(String name, int version, long indexTime) throws IOException {
+        Index index = Index.of(JarIndexesTest.class);
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+
+        if (version < 0) {
+            new IndexWriter(indexBytes).write(index);
+        } else {
+            new IndexWriter(indexBytes).write(index, version);
+        }
+
+        File jar = tempDir.resolve(name).toFile();
+
+        try (OutputStream file = Files.newOutputStream(jar.toPath());
+                JarOutputStream out = new JarOutputStream(file)) {
+            JarEntry classEntry = new JarEntry(JarIndexesTest.class.getName().replace('.', '/') + ".class");
+            classEntry.setTime(INDEX_TIME - 1_000);
+            out.putNextEntry(classEntry);
+            out.closeEntry();
+
+            JarEntry indexEntry = new JarEntry(JarIndexes.JAR_INDEX);
+            indexEntry.setTime(indexTime);
+            out.putNextEntry(indexEntry);
+            out.write(indexBytes.toByteArray());
+            out.closeEntry();
+        }
+
+        return jar;
+    }
+}
@@ -0,0 +1,82 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+class PrebuiltIndexesTest {
+
+    @Test
+    void testPrebuiltIndexesMatchIndexedClasses() {
+        assertSameClasses(PrebuiltIndexes.index(PrebuiltIndexes.JDK_CLASSES, PrebuiltIndexes.OPTIONAL_JDK_CLASSES),
+                PrebuiltIndexes.jdk());
+        assertSameClasses(PrebuiltIndexes.index(PrebuiltIndexes.STANDIN_CLASSES, Collections.emptyList()),
+                PrebuiltIndexes.standins());
+        assertSame(PrebuiltIndexes.jdk(), TypeUtil.jdkIndex);
+    }
+
+    @Test
+    void testMissingClassesIndexedAtRuntime() {
+        List<String> classNames = Arrays.asList(String.class.getName(), PrebuiltIndexesTest.class.getName());
+        IndexView index = PrebuiltIndexes.load(PrebuiltIndexes.STANDIN_INDEX, PrebuiltIndexes.ANY_JDK, classNames,
+                Collections.emptyList());
+
+        for (String className : classNames) {
+            assertNotNull(index.getClassByName(DotName.createSimple(className)), className);
+        }
+        assertNotNull(index.getClassByName(DotName.createSimple(PrebuiltIndexes.STANDIN_CLASSES.get(0))));
+    }
+
+    @Test
+    void testMissingIndexResource() {
+        IndexView index = PrebuiltIndexes.load("missing.idx", PrebuiltIndexes.ANY_JDK, PrebuiltIndexes.STANDIN_CLASSES,
+                Collections.singletonList("com.example.DoesNotExist"));
+
+        assertInstanceOf(Index.class, index);
+        assertEquals(PrebuiltIndexes.STANDIN_CLASSES.size(), index.getKnownClasses().size());
+    }
+
+    @Test
+    void testIndexWrittenByOtherJdkIgnored() throws IOException {
+        Index index = PrebuiltIndexes.index(PrebuiltIndexes.STANDIN_CLASSES, Collections.emptyList());
+        int jdkVersion = Runtime.version().feature();
+
+        assertNotNull(PrebuiltIndexes.read(serialize(jdkVersion, index), jdkVersion));
+        assertNotNull(PrebuiltIndexes.read(serialize(jdkVersion + 1, index), PrebuiltIndexes.ANY_JDK));
+        assertNull(PrebuiltIndexes.read(serialize(jdkVersion + 1, index), jdkVersion));
+        assertNull(PrebuiltIndexes.read(serialize(jdkVersion - 1, index), jdkVersion));
+    }
+
+    private static InputStream serialize(int jdkVersion, Index index) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrebuiltIndexes.write(out, jdkVersion, index);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static void assertSameClasses(IndexView expected, IndexView actual) {
+        assertEquals(expected.getKnownClasses().size(), actual.getKnownClasses().size());
+
+        for (ClassInfo clazz : expected.getKnownClasses()) {
+            ClassInfo prebuilt = actual.getClassByName(clazz.name());
+            assertNotNull(prebuilt, clazz.name().toString());
+            assertEquals(clazz.interfaceNames().toString(), prebuilt.interfaceNames().toString());
+            assertEquals(clazz.typeParameters().toString(), prebuilt.typeParameters().toString());
+        }
+    }
+}
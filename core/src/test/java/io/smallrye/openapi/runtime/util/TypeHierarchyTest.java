@@ -0,0 +1,91 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class TypeHierarchyTest {
+
+    interface Named {
+    }
+
+    interface Labeled extends Named {
+    }
+
+    static class Base implements Named, Serializable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class Middle extends Base implements Labeled {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class Leaf extends Middle implements Comparable<Leaf> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compareTo(Leaf o) {
+            return 0;
+        }
+    }
+
+    private static DotName name(Class<?> clazz) {
+        return DotName.createSimple(clazz);
+    }
+
+    @Test
+    void testSuperTypes() {
+        Index index = IndexScannerTestBase.indexOf(Named.class, Labeled.class, Base.class, Middle.class, Leaf.class);
+        TypeHierarchy hierarchy = TypeHierarchy.of(index);
+        TypeHierarchy.SuperTypes superTypes = hierarchy.superTypes(index.getClassByName(name(Leaf.class)));
+
+        for (Class<?> clazz : Arrays.asList(Middle.class, Base.class, Object.class, Named.class, Labeled.class,
+                Serializable.class, Comparable.class)) {
+            assertTrue(superTypes.contains(name(clazz)), clazz.getName());
+        }
+        assertFalse(superTypes.contains(name(Leaf.class)));
+        assertTrue(superTypes.isComplete());
+        assertSame(superTypes, hierarchy.superTypes(index.getClassByName(name(Leaf.class))));
+    }
+
+    @Test
+    void testSuperTypesIncomplete() {
+        Index index = IndexScannerTestBase.indexOf(Middle.class, Leaf.class);
+        TypeHierarchy hierarchy = new TypeHierarchy(index::getClassByName);
+        TypeHierarchy.SuperTypes superTypes = hierarchy.superTypes(index.getClassByName(name(Leaf.class)));
+
+        assertTrue(superTypes.contains(name(Base.class)));
+        assertFalse(superTypes.contains(name(Named.class)));
+        assertFalse(superTypes.isComplete());
+    }
+
+    @Test
+    void testSuperClassesAndInterfaces() {
+        Index index = IndexScannerTestBase.indexOf(Named.class, Labeled.class, Base.class, Middle.class, Leaf.class);
+        TypeHierarchy hierarchy = new TypeHierarchy(index::getClassByName);
+        ClassInfo leaf = index.getClassByName(name(Leaf.class));
+
+        assertEquals(Arrays.asList(name(Middle.class), name(Base.class)),
+                hierarchy.superClasses(leaf).stream().map(ClassInfo::name).collect(Collectors.toList()));
+
+        List<DotName> interfaces = hierarchy.interfaces(index.getClassByName(name(Middle.class)))
+                .stream()
+                .map(Type::name)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(name(Labeled.class), name(Named.class)), interfaces);
+    }
+}
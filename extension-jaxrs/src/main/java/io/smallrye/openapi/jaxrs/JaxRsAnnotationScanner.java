@@ -45,6 +45,7 @@ import io.smallrye.openapi.runtime.scanner.ResourceParameters;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AbstractAnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
@@ -64,14 +65,36 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         String nameString = name.toString();
         return nameString.startsWith(JAKARTA_PACKAGE) || nameString.startsWith(JAVAX_PACKAGE);
     };
+    private static final Collection<DotName> MARKER_ANNOTATIONS = Collections.unmodifiableList(
+            Stream.concat(JaxRsConstants.PATH.stream(), JaxRsConstants.APPLICATION_PATH.stream())
+                    .collect(Collectors.toList()));
 
     private final Deque<JaxRsSubResourceLocator> subResourceStack = new LinkedList<>();
+    private Collection<ClassInfo> applications = Collections.emptyList();
 
     @Override
     public String getName() {
         return "JAX-RS";
     }
 
+    @Override
+    public Collection<DotName> getMarkerAnnotations() {
+        return MARKER_ANNOTATIONS;
+    }
+
+    /**
+     * In addition to the marker annotations, JAX-RS applications may be
+     * declared by sub-classing {@code Application} and resource classes may
+     * be given in the configuration.
+     */
+    @Override
+    public boolean isApplicable(AnnotationScannerContext context) {
+        return AnnotationScanner.hasAnnotations(context.getIndex(), MARKER_ANNOTATIONS)
+                || JaxRsConstants.APPLICATION.stream()
+                        .anyMatch(application -> !context.getIndex().getAllKnownSubclasses(application).isEmpty())
+                || !context.getConfig().getScanResourceClasses().isEmpty();
+    }
+
     @Override
     public boolean isWrapperType(Type type) {
         return type.name().equals(RestEasyConstants.REACTIVE_REST_RESPONSE)
@@ -167,6 +190,7 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         }
         // this can be a useful extension point to set/override the application path
         processScannerExtensions(context, applications);
+        this.applications = applications;
 
         for (ClassInfo classInfo : applications) {
             OpenAPI applicationOpenApi = processApplicationClass(classInfo);
@@ -213,14 +237,51 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         resourceClasses.addAll(getJaxRsResourceClasses());
         resourceClasses.addAll(getConfigurationResourceClasses());
 
-        for (ClassInfo resourceClass : resourceClasses) {
-            TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
-            context.getResolverStack().push(resolver);
+        context.scan(resourceClasses, !declaresSecuritySchemes(resourceClasses), (taskContext, resourceClass) -> {
+            JaxRsAnnotationScanner scanner = scannerFor(taskContext);
+            OpenAPI taskOpenApi = taskContext == context ? openApi : taskContext.getOpenApi();
+            TypeResolver resolver = TypeResolver.forClass(taskContext, resourceClass, null);
+            taskContext.getResolverStack().push(resolver);
             // Process tags (both declarations and references).
-            Set<String> tags = processResourceClassTags(openApi, resourceClass);
-            processResourceClass(openApi, resourceClass, null, tags);
-            context.getResolverStack().pop();
+            Set<String> tags = scanner.processResourceClassTags(taskOpenApi, resourceClass);
+            scanner.processResourceClass(taskOpenApi, resourceClass, null, tags);
+            taskContext.getResolverStack().pop();
+        });
+    }
+
+    /**
+     * Determine whether any of the resource classes (other than an application
+     * class) declare security schemes. Such schemes may affect the
+     * processing of other resource classes, so these are scanned sequentially.
+     */
+    private boolean declaresSecuritySchemes(Collection<ClassInfo> resourceClasses) {
+        return resourceClasses.stream()
+                .filter(resourceClass -> !applications.contains(resourceClass))
+                .anyMatch(resourceClass -> context.io().securitySchemeIO().hasRepeatableAnnotation(resourceClass));
+    }
+
+    /**
+     * Obtain a scanner for use with the given context, either this scanner
+     * when the context is the one in use or a copy of this scanner otherwise.
+     * The copy is retained as the context's current scanner and reused for
+     * the later targets scanned with the same context.
+     */
+    private JaxRsAnnotationScanner scannerFor(AnnotationScannerContext taskContext) {
+        if (taskContext == context) {
+            return this;
         }
+
+        AnnotationScanner current = taskContext.getCurrentScanner().orElse(null);
+
+        if (current != this && current instanceof JaxRsAnnotationScanner) {
+            return (JaxRsAnnotationScanner) current;
+        }
+
+        JaxRsAnnotationScanner scanner = new JaxRsAnnotationScanner();
+        scanner.copyOf(this, taskContext);
+        scanner.applications = applications;
+        taskContext.setCurrentScanner(scanner);
+        return scanner;
     }
 
     /**
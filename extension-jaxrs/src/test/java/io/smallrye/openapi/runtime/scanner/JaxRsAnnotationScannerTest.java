@@ -3,7 +3,9 @@ package io.smallrye.openapi.runtime.scanner;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -17,6 +19,7 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.MediaType;
 
 import org.eclipse.microprofile.config.Config;
@@ -54,9 +57,13 @@ import io.smallrye.openapi.api.OpenApiConfig.OperationIdStrategy;
 import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.OperationIdGenerator;
 import io.smallrye.openapi.api.SmallRyeOASConfig;
+import io.smallrye.openapi.jaxrs.JaxRsAnnotationScanner;
 import io.smallrye.openapi.runtime.OpenApiRuntimeException;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
 
 /**
  * @author eric.wittmann@gmail.com
@@ -635,4 +642,38 @@ class JaxRsAnnotationScannerTest extends JaxRsDataObjectScannerTestBase {
         assertThat(message, containsString("SROAP00003"));
         assertThat(message, containsString(strategyName));
     }
+
+    @Test
+    void testScannerApplicability() {
+        @Path("/resource")
+        class MarkedResource {
+            @GET
+            public String get() {
+                return "";
+            }
+        }
+
+        class UnmarkedResource {
+            public String get() {
+                return "";
+            }
+        }
+
+        class CustomApplication extends Application {
+        }
+
+        AnnotationScanner scanner = new AnnotationScannerFactory(getClass().getClassLoader())
+                .getAnnotationScanners()
+                .stream()
+                .filter(JaxRsAnnotationScanner.class::isInstance)
+                .findFirst()
+                .orElseThrow();
+        ClassLoader loader = getClass().getClassLoader();
+
+        assertTrue(scanner.isApplicable(new AnnotationScannerContext(indexOf(MarkedResource.class), loader, emptyConfig())));
+        assertTrue(scanner.isApplicable(new AnnotationScannerContext(indexOf(CustomApplication.class), loader, emptyConfig())));
+        assertFalse(scanner.isApplicable(new AnnotationScannerContext(indexOf(UnmarkedResource.class), loader, emptyConfig())));
+        assertTrue(scanner.isApplicable(new AnnotationScannerContext(indexOf(UnmarkedResource.class), loader,
+                dynamicConfig(SmallRyeOASConfig.SCAN_RESOURCE_CLASS_PREFIX + UnmarkedResource.class.getName(), "/unmarked"))));
+    }
 }
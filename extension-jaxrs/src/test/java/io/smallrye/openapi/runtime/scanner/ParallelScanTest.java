@@ -0,0 +1,155 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.SmallRyeOASConfig;
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+import io.smallrye.openapi.runtime.io.Format;
+
+class ParallelScanTest extends IndexScannerTestBase {
+
+    static SmallRyeOpenAPI scan(Index index, int parallelism) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(SmallRyeOASConfig.SCAN_PARALLELISM, String.valueOf(parallelism));
+        properties.put(SmallRyeOASConfig.DUPLICATE_OPERATION_ID_BEHAVIOR, "WARN");
+
+        return SmallRyeOpenAPI.builder()
+                .withIndex(index)
+                .withConfig(config(properties))
+                .build();
+    }
+
+    static String scanToJson(Index index, int parallelism) {
+        return scan(index, parallelism).toJSON();
+    }
+
+    static byte[] scanToBytes(Index index, int parallelism, Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scan(index, parallelism).writeTo(out, format);
+        return out.toByteArray();
+    }
+
+    @Test
+    void testParallelScanMatchesSequentialScan() {
+        Index index = indexOf(test.io.smallrye.openapi.runtime.scanner.jakarta.FruitResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.FruitResource2.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.FruitResource3.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.GreetResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Greetable.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.KingCrimson.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.KingCrimsonResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Magma.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.MagmaResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Residents.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.ResidentsResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.ExampleResource1.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.ExampleResource2.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.MultiProduceConsumeResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Sub1TestResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Sub2TestResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Sub3TestResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.RecursiveLocatorResource.class);
+
+        String expected = scanToJson(index, 1);
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertEquals(expected, scanToJson(index, 4));
+        }
+    }
+
+    @Test
+    void testParallelScanMatchesSequentialScanAllResources() {
+        Indexer indexer = new Indexer();
+        indexDirectory(indexer, "test/io/smallrye/openapi/runtime/scanner/entities/");
+        indexDirectory(indexer, "test/io/smallrye/openapi/runtime/scanner/jakarta/");
+        indexDirectory(indexer, "test/io/smallrye/openapi/runtime/scanner/resources/");
+        Index index = indexer.complete();
+
+        assertEquals(scanToJson(index, 1), scanToJson(index, 0));
+    }
+
+    @Test
+    void testParallelScanOutputIsByteIdentical() throws IOException {
+        Indexer indexer = new Indexer();
+        indexDirectory(indexer, "test/io/smallrye/openapi/runtime/scanner/entities/");
+        indexDirectory(indexer, "test/io/smallrye/openapi/runtime/scanner/jakarta/");
+        indexDirectory(indexer, "test/io/smallrye/openapi/runtime/scanner/resources/");
+        Index index = indexer.complete();
+
+        for (Format format : Format.values()) {
+            byte[] expected = scanToBytes(index, 1, format);
+
+            // Different chunk boundaries, including more chunks than available processors
+            for (int parallelism : new int[] { 2, 3, 7, 64 }) {
+                assertArrayEquals(expected, scanToBytes(index, parallelism, format),
+                        () -> format + " output differs with parallelism " + parallelism);
+            }
+        }
+    }
+
+    static class Item {
+        public String name;
+        public List<Item> children;
+    }
+
+    static class Page<T> {
+        public List<T> items;
+        public int total;
+    }
+
+    @Path("/first")
+    static class FirstItemResource {
+        @GET
+        public Page<Item> list() {
+            return null;
+        }
+
+        @POST
+        public Item create(Item item) {
+            return item;
+        }
+    }
+
+    @Path("/second")
+    static class SecondItemResource {
+        @GET
+        public Page<Item> list() {
+            return null;
+        }
+
+        @GET
+        @Path("/item")
+        public Item get() {
+            return null;
+        }
+    }
+
+    @Test
+    void testChunksResolveSameBeanType() {
+        Index index = indexOf(Item.class, Page.class, FirstItemResource.class, SecondItemResource.class);
+        String expected = scanToJson(index, 1);
+
+        // One chunk per resource, both resolving the properties of Item and Page<Item>
+        for (int attempt = 0; attempt < 5; attempt++) {
+            SmallRyeOpenAPI result = scan(index, 2);
+            assertEquals(expected, result.toJSON());
+            assertNotNull(result.model().getComponents().getSchemas().get("Item"));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.smallrye.openapi.spring;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -44,6 +45,9 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class SpringAnnotationScanner extends AbstractAnnotationScanner {
+    private static final Collection<DotName> MARKER_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+            SpringConstants.REST_CONTROLLER,
+            SpringConstants.REQUEST_MAPPING));
     private static final String SPRING_PACKAGE = "org.springframework.web";
 
     @Override
@@ -51,6 +55,11 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         return "Spring";
     }
 
+    @Override
+    public Collection<DotName> getMarkerAnnotations() {
+        return MARKER_ANNOTATIONS;
+    }
+
     @Override
     public boolean isWrapperType(Type type) {
         return type.name().equals(SpringConstants.RESPONSE_ENTITY) && type.kind().equals(Type.Kind.PARAMETERIZED_TYPE);
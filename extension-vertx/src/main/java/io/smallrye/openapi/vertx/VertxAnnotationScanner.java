@@ -46,6 +46,11 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
         return "Vert.x";
     }
 
+    @Override
+    public Collection<DotName> getMarkerAnnotations() {
+        return Collections.singletonList(VertxConstants.ROUTE);
+    }
+
     @Override
     public boolean isAsyncResponse(final MethodInfo method) {
         return false;
@@ -9,7 +9,6 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 
-import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
 
@@ -19,8 +18,15 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
     private static final Set<String> INITIAL_SET = Collections.emptySet();
 
     private Set<String> extensionNames = INITIAL_SET;
+    /**
+     * Implementation-specific extensions (see {@link Extensions#PRIVATE_EXT_PREFIX}),
+     * kept apart from the model's properties so that they never need to be
+     * filtered from the properties or extensions. Created on first use.
+     */
+    private Map<String, Object> privateExtensions;
 
-    protected BaseExtensibleModel() {
+    protected BaseExtensibleModel(PropertyMetadata metadata) {
+        super(metadata);
     }
 
     private void assertNotExtension(String name, String messageTemplate) {
@@ -45,39 +51,78 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
             return false;
         }
         if (obj instanceof BaseExtensibleModel) {
-            return Objects.equals(extensionNames, ((BaseExtensibleModel<?>) obj).extensionNames);
+            BaseExtensibleModel<?> other = (BaseExtensibleModel<?>) obj;
+            return Objects.equals(extensionNames, other.extensionNames)
+                    && Objects.equals(getPrivateExtensions(), other.getPrivateExtensions());
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return super.hashCode() * 31 + Objects.hash(extensionNames);
+        // Private extension values may refer to other models, only their names are hashed
+        return super.hashCode() * 31 + Objects.hash(extensionNames, getPrivateExtensions().keySet());
+    }
+
+    /**
+     * @return the names of the extensions present in the model's properties,
+     *         or null when no extensions have ever been set
+     */
+    Set<String> getExtensionNames() {
+        return extensionNames == INITIAL_SET ? null : extensionNames;
+    }
+
+    void setExtensionNames(Set<String> extensionNames) {
+        this.extensionNames = extensionNames;
+    }
+
+    /**
+     * @return the private extensions of the model, keyed by their full name
+     */
+    Map<String, Object> getPrivateExtensions() {
+        return privateExtensions != null ? privateExtensions : Collections.emptyMap();
+    }
+
+    void setPrivateExtension(String name, Object value) {
+        if (value != null) {
+            if (privateExtensions == null) {
+                privateExtensions = new LinkedHashMap<>(2);
+            }
+            privateExtensions.put(name, value);
+        } else if (privateExtensions != null) {
+            privateExtensions.remove(name);
+        }
     }
 
     @Override
     void setUnmodifiable() {
         super.setUnmodifiable();
         extensionNames = Collections.unmodifiableSet(extensionNames);
+        privateExtensions = Collections.unmodifiableMap(getPrivateExtensions());
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public C filter(OASFilter filter, Map<Object, Object> stack) {
-        if (filter instanceof Extensions.ExtensionRemovalFilter) {
-            ((Extensions.ExtensionRemovalFilter) filter).filterExtensible((C) this);
+    void freeze() {
+        super.freeze();
+        if (extensionNames != INITIAL_SET) {
+            extensionNames = Collections.unmodifiableSet(extensionNames);
         }
-        return super.filter(filter, stack);
+        privateExtensions = privateExtensions != null ? Collections.unmodifiableMap(privateExtensions)
+                : Collections.emptyMap();
     }
 
-    /**
-     * Returns a read-only view of all properties, excluding private extensions.
-     */
     @Override
-    public Map<String, Object> getAllProperties() {
-        Map<String, Object> properties = new LinkedHashMap<>(super.getAllProperties());
-        properties.keySet().removeIf(Extensions::isPrivateExtension);
-        return Collections.unmodifiableMap(properties);
+    BaseModel<C> lazyCopy() {
+        BaseExtensibleModel<C> copy = (BaseExtensibleModel<C>) super.lazyCopy();
+
+        if (extensionNames != INITIAL_SET) {
+            copy.extensionNames = new LinkedHashSet<>(extensionNames);
+        }
+        if (!getPrivateExtensions().isEmpty()) {
+            copy.privateExtensions = new LinkedHashMap<>(privateExtensions);
+        }
+
+        return copy;
     }
 
     @Override
@@ -148,20 +193,20 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
     }
 
     private Map<String, Object> getExtensions(boolean includePrivate) {
-        if (extensionNames.isEmpty()) {
-            return extensionNames == INITIAL_SET ? null : Collections.emptyMap();
-        }
+        boolean withPrivate = includePrivate && !getPrivateExtensions().isEmpty();
 
-        if (!includePrivate && extensionNames.stream().allMatch(Extensions::isPrivateExtension)) {
-            return null; // NOSONAR
+        if (extensionNames.isEmpty() && !withPrivate) {
+            return extensionNames == INITIAL_SET ? null : Collections.emptyMap();
         }
 
-        Map<String, Object> ext = new LinkedHashMap<>(extensionNames.size());
+        Map<String, Object> ext = new LinkedHashMap<>(extensionNames.size() + (withPrivate ? privateExtensions.size() : 0));
 
         for (String name : extensionNames) {
-            if (includePrivate || !Extensions.isPrivateExtension(name)) {
-                ext.put(name, super.getProperty(name));
-            }
+            ext.put(name, super.getProperty(name));
+        }
+
+        if (withPrivate) {
+            ext.putAll(privateExtensions);
         }
 
         return Collections.unmodifiableMap(ext);
@@ -173,6 +218,13 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
     @Override
     @SuppressWarnings("unchecked")
     public C addExtension(String name, Object value) {
+        if (isFrozen()) {
+            throw new UnsupportedOperationException();
+        }
+        if (Extensions.isPrivateExtension(name)) {
+            setPrivateExtension(name, value);
+            return (C) this;
+        }
         if (value != null) {
             if (extensionNames == INITIAL_SET) {
                 extensionNames = new LinkedHashSet<>(1);
@@ -189,7 +241,12 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
      */
     @Override
     public void removeExtension(String name) {
-        if (extensionNames.remove(name)) {
+        if (Extensions.isPrivateExtension(name)) {
+            if (isFrozen()) {
+                throw new UnsupportedOperationException();
+            }
+            setPrivateExtension(name, null);
+        } else if (extensionNames.remove(name)) {
             // Only remove the property if it was one of the existing extensions
             super.setProperty(name, null);
         }
@@ -201,9 +258,7 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
     @Override
     public void setExtensions(Map<String, Object> extensions) {
         for (String name : Set.copyOf(extensionNames)) {
-            if (!Extensions.isPrivateExtension(name)) {
-                removeExtension(name);
-            }
+            removeExtension(name);
         }
 
         if (extensions == null || extensions.isEmpty()) {
@@ -217,11 +272,17 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
 
     @Override
     public boolean hasExtension(String name) {
+        if (Extensions.isPrivateExtension(name)) {
+            return getPrivateExtensions().containsKey(name);
+        }
         return extensionNames.contains(name);
     }
 
     @Override
     public Object getExtension(String name) {
+        if (Extensions.isPrivateExtension(name)) {
+            return getPrivateExtensions().get(name);
+        }
         if (hasExtension(name)) {
             return super.getProperty(name);
         }
@@ -247,6 +308,12 @@ public abstract class BaseExtensibleModel<C extends Extensible<C> & Constructibl
             }
         }
 
+        if (other instanceof BaseExtensibleModel) {
+            ((BaseExtensibleModel<?>) other).getPrivateExtensions()
+                    .forEach((name, value) -> setPrivateExtension(name,
+                            BaseModelSupport.mergeObjects(getPrivateExtensions().get(name), value)));
+        }
+
         super.merge(other);
     }
 }
@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Reference;
@@ -21,9 +22,14 @@ public abstract class BaseModel<C extends Constructible> {
         MERGE_VALUES
     }
 
-    private Map<String, Object> properties = new LinkedHashMap<>(2);
+    private Map<String, Object> properties;
     private int modCount;
     private int hash = 0;
+    /**
+     * Whether this model is a {@linkplain #unfreeze(Constructible) lazy copy}
+     * that may still hold frozen children.
+     */
+    private boolean copyOnRead;
 
     public static <O extends Constructible> O deepCopy(O other, Class<O> type) {
         return deepCopy(other, type, false);
@@ -33,11 +39,57 @@ public abstract class BaseModel<C extends Constructible> {
         return BaseModelSupport.deepCopy(other, type, unmodifiable);
     }
 
+    /**
+     * Make the model and everything reachable from it unmodifiable, in place.
+     * Equal sub-trees of the model are replaced by a single shared instance and
+     * the hash code of each node is computed once and retained. The lists and
+     * maps held by the model are replaced by unmodifiable copies, so
+     * collections given to the model remain modifiable by their owner. Any
+     * attempt to modify a frozen node results in an
+     * {@link UnsupportedOperationException}. A frozen model may be safely
+     * shared by multiple threads.
+     *
+     * @param model the model to freeze
+     * @throws UnsupportedOperationException when the model contains a
+     *         {@link Constructible} that is not a {@code BaseModel}
+     * @return the frozen model, possibly a different (equal) instance when the model
+     *         was found to be equal to one of its own sub-trees
+     */
+    public static <O extends Constructible> O freeze(O model) {
+        return BaseModelSupport.freeze(model);
+    }
+
+    /**
+     * Obtain a modifiable version of a model. A {@linkplain #freeze(Constructible)
+     * frozen} model is copied lazily: only the root is copied immediately and
+     * each frozen node reachable from the copy is copied in turn when it is
+     * first read via its (copied) parent or when it is modified by a
+     * {@link FilterPipeline}. Parts of the model that are never read or
+     * modified remain shared with the frozen model, which is left unchanged.
+     *
+     * @param model the model
+     * @return a lazy copy of the model when it is frozen, otherwise the model itself
+     */
+    public static <O extends Constructible> O unfreeze(O model) {
+        if (model instanceof BaseModel && ((BaseModel<?>) model).isFrozen()) {
+            @SuppressWarnings("unchecked")
+            O copy = (O) ((BaseModel<?>) model).lazyCopy().constructible();
+            return copy;
+        }
+        return model;
+    }
+
     public static <C extends Constructible, T extends BaseModel<C>> T merge(T object1, T object2) {
         return BaseModelSupport.mergeObjects(object1, object2);
     }
 
-    protected BaseModel() {
+    /**
+     * @param metadata metadata of the model's properties, the same as returned by
+     *        {@link #getPropertyMetadata()}. When null, properties are held in a map
+     *        rather than in slots.
+     */
+    protected BaseModel(PropertyMetadata metadata) {
+        properties = new ModelProperties(metadata);
     }
 
     protected void incrementModCount() {
@@ -56,6 +108,71 @@ public abstract class BaseModel<C extends Constructible> {
         this.properties = Collections.unmodifiableMap(properties);
     }
 
+    void freeze() {
+        // Any hash computed while the model was modifiable may be stale
+        hash = 0;
+        copyOnRead = false;
+        if (properties instanceof ModelProperties) {
+            ((ModelProperties) properties).freeze();
+        } else {
+            properties = Collections.unmodifiableMap(properties);
+        }
+    }
+
+    /**
+     * Create a modifiable copy of this frozen model holding the same values,
+     * with its own copy of each list and map. Frozen children are copied when
+     * first read, see {@link #unfreeze(Constructible)}.
+     */
+    BaseModel<C> lazyCopy() {
+        @SuppressWarnings("unchecked")
+        BaseModel<C> copy = (BaseModel<C>) OASFactory.createObject(BaseModelSupport.findConstructible(getClass()));
+
+        for (Entry<String, Object> entry : properties.entrySet()) {
+            copy.properties.put(entry.getKey(), BaseModelSupport.modifiableCopy(entry.getValue()));
+        }
+
+        copy.copyOnRead = true;
+        return copy;
+    }
+
+    /**
+     * Replace all frozen children of a lazy copy by lazy copies of their own,
+     * before any of them are read from or modified via this model. Single
+     * properties are copied when read, see {@link #getProperty(String)}.
+     */
+    private void unfreezeChildren() {
+        if (copyOnRead) {
+            copyOnRead = false;
+
+            for (Entry<String, Object> entry : properties.entrySet()) {
+                Object value = entry.getValue();
+                Object replacement = BaseModelSupport.unfreezeValue(value);
+
+                if (replacement != value) {
+                    entry.setValue(replacement);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the model has been {@linkplain #freeze(Constructible) frozen}
+     */
+    public boolean isFrozen() {
+        return properties instanceof ModelProperties && ((ModelProperties) properties).isFrozen();
+    }
+
+    /**
+     * Hash of the model's properties, retained once the model is frozen.
+     */
+    int hash(Map<Object, Object> stack) {
+        if (hash != 0 && isFrozen()) {
+            return hash;
+        }
+        return BaseModelSupport.hash(stack, this);
+    }
+
     @Override
     public String toString() {
         return String.valueOf(properties);
@@ -98,7 +215,24 @@ public abstract class BaseModel<C extends Constructible> {
     public abstract PropertyMetadata getPropertyMetadata();
 
     public C filter(OASFilter filter, Map<Object, Object> stack) {
+        if (isFrozen()) {
+            // Copy-on-write, the frozen model is left unchanged
+            return BaseModelSupport.filterFrozen(filter, stack, this);
+        }
         this.modCount += BaseModelSupport.filter(filter, stack, properties);
+        return filterNode(filter);
+    }
+
+    /**
+     * Apply the provided filter to this instance only, via
+     * {@link PipelineFilter#filterNode(BaseModel)} when supported by the
+     * filter, otherwise via {@link #filter(OASFilter)}.
+     */
+    C filterNode(OASFilter filter) {
+        if (filter instanceof PipelineFilter) {
+            return ((PipelineFilter) filter).filterNode(this);
+        }
+
         return filter(filter);
     }
 
@@ -127,6 +261,9 @@ public abstract class BaseModel<C extends Constructible> {
      * @param other the other {@link BaseModel} object
      */
     public <T extends BaseModel<C>> void merge(T other) {
+        unfreezeChildren();
+        ((BaseModel<?>) other).unfreezeChildren();
+
         for (Entry<String, Object> entry : other.getModelProperties().entrySet()) {
             String name = entry.getKey();
             MergeDirective mergeDirective = mergeDirective(name);
@@ -174,6 +311,7 @@ public abstract class BaseModel<C extends Constructible> {
      * Returns a read-only view of all properties.
      */
     public Map<String, Object> getAllProperties() {
+        unfreezeChildren();
         return Collections.unmodifiableMap(properties);
     }
 
@@ -190,6 +328,7 @@ public abstract class BaseModel<C extends Constructible> {
      */
     @SuppressWarnings("unchecked")
     protected <T> Map<String, T> getProperties(Class<T> type) {
+        unfreezeChildren();
         Map<String, T> result = new LinkedHashMap<>(properties.size());
 
         for (Map.Entry<String, Object> entry : properties.entrySet()) {
@@ -203,7 +342,18 @@ public abstract class BaseModel<C extends Constructible> {
 
     @SuppressWarnings("unchecked")
     protected <T> T getProperty(String name) {
-        return (T) properties.get(name);
+        Object value = properties.get(name);
+
+        if (copyOnRead) {
+            Object replacement = BaseModelSupport.unfreezeValue(value);
+
+            if (replacement != value) {
+                properties.put(name, replacement);
+                value = replacement;
+            }
+        }
+
+        return (T) value;
     }
 
     protected <T> T getProperty(String name, Class<T> type) {
@@ -2,6 +2,8 @@ package io.smallrye.openapi.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -54,7 +56,7 @@ class BaseModelSupport {
         int result = 0;
 
         if (value instanceof BaseModel) {
-            result = hash(stack, (BaseModel<?>) value);
+            result = ((BaseModel<?>) value).hash(stack);
         } else if (value instanceof Map) {
             @SuppressWarnings("unchecked")
             Map<String, Object> map = (Map<String, Object>) value;
@@ -142,6 +144,164 @@ class BaseModelSupport {
         return modCount;
     }
 
+    /**
+     * Filter a frozen model without modifying it. The model is
+     * {@linkplain BaseModel#lazyCopy() copied} only when the filter replaces or
+     * removes one of its children or when the filter
+     * {@linkplain FilterPipeline#appliesTo(OASFilter, BaseModel) applies} to the
+     * model itself, otherwise the frozen model is the result.
+     */
+    static <C extends Constructible> C filterFrozen(OASFilter filter, Map<Object, Object> stack, BaseModel<C> model) {
+        BaseModel<C> result = model;
+
+        for (Map.Entry<String, Object> entry : model.getModelProperties().entrySet()) {
+            Object value = entry.getValue();
+            Object replacement = filterFrozen(filter, stack, value);
+
+            if (replacement != value) {
+                if (result == model) {
+                    result = model.lazyCopy();
+                }
+                if (replacement == null) {
+                    result.getModelProperties().remove(entry.getKey());
+                } else {
+                    result.getModelProperties().put(entry.getKey(), replacement);
+                }
+            }
+        }
+
+        if (result == model) {
+            if (!FilterPipeline.appliesTo(filter, model)) {
+                return model.constructible();
+            }
+            result = model.lazyCopy();
+        }
+
+        return result.filterNode(filter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object filterFrozen(OASFilter filter, Map<Object, Object> stack, Object value) {
+        if (value instanceof List) {
+            return filterFrozen(filter, stack, (List<Object>) value);
+        } else if (value instanceof Map) {
+            return filterFrozen(filter, stack, (Map<String, Object>) value);
+        } else {
+            return filterFrozenModel(filter, stack, value);
+        }
+    }
+
+    private static Object filterFrozenModel(OASFilter filter, Map<Object, Object> stack, Object value) {
+        if (stack.containsKey(value)) {
+            ModelLogging.logger.cylicReferenceDetected();
+            return value;
+        } else if (value instanceof BaseModel) {
+            stack.put(value, value);
+            Object replacement = ((BaseModel<?>) value).filter(filter, stack);
+            stack.remove(value);
+            return replacement;
+        }
+        return value;
+    }
+
+    private static List<Object> filterFrozen(OASFilter filter, Map<Object, Object> stack, List<Object> list) {
+        List<Object> result = null;
+
+        for (int i = 0, m = list.size(); i < m; i++) {
+            Object value = list.get(i);
+            Object replacement = filterFrozenModel(filter, stack, value);
+
+            if (replacement != value && result == null) {
+                result = new ArrayList<>(list.subList(0, i));
+            }
+            if (result != null && replacement != null) {
+                result.add(replacement);
+            }
+        }
+
+        return result != null ? result : list;
+    }
+
+    private static Map<String, Object> filterFrozen(OASFilter filter, Map<Object, Object> stack, Map<String, Object> map) {
+        Map<String, Object> result = null;
+        int index = 0;
+
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object replacement = filterFrozen(filter, stack, value);
+
+            if (replacement != value && result == null) {
+                result = new LinkedHashMap<>(map.size());
+                Iterator<Map.Entry<String, Object>> prior = map.entrySet().iterator();
+
+                for (int i = 0; i < index; i++) {
+                    Map.Entry<String, Object> priorEntry = prior.next();
+                    result.put(priorEntry.getKey(), priorEntry.getValue());
+                }
+            }
+            if (result != null && replacement != null) {
+                result.put(entry.getKey(), replacement);
+            }
+
+            index++;
+        }
+
+        return result != null ? result : map;
+    }
+
+    //// Support methods for BaseModel#unfreeze
+
+    /**
+     * Modifiable copy of a list or map held by a frozen model, other values are
+     * returned as-is.
+     */
+    static Object modifiableCopy(Object value) {
+        if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        } else if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        return value;
+    }
+
+    /**
+     * Replace a frozen model, or the frozen models held by a (modifiable) list
+     * or map, with lazy copies.
+     */
+    @SuppressWarnings("unchecked")
+    static Object unfreezeValue(Object value) {
+        if (value instanceof BaseModel) {
+            return BaseModel.unfreeze((Constructible) value);
+        } else if (value instanceof List) {
+            ListIterator<Object> cursor = ((List<Object>) value).listIterator();
+
+            while (cursor.hasNext()) {
+                Object element = cursor.next();
+
+                if (element instanceof BaseModel) {
+                    Object replacement = BaseModel.unfreeze((Constructible) element);
+
+                    if (replacement != element) {
+                        cursor.set(replacement);
+                    }
+                }
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, Object> entry : ((Map<?, Object>) value).entrySet()) {
+                Object element = entry.getValue();
+
+                if (element instanceof BaseModel) {
+                    Object replacement = BaseModel.unfreeze((Constructible) element);
+
+                    if (replacement != element) {
+                        entry.setValue(replacement);
+                    }
+                }
+            }
+        }
+        return value;
+    }
+
     //// Support methods for BaseModel#deepCopy
 
     @SuppressWarnings("unchecked")
@@ -212,7 +372,7 @@ class BaseModelSupport {
     }
 
     @SuppressWarnings("unchecked")
-    private static <C extends Constructible> Class<C> findConstructible(Class<?> type) {
+    static <C extends Constructible> Class<C> findConstructible(Class<?> type) {
         for (Class<?> i : type.getInterfaces()) {
             if (Constructible.class.equals(i)) {
                 return (Class<C>) type;
@@ -238,6 +398,121 @@ class BaseModelSupport {
         return findConstructible(parent);
     }
 
+    //// Support methods for BaseModel#freeze
+
+    @SuppressWarnings("unchecked")
+    static <O extends Constructible> O freeze(O model) {
+        if (model != null && !(model instanceof BaseModel)) {
+            // Maybe support non-BaseModel implementations in the future
+            throw new UnsupportedOperationException("Only BaseModel types may be frozen: " + model.getClass());
+        }
+        return (O) new Freezer().freeze(model);
+    }
+
+    /**
+     * Freezes a model depth-first. Each node is frozen after its children, then
+     * interned: a node equal to one already frozen (of the same class) is replaced
+     * by that instance in its parent. Nodes that are part of, or that reach, a
+     * reference cycle are frozen but not interned.
+     *
+     * Lists and maps held by the nodes are replaced by unmodifiable copies
+     * holding the frozen values, rather than being modified, since they may be
+     * shared with (and later modified by) the caller or may themselves be
+     * unmodifiable, e.g. {@code List.of}.
+     */
+    private static class Freezer {
+        private final Map<Object, Object> active = new IdentityHashMap<>();
+        private final Map<Object, Object> frozen = new IdentityHashMap<>();
+        private final Set<Object> cyclic = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Class<?>, Map<Object, Object>> interned = new HashMap<>();
+        private boolean reachesCycle;
+
+        Object freeze(Object value) {
+            if (value instanceof BaseModel) {
+                return freeze((BaseModel<?>) value);
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                Map<Object, Object> result = new LinkedHashMap<>(map.size());
+
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    result.put(entry.getKey(), freeze(entry.getValue()));
+                }
+
+                return Collections.unmodifiableMap(result);
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                List<Object> result = new ArrayList<>(list.size());
+
+                for (Object element : list) {
+                    result.add(freeze(element));
+                }
+
+                return Collections.unmodifiableList(result);
+            } else if (value instanceof Constructible) {
+                throw new UnsupportedOperationException("Only BaseModel types may be frozen: " + value.getClass());
+            } else {
+                return value;
+            }
+        }
+
+        /**
+         * Replace the values of a map owned by the model being frozen
+         */
+        private void freezeValues(Map<?, Object> map) {
+            for (Map.Entry<?, Object> entry : map.entrySet()) {
+                Object value = entry.getValue();
+                Object replacement = freeze(value);
+
+                if (replacement != value) {
+                    entry.setValue(replacement);
+                }
+            }
+        }
+
+        private Object freeze(BaseModel<?> model) {
+            Object result = frozen.get(model);
+
+            if (result != null) {
+                reachesCycle |= cyclic.contains(model);
+                return result;
+            }
+
+            if (active.containsKey(model) || model.isFrozen()) {
+                // Reference cycle, or frozen previously as part of a different model
+                reachesCycle |= !model.isFrozen();
+                return model;
+            }
+
+            boolean parentReachesCycle = reachesCycle;
+            reachesCycle = false;
+            active.put(model, model);
+            freezeValues(model.getModelProperties());
+
+            if (model instanceof BaseExtensibleModel) {
+                freezeValues(((BaseExtensibleModel<?>) model).getPrivateExtensions());
+            }
+            active.remove(model);
+            model.freeze();
+
+            if (reachesCycle) {
+                cyclic.add(model);
+                result = model;
+            } else {
+                // Computed once, retained by the frozen model
+                model.hashCode();
+                result = interned.computeIfAbsent(model.getClass(), k -> new HashMap<>()).putIfAbsent(model, model);
+
+                if (result == null) {
+                    result = model;
+                }
+            }
+
+            frozen.put(model, result);
+            reachesCycle |= parentReachesCycle;
+            return result;
+        }
+    }
+
     //// Support methods for BaseModel#merge
 
     public static <C extends Constructible, T> T mergeObjects(T object1, T object2) {
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.media.Schema;
@@ -26,11 +27,27 @@ public final class Extensions {
     private static final String EXT_PROFILE_PREFIX = "x-smallrye-profile-";
     private static final String EXT_DIRECTIVES = "x-smallrye-directives";
 
-    static final class ExtensionRemovalFilter implements OASFilter {
-        public <T extends Extensible<T>> T filterExtensible(T extensible) {
-            extensible.removeExtension(EXT_DIRECTIVES);
-            removeProfiles(extensible);
-            return extensible;
+    static final class ExtensionRemovalFilter implements PipelineFilter {
+        @Override
+        public boolean appliesTo(BaseModel<?> node) {
+            if (node instanceof Extensible) {
+                for (String name : extensionNames((Extensible<?>) node)) {
+                    if (name.equals(EXT_DIRECTIVES) || name.startsWith(EXT_PROFILE_PREFIX)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public <C extends Constructible> C filterNode(BaseModel<C> node) {
+            if (node instanceof Extensible) {
+                Extensible<?> extensible = (Extensible<?>) node;
+                extensible.removeExtension(EXT_DIRECTIVES);
+                removeProfiles(extensible);
+            }
+            return node.constructible();
         }
     }
 
@@ -55,6 +72,11 @@ public final class Extensions {
     }
 
     private static Set<String> extensionNames(Extensible<?> extensible) {
+        if (extensible instanceof BaseExtensibleModel) {
+            // Private extensions are held separately, these are the names of the others
+            Set<String> names = ((BaseExtensibleModel<?>) extensible).getExtensionNames();
+            return names == null || names.isEmpty() ? Collections.emptySet() : Set.copyOf(names);
+        }
         return Set.copyOf(extensions(extensible).keySet());
     }
 
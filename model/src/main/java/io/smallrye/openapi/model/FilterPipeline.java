@@ -0,0 +1,196 @@
+package io.smallrye.openapi.model;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Applies a sequence of {@link OASFilter}s to an OpenAPI model using as few
+ * traversals of the model as possible. Consecutive filters are combined into a
+ * single traversal in which each node is given to every filter of the
+ * traversal, in order, before moving on to the next node. Each
+ * {@linkplain PipelineFilter#isDocumentScoped() document-scoped} filter is
+ * applied in a traversal of its own so that it collects information from the
+ * document as it was left by the filters preceding it, and the filters
+ * following it observe the document as it was left by the document-scoped
+ * filter.
+ *
+ * <p>
+ * Applying a pipeline has the same result as applying each filter separately
+ * provided that the non-document-scoped filters only inspect and modify the
+ * node given to each filter method.
+ */
+public final class FilterPipeline {
+
+    /**
+     * The model types given to the methods of {@link OASFilter} overridden by a filter class
+     */
+    private static final ClassValue<List<Class<?>>> FILTERED_TYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> filterClass) {
+            List<Class<?>> types = new ArrayList<>();
+
+            for (Method method : OASFilter.class.getMethods()) {
+                if (method.getParameterCount() != 1) {
+                    continue;
+                }
+                try {
+                    if (filterClass.getMethod(method.getName(), method.getParameterTypes())
+                            .getDeclaringClass() != OASFilter.class) {
+                        types.add(method.getParameterTypes()[0]);
+                    }
+                } catch (NoSuchMethodException e) {
+                    types.add(method.getParameterTypes()[0]);
+                }
+            }
+
+            return Collections.unmodifiableList(types);
+        }
+    };
+
+    private final List<Pass> passes;
+
+    private FilterPipeline(List<Pass> passes) {
+        this.passes = passes;
+    }
+
+    /**
+     * Create a pipeline that applies the given filters in order.
+     *
+     * @param filters filters to apply
+     * @return the pipeline
+     */
+    public static FilterPipeline of(List<? extends OASFilter> filters) {
+        List<Pass> passes = new ArrayList<>();
+        List<OASFilter> current = new ArrayList<>();
+
+        for (OASFilter filter : filters) {
+            if (isDocumentScoped(filter)) {
+                // Alone in its pass: it must observe the result of the filters before it, and be observed by those after it
+                if (!current.isEmpty()) {
+                    passes.add(new Pass(current));
+                    current = new ArrayList<>();
+                }
+                passes.add(new Pass(Collections.singletonList(filter)));
+            } else {
+                current.add(filter);
+            }
+        }
+
+        if (!current.isEmpty()) {
+            passes.add(new Pass(current));
+        }
+
+        return new FilterPipeline(Collections.unmodifiableList(passes));
+    }
+
+    static boolean isDocumentScoped(OASFilter filter) {
+        if (filter instanceof PipelineFilter) {
+            return ((PipelineFilter) filter).isDocumentScoped();
+        }
+
+        try {
+            return filter.getClass().getMethod("filterOpenAPI", OpenAPI.class).getDeclaringClass() != OASFilter.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Whether the filter must be given the node, see {@link PipelineFilter#appliesTo(BaseModel)}.
+     */
+    static boolean appliesTo(OASFilter filter, BaseModel<?> node) {
+        if (filter instanceof PipelineFilter) {
+            return ((PipelineFilter) filter).appliesTo(node);
+        }
+        return overridesFilterMethod(filter, node);
+    }
+
+    /**
+     * Whether the filter overrides the method of {@link OASFilter} for the type of the node.
+     */
+    static boolean overridesFilterMethod(OASFilter filter, BaseModel<?> node) {
+        for (Class<?> type : FILTERED_TYPES.get(filter.getClass())) {
+            if (type.isInstance(node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of traversals of the model made when the pipeline is applied
+     */
+    public int passCount() {
+        return passes.size();
+    }
+
+    /**
+     * Apply the filters of the pipeline to the model. A
+     * {@linkplain BaseModel#freeze(Constructible) frozen} model is not modified,
+     * the filters are applied to a {@linkplain BaseModel#unfreeze(Constructible)
+     * lazy copy} in which only the nodes given to the filters are copied.
+     *
+     * @param model the model to filter, may be null
+     * @return the filtered model
+     */
+    public OpenAPI apply(OpenAPI model) {
+        if (model != null) {
+            model = BaseModel.unfreeze(model);
+
+            for (Pass pass : passes) {
+                ((BaseModel<?>) model).filter(pass, new IdentityHashMap<>());
+            }
+        }
+
+        return model;
+    }
+
+    /**
+     * A single traversal of the model. The pass is given to
+     * {@link BaseModel#filter(OASFilter, java.util.Map)} and each node visited
+     * is handed to {@link #filterNode(BaseModel)} after its children.
+     */
+    static final class Pass implements PipelineFilter {
+        private final OASFilter[] filters;
+
+        Pass(List<OASFilter> filters) {
+            this.filters = filters.toArray(OASFilter[]::new);
+        }
+
+        @Override
+        public boolean appliesTo(BaseModel<?> node) {
+            for (OASFilter filter : filters) {
+                if (FilterPipeline.appliesTo(filter, node)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <C extends Constructible> C filterNode(BaseModel<C> node) {
+            BaseModel<C> current = node;
+
+            for (OASFilter filter : filters) {
+                C result = current.filterNode(filter);
+
+                if (!(result instanceof BaseModel)) {
+                    // Removed, or replaced by a model not supported by subsequent filters
+                    return result;
+                }
+
+                current = (BaseModel<C>) result;
+            }
+
+            return current.constructible();
+        }
+    }
+}
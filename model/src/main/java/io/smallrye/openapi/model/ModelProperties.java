@@ -0,0 +1,295 @@
+package io.smallrye.openapi.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact, insertion-ordered storage for the properties of a {@link BaseModel}.
+ *
+ * Properties declared by the model's {@link PropertyMetadata} are identified
+ * by their {@linkplain PropertyMetadata#getPropertyIndex(String) index},
+ * kept in a byte array in insertion order alongside a parallel array of
+ * values. The property names are not stored per instance. Any other key
+ * (extensions, unwrapped map entries, or properties of a model without
+ * metadata) is held in an overflow map that is only created when needed. The
+ * position of each overflow entry relative to the declared properties is
+ * recorded with an {@link #OVERFLOW} marker so that iteration order is the
+ * order in which the keys were first added, the same as a
+ * {@link LinkedHashMap}.
+ *
+ * Once {@linkplain #freeze() frozen}, any attempt to modify the properties
+ * results in an {@link UnsupportedOperationException}.
+ */
+final class ModelProperties extends AbstractMap<String, Object> {
+
+    private static final byte OVERFLOW = -1;
+    private static final byte[] NO_SLOTS = {};
+    private static final Object[] NO_VALUES = {};
+
+    private final PropertyMetadata metadata;
+    private byte[] slots = NO_SLOTS;
+    private Object[] values = NO_VALUES;
+    private Map<String, Object> overflow;
+    private int size;
+    private boolean frozen;
+
+    ModelProperties(PropertyMetadata metadata) {
+        this.metadata = metadata;
+    }
+
+    void freeze() {
+        if (overflow != null) {
+            overflow = Collections.unmodifiableMap(overflow);
+        }
+        frozen = true;
+    }
+
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    private void assertModifiable() {
+        if (frozen) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private byte slotOf(Object key) {
+        if (metadata != null && key instanceof String) {
+            int index = metadata.getPropertyIndex((String) key);
+
+            if (index >= 0 && index <= Byte.MAX_VALUE) {
+                return (byte) index;
+            }
+        }
+        return OVERFLOW;
+    }
+
+    private int positionOf(byte slot) {
+        for (int i = 0; i < size; i++) {
+            if (slots[i] == slot) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int overflowPositionOf(Object key) {
+        int ordinal = 0;
+
+        for (String overflowKey : overflow.keySet()) {
+            if (overflowKey.equals(key)) {
+                break;
+            }
+            ordinal++;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (slots[i] == OVERFLOW && ordinal-- == 0) {
+                return i;
+            }
+        }
+
+        throw new IllegalStateException();
+    }
+
+    private void append(byte slot, Object value) {
+        if (size == slots.length) {
+            int capacity = size + Math.max(2, size >> 1);
+            slots = Arrays.copyOf(slots, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        slots[size] = slot;
+        values[size] = value;
+        size++;
+    }
+
+    private void removeAt(int position) {
+        int moved = size - position - 1;
+
+        if (moved > 0) {
+            System.arraycopy(slots, position + 1, slots, position, moved);
+            System.arraycopy(values, position + 1, values, position, moved);
+        }
+
+        size--;
+        values[size] = null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        byte slot = slotOf(key);
+
+        if (slot != OVERFLOW) {
+            return positionOf(slot) >= 0;
+        }
+
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        byte slot = slotOf(key);
+
+        if (slot != OVERFLOW) {
+            int position = positionOf(slot);
+            return position >= 0 ? values[position] : null;
+        }
+
+        return overflow != null ? overflow.get(key) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        assertModifiable();
+        byte slot = slotOf(key);
+
+        if (slot != OVERFLOW) {
+            int position = positionOf(slot);
+
+            if (position >= 0) {
+                Object previous = values[position];
+                values[position] = value;
+                return previous;
+            }
+
+            append(slot, value);
+            return null;
+        }
+
+        if (overflow == null) {
+            overflow = new LinkedHashMap<>(2);
+        } else if (overflow.containsKey(key)) {
+            return overflow.put(key, value);
+        }
+
+        overflow.put(key, value);
+        append(OVERFLOW, null);
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        assertModifiable();
+        byte slot = slotOf(key);
+
+        if (slot != OVERFLOW) {
+            int position = positionOf(slot);
+
+            if (position < 0) {
+                return null;
+            }
+
+            Object previous = values[position];
+            removeAt(position);
+            return previous;
+        }
+
+        if (overflow == null || !overflow.containsKey(key)) {
+            return null;
+        }
+
+        removeAt(overflowPositionOf(key));
+        return overflow.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        assertModifiable();
+        slots = NO_SLOTS;
+        values = NO_VALUES;
+        overflow = null;
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private final Iterator<Entry<String, Object>> overflowCursor = overflow != null ? overflow.entrySet().iterator()
+                : null;
+        private int next;
+        private int current = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            current = next++;
+            byte slot = slots[current];
+
+            if (slot == OVERFLOW) {
+                return overflowCursor.next();
+            }
+
+            return new SlotEntry(metadata.getPropertyName(slot), current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+
+            assertModifiable();
+
+            if (slots[current] == OVERFLOW) {
+                overflowCursor.remove();
+            }
+
+            removeAt(current);
+            next = current;
+            current = -1;
+        }
+    }
+
+    private final class SlotEntry extends SimpleEntry<String, Object> {
+        private static final long serialVersionUID = 1L;
+        private final transient int position;
+
+        SlotEntry(String key, int position) {
+            super(key, values[position]);
+            this.position = position;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            assertModifiable();
+            values[position] = value;
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package io.smallrye.openapi.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Compact binary representation of a complete {@link BaseModel} tree, intended
+ * to be written at build time and read when an application starts, avoiding
+ * the model reader, static file and annotation scanning phases.
+ *
+ * <p>
+ * A snapshot starts with a header holding the format version and an opaque
+ * hash of the inputs used to produce the model. The header can be read with
+ * {@link #readInputHash(InputStream)} to cheaply determine whether a snapshot
+ * is up to date. Strings (property names, type names and values) are written
+ * once and referenced by position when repeated. Model instances referenced
+ * more than once are written once and shared again when read.
+ */
+public final class ModelSnapshot {
+
+    /**
+     * Version of the snapshot format. Snapshots with a different version are
+     * rejected when read.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    private static final int MAGIC = 0x534F4153; // "SOAS"
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte TRUE = 2;
+    private static final byte FALSE = 3;
+    private static final byte INTEGER = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte BIG_DECIMAL = 8;
+    private static final byte BIG_INTEGER = 9;
+    private static final byte ENUM = 10;
+    private static final byte LIST = 11;
+    private static final byte MAP = 12;
+    private static final byte MODEL = 13;
+    private static final byte MODEL_REFERENCE = 14;
+
+    private ModelSnapshot() {
+    }
+
+    /**
+     * Write a snapshot of the model to the output stream. The stream is not
+     * closed.
+     *
+     * @param model the model to write
+     * @param inputHash hash of the inputs used to produce the model, may be null
+     * @param output the stream to write to
+     * @throws IOException when writing to the stream fails
+     * @throws IllegalArgumentException when the model contains values not
+     *         supported by the snapshot format
+     */
+    public static void write(OpenAPI model, String inputHash, OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        new Writer(out).writeHash(inputHash).writeValue(model);
+        out.flush();
+    }
+
+    /**
+     * Read the hash of the inputs from the header of a snapshot. Only the
+     * header is read from the stream.
+     *
+     * @param input the stream to read from
+     * @return the input hash, an empty string when the snapshot was written
+     *         without a hash, or null when the stream does not hold a snapshot
+     *         of the current {@linkplain #FORMAT_VERSION format version}
+     * @throws IOException when reading from the stream fails
+     */
+    public static String readInputHash(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+
+        try {
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != FORMAT_VERSION) {
+                return null;
+            }
+            return new Reader(in).readHash();
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read the model from a snapshot. The stream is not closed.
+     *
+     * @param input the stream to read from
+     * @return the model
+     * @throws IOException when reading from the stream fails or the stream does
+     *         not hold a snapshot of the current {@linkplain #FORMAT_VERSION
+     *         format version}
+     */
+    public static OpenAPI read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Input is not an OpenAPI model snapshot");
+        }
+
+        int version = in.readUnsignedShort();
+
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported OpenAPI model snapshot version " + version + ", expected " + FORMAT_VERSION);
+        }
+
+        Reader reader = new Reader(in);
+        reader.readHash();
+        Object model = reader.readValue();
+
+        if (!(model instanceof OpenAPI)) {
+            throw new IOException("OpenAPI model snapshot does not contain an OpenAPI model");
+        }
+
+        return (OpenAPI) model;
+    }
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<Object, Integer> models = new IdentityHashMap<>();
+        private final Map<Class<?>, String> modelTypes = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        Writer writeHash(String inputHash) throws IOException {
+            writeString(inputHash != null ? inputHash : "");
+            return this;
+        }
+
+        void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                writeString((String) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(((Boolean) value).booleanValue() ? TRUE : FALSE);
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER);
+                writeVarInt(zigZag((Integer) value));
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof BigDecimal) {
+                out.writeByte(BIG_DECIMAL);
+                writeString(value.toString());
+            } else if (value instanceof BigInteger) {
+                out.writeByte(BIG_INTEGER);
+                writeString(value.toString());
+            } else if (value instanceof Enum) {
+                out.writeByte(ENUM);
+                writeString(((Enum<?>) value).getDeclaringClass().getName());
+                writeString(((Enum<?>) value).name());
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                out.writeByte(LIST);
+                writeVarInt(list.size());
+                for (Object entry : list) {
+                    writeValue(entry);
+                }
+            } else if (value instanceof Map) {
+                out.writeByte(MAP);
+                writeMap((Map<?, ?>) value);
+            } else if (value instanceof BaseModel) {
+                writeModel((BaseModel<?>) value);
+            } else {
+                throw new IllegalArgumentException("Unsupported value in OpenAPI model snapshot: " + value.getClass());
+            }
+        }
+
+        private void writeModel(BaseModel<?> model) throws IOException {
+            Integer reference = models.get(model);
+
+            if (reference != null) {
+                out.writeByte(MODEL_REFERENCE);
+                writeVarInt(reference);
+                return;
+            }
+
+            models.put(model, models.size());
+            out.writeByte(MODEL);
+            writeString(modelTypes.computeIfAbsent(model.getClass(), t -> BaseModelSupport.findConstructible(t).getName()));
+            writeMap(model.getModelProperties());
+
+            if (model instanceof BaseExtensibleModel) {
+                Set<String> extensionNames = ((BaseExtensibleModel<?>) model).getExtensionNames();
+
+                if (extensionNames == null) {
+                    writeVarInt(0);
+                } else {
+                    writeVarInt(extensionNames.size() + 1);
+                    for (String name : extensionNames) {
+                        writeString(name);
+                    }
+                }
+
+                writeMap(((BaseExtensibleModel<?>) model).getPrivateExtensions());
+            }
+        }
+
+        private void writeMap(Map<?, ?> map) throws IOException {
+            writeVarInt(map.size());
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String)) {
+                    throw new IllegalArgumentException("Unsupported map key in OpenAPI model snapshot: " + entry.getKey());
+                }
+                writeString((String) entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+
+        /**
+         * Writes the position of a previously written string plus one, or zero
+         * followed by the UTF-8 bytes of a new string.
+         */
+        private void writeString(String value) throws IOException {
+            Integer reference = strings.get(value);
+
+            if (reference != null) {
+                writeVarInt(reference + 1);
+            } else {
+                strings.put(value, strings.size());
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(0);
+                writeVarInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+
+        private static int zigZag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+    }
+
+    private static final class Reader {
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+        private final List<Object> models = new ArrayList<>();
+        private final Map<String, Class<?>> types = new HashMap<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        String readHash() throws IOException {
+            return readString();
+        }
+
+        Object readValue() throws IOException {
+            byte tag = in.readByte();
+
+            switch (tag) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readString();
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case INTEGER:
+                    int value = readVarInt();
+                    return (value >>> 1) ^ -(value & 1);
+                case LONG:
+                    return in.readLong();
+                case DOUBLE:
+                    return in.readDouble();
+                case FLOAT:
+                    return in.readFloat();
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString());
+                case BIG_INTEGER:
+                    return new BigInteger(readString());
+                case ENUM:
+                    return readEnum();
+                case LIST:
+                    int size = readVarInt();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    return list;
+                case MAP:
+                    return readMap(new LinkedHashMap<>());
+                case MODEL:
+                    return readModel();
+                case MODEL_REFERENCE:
+                    return models.get(readVarInt());
+                default:
+                    throw new IOException("Invalid OpenAPI model snapshot, unexpected value type " + tag);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object readEnum() throws IOException {
+            Class<?> type = type(readString());
+            String name = readString();
+
+            if (!type.isEnum()) {
+                throw new IOException("Invalid OpenAPI model snapshot, " + type + " is not an enum");
+            }
+
+            return Enum.valueOf((Class<? extends Enum>) type, name);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object readModel() throws IOException {
+            Class<?> type = type(readString());
+
+            if (!Constructible.class.isAssignableFrom(type)) {
+                throw new IOException("Invalid OpenAPI model snapshot, " + type + " is not a model type");
+            }
+
+            BaseModel<?> model = (BaseModel<?>) OASFactory.createObject((Class<? extends Constructible>) type);
+            models.add(model);
+            readMap(model.getModelProperties());
+
+            if (model instanceof BaseExtensibleModel) {
+                int count = readVarInt() - 1;
+
+                if (count >= 0) {
+                    Set<String> extensionNames = new LinkedHashSet<>(count);
+                    for (int i = 0; i < count; i++) {
+                        extensionNames.add(readString());
+                    }
+                    ((BaseExtensibleModel<?>) model).setExtensionNames(extensionNames);
+                }
+
+                BaseExtensibleModel<?> extensible = (BaseExtensibleModel<?>) model;
+                readMap(new LinkedHashMap<>()).forEach(extensible::setPrivateExtension);
+            }
+
+            return model;
+        }
+
+        private Map<String, Object> readMap(Map<String, Object> map) throws IOException {
+            int size = readVarInt();
+
+            for (int i = 0; i < size; i++) {
+                String key = readString();
+                map.put(key, readValue());
+            }
+
+            return map;
+        }
+
+        private Class<?> type(String name) throws IOException {
+            Class<?> type = types.get(name);
+
+            if (type == null) {
+                try {
+                    type = Class.forName(name, false, ModelSnapshot.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Invalid OpenAPI model snapshot, unknown type " + name, e);
+                }
+                types.put(name, type);
+            }
+
+            return type;
+        }
+
+        private String readString() throws IOException {
+            int reference = readVarInt();
+
+            if (reference > 0) {
+                return strings.get(reference - 1);
+            }
+
+            byte[] bytes = new byte[readVarInt()];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IOException("Invalid OpenAPI model snapshot, malformed integer");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.smallrye.openapi.model;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+/**
+ * An {@link OASFilter} that declares how it may be combined with other filters
+ * by a {@link FilterPipeline}.
+ *
+ * <p>
+ * A filter that only reads and modifies the model node given to each of its
+ * filter methods may be applied in the same traversal of the model as the
+ * filters around it. A <em>document-scoped</em> filter needs knowledge of the
+ * whole document, typically collecting information as nodes are visited and
+ * then pruning the document in {@link OASFilter#filterOpenAPI(org.eclipse.microprofile.openapi.models.OpenAPI)
+ * filterOpenAPI} (or from the filter method of an ancestor node). A
+ * document-scoped filter is applied in a traversal of its own, after the
+ * filters preceding it have completed and before the filters following it.
+ *
+ * <p>
+ * Filters that do not implement this interface are considered document-scoped
+ * when they override {@code filterOpenAPI}.
+ */
+public interface PipelineFilter extends OASFilter {
+
+    /**
+     * Whether this filter requires knowledge of the whole document, i.e. it
+     * collects information while the model is visited and/or modifies parts of
+     * the model other than the node given to its filter methods.
+     *
+     * @return true if the filter is document-scoped, otherwise false
+     */
+    default boolean isDocumentScoped() {
+        return false;
+    }
+
+    /**
+     * Whether this filter must be given the node, i.e. whether
+     * {@link #filterNode(BaseModel)} may inspect, modify or replace it. A
+     * {@linkplain BaseModel#freeze(Constructible) frozen} node is copied
+     * before it is given to the filter, and is left as-is (not copied) when no
+     * filter applies to it or to any of its children. By default, whether the
+     * filter overrides the filter method of {@link OASFilter} for the type of
+     * the node.
+     *
+     * @param node the node to filter
+     * @return true if the node must be given to {@link #filterNode(BaseModel)}
+     */
+    default boolean appliesTo(BaseModel<?> node) {
+        return FilterPipeline.overridesFilterMethod(this, node);
+    }
+
+    /**
+     * Apply this filter to a node of the model, after the node's children
+     * have been filtered. By default, the filter method of {@link OASFilter}
+     * for the type of the node is called. Filters that act on nodes
+     * independent of their type may override this method.
+     *
+     * @param <C> the type of the node
+     * @param node the node to filter
+     * @return the filtered node, a replacement, or null to remove the node
+     */
+    default <C extends Constructible> C filterNode(BaseModel<C> node) {
+        return node.filter(this);
+    }
+}
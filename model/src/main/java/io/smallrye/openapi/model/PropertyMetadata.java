@@ -5,4 +5,26 @@ public interface PropertyMetadata {
     DataType getPropertyType(String name);
 
     OpenApiVersion getMinVersion(String name);
+
+    /**
+     * Retrieve the index of a named property declared by the model. Indexes are
+     * consecutive, starting with zero, and stable for the life of the model class.
+     *
+     * @param name property name
+     * @return the index of the property, or -1 when the name is not a declared
+     *         property (e.g. an extension or an unwrapped map key)
+     */
+    default int getPropertyIndex(String name) {
+        return -1;
+    }
+
+    /**
+     * Retrieve the name of the property having the given index.
+     *
+     * @param index index of a property, as returned by {@link #getPropertyIndex(String)}
+     * @return the property name
+     */
+    default String getPropertyName(int index) {
+        throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
 }
@@ -2,10 +2,18 @@ package io.smallrye.openapi.model;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,12 +24,52 @@ class BaseModelTest {
 
     static class TestMapModel extends BaseModel<Constructible> {
 
+        TestMapModel() {
+            super(null);
+        }
+
         @Override
         public PropertyMetadata getPropertyMetadata() {
             return null;
         }
     }
 
+    static class TestSlotModel extends BaseModel<Constructible> implements Constructible {
+
+        static final List<String> NAMES = List.of("description", "name", "summary");
+
+        static final PropertyMetadata PROPERTIES = new PropertyMetadata() {
+            @Override
+            public DataType getPropertyType(String name) {
+                return DataType.type(Object.class);
+            }
+
+            @Override
+            public OpenApiVersion getMinVersion(String name) {
+                return OpenApiVersion.V3_0;
+            }
+
+            @Override
+            public int getPropertyIndex(String name) {
+                return NAMES.indexOf(name);
+            }
+
+            @Override
+            public String getPropertyName(int index) {
+                return NAMES.get(index);
+            }
+        };
+
+        TestSlotModel() {
+            super(PROPERTIES);
+        }
+
+        @Override
+        public PropertyMetadata getPropertyMetadata() {
+            return PROPERTIES;
+        }
+    }
+
     @Test
     void getWrongType() {
         TestMapModel test = new TestMapModel();
@@ -99,4 +147,151 @@ class BaseModelTest {
 
         assertNotEquals(test1.hashCode(), test2.hashCode());
     }
+
+    @Test
+    void testPropertyOrderPreserved() {
+        TestSlotModel test = new TestSlotModel();
+        Map<String, Object> expected = new LinkedHashMap<>();
+
+        for (String name : List.of("summary", "x-one", "description", "other", "x-two", "name")) {
+            test.setProperty(name, name + "-value");
+            expected.put(name, name + "-value");
+        }
+
+        test.setProperty("description", "updated");
+        expected.put("description", "updated");
+        test.setProperty("x-one", "updated");
+        expected.put("x-one", "updated");
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(test.getAllProperties().entrySet()));
+
+        test.setProperty("x-one", null);
+        expected.remove("x-one");
+        test.setProperty("summary", null);
+        expected.remove("summary");
+        test.setProperty("x-one", "again");
+        expected.put("x-one", "again");
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(test.getAllProperties().entrySet()));
+        assertEquals(expected, test.getAllProperties());
+        assertEquals(expected.toString(), test.toString());
+        assertNull(test.getProperty("summary"));
+        assertEquals("again", test.getProperty("x-one"));
+    }
+
+    @Test
+    void testPropertyIteratorUpdates() {
+        TestSlotModel test = new TestSlotModel();
+        test.setProperty("name", "n");
+        test.setProperty("x-ext", "x");
+        test.setProperty("description", "d");
+        test.setProperty("other", "o");
+
+        Iterator<Map.Entry<String, Object>> cursor = test.getModelProperties().entrySet().iterator();
+
+        while (cursor.hasNext()) {
+            Map.Entry<String, Object> entry = cursor.next();
+
+            if (entry.getKey().equals("x-ext") || entry.getKey().equals("description")) {
+                cursor.remove();
+            } else {
+                entry.setValue(entry.getValue() + "!");
+            }
+        }
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "n!");
+        expected.put("other", "o!");
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(test.getAllProperties().entrySet()));
+        assertNull(test.getProperty("x-ext"));
+        assertEquals("n!", test.getProperty("name"));
+    }
+
+    private static TestSlotModel slotModel(String name, String description) {
+        TestSlotModel model = new TestSlotModel();
+        model.setProperty("name", name);
+        model.setProperty("description", description);
+        return model;
+    }
+
+    @Test
+    void testFreezeSharesEqualSubtrees() {
+        TestSlotModel root = new TestSlotModel();
+        root.setProperty("summary", slotModel("a", "shared"));
+        root.setListProperty("items", List.of(slotModel("a", "shared"), slotModel("b", "other")));
+        root.setMapProperty("x-map", Map.of("key", slotModel("a", "shared")));
+        int expectedHash = root.hashCode();
+
+        assertSame(root, BaseModel.freeze(root));
+        assertTrue(root.isFrozen());
+        assertEquals(expectedHash, root.hashCode());
+
+        Object summary = root.getProperty("summary");
+        List<Object> items = root.getListProperty("items");
+        Map<String, Object> map = root.getMapProperty("x-map");
+        assertSame(summary, items.get(0));
+        assertSame(summary, map.get("key"));
+        assertNotSame(summary, items.get(1));
+        assertTrue(((TestSlotModel) items.get(1)).isFrozen());
+
+        assertThrows(UnsupportedOperationException.class, () -> root.setProperty("name", "changed"));
+        assertThrows(UnsupportedOperationException.class, () -> root.addListPropertyEntry("items", "more"));
+        assertThrows(UnsupportedOperationException.class, () -> root.putMapPropertyEntry("x-map", "other", "more"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> root.getModelProperties().entrySet().iterator().next().setValue(null));
+        assertNull(root.getProperty("name"));
+    }
+
+    @Test
+    void testFreezeCopiesCollections() {
+        TestSlotModel shared = slotModel("a", "shared");
+        List<Object> items = new ArrayList<>(asList(slotModel("a", "shared"), "text"));
+        Map<String, Object> map = new HashMap<>();
+        map.put("key", List.of(slotModel("a", "shared")));
+
+        TestSlotModel root = new TestSlotModel();
+        root.setProperty("summary", shared);
+        root.setProperty("x-items", items);
+        root.setProperty("x-map", map);
+        Object originalItem = items.get(0);
+
+        BaseModel.freeze(root);
+
+        // Values of immutable collections are replaced by their frozen, interned instances
+        List<Object> frozenItems = root.getListProperty("x-items");
+        Map<String, Object> frozenMap = root.getMapProperty("x-map");
+        assertSame(shared, frozenItems.get(0));
+        assertSame(shared, ((List<?>) frozenMap.get("key")).get(0));
+
+        // Collections of the caller are left unchanged and do not affect the frozen model
+        assertSame(originalItem, items.get(0));
+        items.add("more");
+        map.clear();
+        assertEquals(2, frozenItems.size());
+        assertEquals(1, frozenMap.size());
+    }
+
+    @Test
+    void testFreezeRejectsUnsupportedModels() {
+        TestSlotModel root = new TestSlotModel();
+        root.setProperty("summary", new Constructible() {
+        });
+
+        assertThrows(UnsupportedOperationException.class, () -> BaseModel.freeze(root));
+    }
+
+    @Test
+    void testFreezeWithCycle() {
+        TestSlotModel root = new TestSlotModel();
+        TestSlotModel child = slotModel("a", "b");
+        child.setProperty("summary", root);
+        root.setProperty("summary", child);
+        root.setProperty("x-other", slotModel("a", "b"));
+
+        BaseModel.freeze(root);
+
+        assertTrue(root.isFrozen());
+        assertTrue(child.isFrozen());
+        assertSame(child, root.getProperty("summary"));
+        assertFalse(child.equals(root.getProperty("x-other")));
+        assertEquals(root.hashCode(), root.hashCode());
+    }
 }
@@ -65,6 +65,9 @@ class Configs implements SmallryeOpenApiProperties {
     final Property<String> outputFileTypeFilter;
     final Property<String> encoding;
     final ListProperty<String> includeStandardJavaModules;
+    final Property<Integer> indexThreads;
+    final Property<Boolean> indexDependenciesOnDemand;
+    final RegularFileProperty modelSnapshotFile;
 
     Configs(ObjectFactory objects) {
         configProperties = objects.fileProperty();
@@ -101,6 +104,9 @@ class Configs implements SmallryeOpenApiProperties {
         outputFileTypeFilter = objects.property(String.class).convention("ALL");
         encoding = objects.property(String.class).convention(StandardCharsets.UTF_8.name());
         includeStandardJavaModules = objects.listProperty(String.class);
+        indexThreads = objects.property(Integer.class).convention(0);
+        indexDependenciesOnDemand = objects.property(Boolean.class).convention(Boolean.FALSE);
+        modelSnapshotFile = objects.fileProperty();
     }
 
     Configs(ObjectFactory objects, SmallryeOpenApiExtension ext) {
@@ -140,6 +146,9 @@ class Configs implements SmallryeOpenApiProperties {
         outputFileTypeFilter = objects.property(String.class).convention(ext.getOutputFileTypeFilter());
         encoding = objects.property(String.class).convention(ext.getEncoding());
         includeStandardJavaModules = objects.listProperty(String.class).convention(ext.getIncludeStandardJavaModules());
+        indexThreads = objects.property(Integer.class).convention(ext.getIndexThreads());
+        indexDependenciesOnDemand = objects.property(Boolean.class).convention(ext.getIndexDependenciesOnDemand());
+        modelSnapshotFile = objects.fileProperty().convention(ext.getModelSnapshotFile());
     }
 
     Config asMicroprofileConfig() {
@@ -149,7 +158,7 @@ class Configs implements SmallryeOpenApiProperties {
                 .build();
     }
 
-    private Map<String, String> getProperties() {
+    Map<String, String> getProperties() {
         // First check if the configProperties is set, if so, load that.
         Map<String, String> cp = new HashMap<>();
         File propertiesFile = configProperties.getAsFile().getOrElse(null);
@@ -356,4 +365,16 @@ class Configs implements SmallryeOpenApiProperties {
     public ListProperty<String> getIncludeStandardJavaModules() {
         return includeStandardJavaModules;
     }
+
+    public Property<Integer> getIndexThreads() {
+        return indexThreads;
+    }
+
+    public Property<Boolean> getIndexDependenciesOnDemand() {
+        return indexDependenciesOnDemand;
+    }
+
+    public RegularFileProperty getModelSnapshotFile() {
+        return modelSnapshotFile;
+    }
 }
@@ -2,7 +2,12 @@ package io.smallrye.openapi.gradleplugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReference;
 import java.net.URI;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
@@ -10,13 +15,21 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,12 +38,22 @@ import org.gradle.api.logging.Logger;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.Indexer;
-import org.jboss.jandex.JarIndexer;
-import org.jboss.jandex.Result;
+
+import io.smallrye.openapi.runtime.scanner.OnDemandIndexView;
 
 public class GradleDependencyIndexCreator {
 
+    private static final AtomicInteger INDEX_THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Indexes of standard Java modules, retained by the Gradle daemon between
+     * builds. Keys include the version of the running JDK, which determines the
+     * content of the modules.
+     */
+    private static final Map<String, Index> JDK_MODULE_INDEXES = new ConcurrentHashMap<>();
+
     private final Logger logger;
 
     public GradleDependencyIndexCreator(Logger logger) {
@@ -40,109 +63,243 @@ public class GradleDependencyIndexCreator {
     IndexView createIndex(SmallryeOpenApiTask task)
             throws IOException {
 
-        Set<File> dependencies = task.getScanDependenciesDisable().get().booleanValue()
+        boolean scanDependenciesDisable = task.getScanDependenciesDisable().get().booleanValue();
+        Set<File> dependencies = scanDependenciesDisable
                 ? Collections.emptySet()
                 : task.getClasspath().getFiles();
+        boolean indexDependenciesOnDemand = task.getIndexDependenciesOnDemand().getOrElse(Boolean.FALSE).booleanValue();
+        Set<File> dependencyIndexes = scanDependenciesDisable || indexDependenciesOnDemand
+                ? Collections.emptySet()
+                : task.getDependencyIndexes().getFiles();
         FileCollection classesDirs = task.getClassesDirs();
 
-        List<Entry<File, Duration>> indexDurations = new ArrayList<>();
-        List<IndexView> indexes = new ArrayList<>();
-
         List<String> includeStandardJavaModules = task.getIncludeStandardJavaModules().getOrElse(Collections.emptyList());
         logger.info("includeStandardJavaModules: " + includeStandardJavaModules);
 
+        // Index entries in the order their results are added to the composite index
+        List<IndexEntry> entries = new ArrayList<>();
+
         for (String moduleName : includeStandardJavaModules) {
-            indexes.add(indexJdkModule(moduleName));
+            entries.add(new IndexEntry("module:" + moduleName, false, () -> JDK_MODULE_INDEXES
+                    .computeIfAbsent(Runtime.version() + "/" + moduleName, key -> indexJdkModule(moduleName))));
         }
 
         for (File f : classesDirs.getFiles()) {
-            indexes.add(indexModuleClasses(f));
+            entries.add(new IndexEntry(f, false, () -> indexModuleClasses(f)));
         }
 
         for (File artifact : dependencies) {
-            try {
-                if (artifact.isDirectory()) {
-                    // Don't cache local workspace artifacts. Incremental compilation in IDE's would
-                    // otherwise use the cached index instead of new one.
-                    // Right now, support for incremental compilation inside eclipse is blocked by:
-                    // https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
-                    // target/classes
-                    indexes.add(indexModuleClasses(artifact));
-                } else if (artifact.getName().endsWith(".jar")) {
-                    IndexView artifactIndex = logger.isDebugEnabled() ? timedIndex(indexDurations, artifact) : index(artifact);
-                    indexes.add(artifactIndex);
+            if (artifact.isDirectory()) {
+                // Don't cache local workspace artifacts. Incremental compilation in IDE's would
+                // otherwise use the cached index instead of new one.
+                // Right now, support for incremental compilation inside eclipse is blocked by:
+                // https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
+                // target/classes
+                entries.add(new IndexEntry(artifact, true, () -> indexModuleClasses(artifact)));
+            }
+        }
+
+        // Jars are indexed by JandexIndexTransform, only its (possibly cached) results are read here
+        for (File index : dependencyIndexes) {
+            entries.add(new IndexEntry(index, true, () -> readIndex(index)));
+        }
+
+        logger.debug("Reading {} dependency index(es) produced by {}", dependencyIndexes.size(),
+                JandexIndexTransform.class.getSimpleName());
+
+        IndexView index = CompositeIndex.create(indexAll(entries, task.getIndexThreads().getOrElse(0)));
+
+        if (!indexDependenciesOnDemand) {
+            return index;
+        }
+
+        OnDemandIndexView onDemandIndex = new OnDemandIndexView(index);
+        int jars = 0;
+
+        for (File artifact : dependencies) {
+            if (artifact.isFile() && artifact.getName().endsWith(".jar")) {
+                try {
+                    onDemandIndex.addJar(artifact.toPath());
+                    jars++;
+                } catch (IOException e) {
+                    logger.error("Can't read entries of {}, skipping", artifact, e);
                 }
-            } catch (IOException e) {
-                logger.error(
-                        "Can't compute index of {}, skipping", artifact.getAbsolutePath(),
-                        e);
             }
         }
-        printIndexDurations(indexDurations);
-        return CompositeIndex.create(indexes);
+
+        logger.debug("Indexing the classes of {} artifact(s) on demand", jars);
+
+        return onDemandIndex;
+    }
+
+    /**
+     * Something to index. Failures to index optional entries (dependencies) are
+     * logged and the entry is skipped.
+     */
+    private static final class IndexEntry {
+        final Object source;
+        final boolean optional;
+        final Callable<Index> indexer;
+        volatile Duration duration;
+
+        IndexEntry(Object source, boolean optional, Callable<Index> indexer) {
+            this.source = source;
+            this.optional = optional;
+            this.indexer = indexer;
+        }
+
+        Index index() throws Exception {
+            LocalDateTime start = LocalDateTime.now();
+            Index result = indexer.call();
+            duration = Duration.between(start, LocalDateTime.now());
+            return result;
+        }
     }
 
-    private Index indexJdkModule(String moduleName) throws IOException {
+    /**
+     * Index the entries using at most {@code indexThreads} threads. The indexes are
+     * returned in the order of the entries, independent of the order in which
+     * they complete.
+     */
+    private List<IndexView> indexAll(List<IndexEntry> entries, int indexThreads) throws IOException {
+        int threads = Math.min(indexThreads > 0 ? indexThreads : Runtime.getRuntime().availableProcessors(),
+                Math.max(entries.size(), 1));
+        List<Future<Index>> results = new ArrayList<>(entries.size());
+        List<IndexView> indexes = new ArrayList<>(entries.size());
+        LocalDateTime start = LocalDateTime.now();
+        ExecutorService executor = threads > 1
+                ? Executors.newFixedThreadPool(threads, GradleDependencyIndexCreator::newIndexThread)
+                : null;
+
+        try {
+            for (IndexEntry entry : entries) {
+                FutureTask<Index> task = new FutureTask<>(entry::index);
+
+                if (executor != null) {
+                    executor.execute(task);
+                } else {
+                    task.run();
+                }
+
+                results.add(task);
+            }
+
+            for (int i = 0; i < entries.size(); i++) {
+                Index index = awaitIndex(entries.get(i), results.get(i));
+
+                if (index != null) {
+                    indexes.add(index);
+                }
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        printIndexDurations(entries, Duration.between(start, LocalDateTime.now()), threads);
+
+        return indexes;
+    }
+
+    private Index awaitIndex(IndexEntry entry, Future<Index> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while indexing " + entry.source);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (entry.optional && cause instanceof IOException) {
+                logger.error("Can't compute index of {}, skipping", entry.source, cause);
+                return null;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Can't compute index of " + entry.source, cause);
+        }
+    }
+
+    private static Thread newIndexThread(Runnable task) {
+        Thread thread = new Thread(task, "smallrye-open-api-indexer-" + INDEX_THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Index the classes of the packages exported (unconditionally) by a standard
+     * Java module. Only the directories of those packages in the {@code jrt:/}
+     * file system are listed, classes of other packages can not appear in the
+     * application's API.
+     */
+    private Index indexJdkModule(String moduleName) {
+        Optional<ModuleDescriptor> descriptor = ModuleFinder.ofSystem()
+                .find(moduleName)
+                .map(ModuleReference::descriptor);
         Indexer indexer = new Indexer();
+
+        if (descriptor.isEmpty()) {
+            logger.warn("Standard Java module not found: {}", moduleName);
+            return indexer.complete();
+        }
+
         FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+        Path moduleRoot = jrt.getPath("/modules", moduleName);
+
+        for (ModuleDescriptor.Exports export : descriptor.get().exports()) {
+            if (export.isQualified()) {
+                continue;
+            }
+
+            Path packageDirectory = moduleRoot.resolve(export.source().replace('.', '/'));
+            List<Path> classFiles;
 
-        for (Path root : jrt.getRootDirectories()) {
-            try (var walker = Files.walk(root)) {
-                walker
-                        .filter(path -> path.startsWith("/modules/" + moduleName))
-                        .filter(path -> path.getFileName().toString().endsWith(".class"))
-                        .map(path -> {
-                            try {
-                                return Files.newInputStream(path);
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                        })
-                        .forEach(stream -> {
-                            try {
-                                indexer.index(stream);
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                        });
+            try (Stream<Path> paths = Files.list(packageDirectory)) {
+                classFiles = paths.filter(path -> path.getFileName().toString().endsWith(".class"))
+                        .collect(Collectors.toList());
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
+
+            for (Path classFile : classFiles) {
+                try (InputStream stream = Files.newInputStream(classFile)) {
+                    indexer.index(stream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
         }
 
         return indexer.complete();
     }
 
-    private Index index(File artifact) throws IOException {
-        Result result = JarIndexer.createJarIndex(artifact, new Indexer(), false,
-                false, false);
-        return result.getIndex();
+    private static Index readIndex(File index) throws IOException {
+        try (InputStream in = Files.newInputStream(index.toPath())) {
+            return new IndexReader(in).read();
+        }
     }
 
-    private void printIndexDurations(List<Map.Entry<File, Duration>> indexDurations) {
+    private void printIndexDurations(List<IndexEntry> entries, Duration total, int threads) {
         if (logger.isDebugEnabled()) {
-            indexDurations.sort(Map.Entry.comparingByValue());
+            List<IndexEntry> sorted = entries.stream()
+                    .filter(e -> e.duration != null)
+                    .sorted(Comparator.comparing((IndexEntry e) -> e.duration).reversed())
+                    .collect(Collectors.toList());
 
-            indexDurations.forEach(e -> {
-                if (e.getValue().toMillis() > 25) {
-                    File artifact = e.getKey();
-                    logger.debug("Indexing took {} for {}", e.getValue(), artifact);
-                }
-            });
+            logger.debug("Indexed {} directories/artifacts for annotation scanning in {} ms using {} thread(s):",
+                    sorted.size(), total.toMillis(), threads);
+            logger.debug(String.format("  %10s  %s", "Time (ms)", "Directory/artifact"));
+            sorted.forEach(e -> logger.debug(String.format("  %10d  %s", e.duration.toMillis(), e.source)));
+            logger.debug(String.format("  %10d  %s", sorted.stream().mapToLong(e -> e.duration.toMillis()).sum(),
+                    "Total (all threads)"));
         }
     }
 
-    private IndexView timedIndex(
-            List<Map.Entry<File, Duration>> indexDurations,
-            File artifact) throws IOException {
-        LocalDateTime start = LocalDateTime.now();
-        IndexView result = index(artifact);
-        LocalDateTime end = LocalDateTime.now();
-        Duration duration = Duration.between(start, end);
-        indexDurations.add(new AbstractMap.SimpleEntry<>(artifact, duration));
-        return result;
-    }
-
     private Index indexModuleClasses(File file) throws IOException {
         Indexer indexer = new Indexer();
 
@@ -0,0 +1,81 @@
+package io.smallrye.openapi.gradleplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.gradle.api.artifacts.transform.CacheableTransform;
+import org.gradle.api.artifacts.transform.InputArtifact;
+import org.gradle.api.artifacts.transform.TransformAction;
+import org.gradle.api.artifacts.transform.TransformOutputs;
+import org.gradle.api.artifacts.transform.TransformParameters;
+import org.gradle.api.file.FileSystemLocation;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.JarIndexer;
+
+import io.smallrye.openapi.runtime.util.JarIndexes;
+
+/**
+ * Artifact transform producing the Jandex index of a dependency jar as a
+ * {@code .idx} file.
+ *
+ * <p>
+ * The transform is cacheable, so the index of each jar is computed once and
+ * then reused by later builds, and by other machines sharing the Gradle build
+ * cache, independent of changes to the project's own classes.
+ *
+ * <p>
+ * The Jandex index packaged in the jar is used when present and up to date,
+ * see {@link JarIndexes#read(File)}. Jars that can not be indexed produce no
+ * output and are skipped.
+ */
+@CacheableTransform
+public abstract class JandexIndexTransform implements TransformAction<TransformParameters.None> {
+
+    /**
+     * Artifact type of the index files produced by the transform
+     */
+    public static final String INDEX_ARTIFACT_TYPE = "smallrye-openapi-jandex-idx";
+
+    private static final Logger LOGGER = Logging.getLogger(JandexIndexTransform.class);
+
+    @InputArtifact
+    @PathSensitive(PathSensitivity.NAME_ONLY)
+    public abstract Provider<FileSystemLocation> getInputArtifact();
+
+    @Override
+    public void transform(TransformOutputs outputs) {
+        File artifact = getInputArtifact().get().getAsFile();
+        Index index;
+
+        try {
+            index = JarIndexes.read(artifact);
+
+            if (index != null) {
+                LOGGER.debug("Using {} of {}", JarIndexes.JAR_INDEX, artifact);
+            } else {
+                LOGGER.debug("Indexing {}", artifact);
+                index = JarIndexer.createJarIndex(artifact, new Indexer(), false, false, false).getIndex();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Can't compute index of {}, skipping", artifact, e);
+            return;
+        }
+
+        File output = outputs.file(artifact.getName() + ".idx");
+
+        try (OutputStream out = Files.newOutputStream(output.toPath())) {
+            new IndexWriter(out).write(index);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't write index of " + artifact, e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.gradle.api.NamedDomainObjectProvider;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.artifacts.type.ArtifactTypeDefinition;
 import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.FileCollection;
 import org.gradle.api.internal.jvm.ClassDirectoryBinaryNamingScheme;
@@ -50,6 +51,26 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
         Configuration configuration = configProvider.get();
         FileCollection classpath = project.getObjects().fileCollection().from(configuration);
 
+        /*
+         * Dependency jars are indexed by a cacheable artifact transform so that
+         * their indexes are reused across builds (and machines, using the build
+         * cache) instead of being re-created by each run of the task. The view
+         * is lenient: classpath entries that are not jars (e.g. the classes
+         * directories of other projects) have no index variant and are indexed
+         * by the task.
+         */
+        project.getDependencies().registerTransform(JandexIndexTransform.class, spec -> {
+            spec.getFrom().attribute(ArtifactTypeDefinition.ARTIFACT_TYPE_ATTRIBUTE, ArtifactTypeDefinition.JAR_TYPE);
+            spec.getTo().attribute(ArtifactTypeDefinition.ARTIFACT_TYPE_ATTRIBUTE, JandexIndexTransform.INDEX_ARTIFACT_TYPE);
+        });
+
+        FileCollection dependencyIndexes = configuration.getIncoming()
+                .artifactView(view -> view
+                        .lenient(true)
+                        .attributes(attributes -> attributes.attribute(ArtifactTypeDefinition.ARTIFACT_TYPE_ATTRIBUTE,
+                                JandexIndexTransform.INDEX_ARTIFACT_TYPE)))
+                .getFiles();
+
         ConfigurableFileCollection resourcesSrcDirs = project.getObjects()
                 .fileCollection();
         resourcesSrcDirs.from(sourceSet.getResources().getSrcDirs());
@@ -61,7 +82,8 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
                         ext,
                         classpath,
                         resourcesSrcDirs,
-                        sourceSet.getOutput().getClassesDirs());
+                        sourceSet.getOutput().getClassesDirs(),
+                        dependencyIndexes);
         task
                 .configure(t -> {
                     t.setGroup("build");
@@ -71,6 +93,13 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
                     t.getInputs().files(sourceSet.getOutput().getDirs()).withPathSensitivity(
                             PathSensitivity.RELATIVE);
                     t.getInputs().files(classpath).withPathSensitivity(PathSensitivity.RELATIVE);
+                    // Jars indexed on demand are read from the classpath, the transform is not needed
+                    t.getInputs().files(t.getScanDependenciesDisable()
+                            .zip(t.getIndexDependenciesOnDemand(),
+                                    (disabled, onDemand) -> disabled.booleanValue() || onDemand.booleanValue())
+                            .map(skipped -> skipped.booleanValue() ? project.files() : dependencyIndexes))
+                            .withPathSensitivity(PathSensitivity.NONE)
+                            .withPropertyName("dependencyIndexes");
                 });
 
         project.getTasks().named(sourceSet.getJarTaskName(), Jar.class)
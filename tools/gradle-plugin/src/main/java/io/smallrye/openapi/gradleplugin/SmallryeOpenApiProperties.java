@@ -156,4 +156,24 @@ public interface SmallryeOpenApiProperties {
      * List of standard Java modules that should be made available to annotation scanning for introspection.
      */
     ListProperty<String> getIncludeStandardJavaModules();
+
+    /**
+     * Maximum number of threads used to index the project's classes, dependencies and standard Java modules
+     * concurrently. Defaults to the number of available processors, set to 1 to index sequentially.
+     */
+    Property<Integer> getIndexThreads();
+
+    /**
+     * Index the classes of dependency jars on demand, when the scan looks them up by name, instead of indexing
+     * every class of every dependency before the scan. Only the dependency classes reachable from the project's
+     * classes are indexed. Classes found by annotation or type hierarchy, e.g. resources or annotated model classes,
+     * are only discovered in the project's classes. Defaults to {@code false}.
+     */
+    Property<Boolean> getIndexDependenciesOnDemand();
+
+    /**
+     * File where a binary snapshot of the generated model is written, for use at runtime with
+     * {@code SmallRyeOpenAPI.Builder#withPrebuiltModel}. Not set by default, disabling the snapshot.
+     */
+    RegularFileProperty getModelSnapshotFile();
 }
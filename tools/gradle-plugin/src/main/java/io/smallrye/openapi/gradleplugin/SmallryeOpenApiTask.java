@@ -2,6 +2,7 @@ package io.smallrye.openapi.gradleplugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -34,6 +35,7 @@ import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
@@ -41,6 +43,9 @@ import org.jboss.jandex.IndexView;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.SmallRyeOpenAPI;
+import io.smallrye.openapi.model.ModelSnapshot;
+import io.smallrye.openapi.runtime.scanner.OnDemandIndexView;
+import io.smallrye.openapi.runtime.util.InputHash;
 
 /**
  * Schema generation task implementation.
@@ -54,6 +59,7 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
     private final FileCollection classpath;
     private final FileCollection resourcesSrcDirs;
     private final FileCollection classesDirs;
+    private final FileCollection dependencyIndexes;
 
     /**
      * Directory where to output the schemas. If no path is specified, the schema will be printed to
@@ -76,10 +82,12 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
             ProjectLayout layout,
             FileCollection classpath,
             FileCollection resourcesSrcDirs,
-            FileCollection classesDirs) {
+            FileCollection classesDirs,
+            FileCollection dependencyIndexes) {
         this.classpath = classpath;
         this.resourcesSrcDirs = resourcesSrcDirs;
         this.classesDirs = classesDirs;
+        this.dependencyIndexes = dependencyIndexes;
 
         outputDirectory = objects
                 .directoryProperty()
@@ -93,8 +101,20 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
         try {
             clearOutput();
             IndexView index = new GradleDependencyIndexCreator(getLogger()).createIndex(this);
-            SmallRyeOpenAPI openAPI = generateOpenAPI(index, resourcesSrcDirs);
+            SmallRyeOpenAPI openAPI;
+
+            try {
+                openAPI = generateOpenAPI(index, resourcesSrcDirs);
+            } finally {
+                if (index instanceof OnDemandIndexView) {
+                    OnDemandIndexView onDemandIndex = (OnDemandIndexView) index;
+                    getLogger().debug("Indexed {} dependency class(es) on demand", onDemandIndex.getLoadedClassCount());
+                    onDemandIndex.close();
+                }
+            }
+
             write(openAPI);
+            writeSnapshot(openAPI);
         } catch (Exception ex) {
             // allow failOnError = false ?
             throw new GradleException("Could not generate OpenAPI Schema", ex);
@@ -111,6 +131,14 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
         return this.classesDirs;
     }
 
+    /**
+     * Indexes of the dependency jars of the classpath, produced by {@link JandexIndexTransform}
+     */
+    @Internal
+    FileCollection getDependencyIndexes() {
+        return this.dependencyIndexes;
+    }
+
     private SmallRyeOpenAPI generateOpenAPI(IndexView index, FileCollection resourcesSrcDirs) {
         return SmallRyeOpenAPI.builder()
                 .withConfig(properties.asMicroprofileConfig())
@@ -211,6 +239,39 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
         }
     }
 
+    /**
+     * Write the model snapshot when configured. Gradle's up-to-date checks decide whether the
+     * task runs, the input hash recorded in the snapshot allows consumers to verify it.
+     */
+    private void writeSnapshot(SmallRyeOpenAPI openAPI) throws IOException {
+        File snapshotFile = properties.modelSnapshotFile.getAsFile().getOrNull();
+
+        if (snapshotFile == null) {
+            return;
+        }
+
+        InputHash hash = new InputHash()
+                .add("snapshotFormat", ModelSnapshot.FORMAT_VERSION)
+                .add("smallryeOpenApiVersion", SmallRyeOpenAPI.class.getPackage().getImplementationVersion())
+                .add("properties", properties.getProperties())
+                .add("scanDependenciesDisable", properties.scanDependenciesDisable.get())
+                .add("includeStandardJavaModules", properties.includeStandardJavaModules.get())
+                .add("javaVersion", Runtime.version());
+
+        for (File file : classesDirs.plus(classpath).plus(resourcesSrcDirs).getFiles()) {
+            hash.addFile(file.toPath());
+        }
+
+        Path snapshot = snapshotFile.toPath();
+        Files.createDirectories(snapshot.toAbsolutePath().getParent());
+
+        try (OutputStream out = Files.newOutputStream(snapshot)) {
+            ModelSnapshot.write(openAPI.model(), hash.toString(), out);
+        }
+
+        getLogger().info("Wrote the OpenAPI model snapshot to {}", snapshot.toAbsolutePath());
+    }
+
     private void writeFile(Path directory, String type, byte[] contents) throws IOException {
         Path file = Paths.get(directory.toString(), properties.schemaFilename.get() + "." + type);
         if (!Files.exists(file.getParent())) {
@@ -470,4 +531,24 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
     public ListProperty<String> getIncludeStandardJavaModules() {
         return properties.includeStandardJavaModules;
     }
+
+    @Internal
+    @Override
+    public Property<Integer> getIndexThreads() {
+        return properties.indexThreads;
+    }
+
+    @Input
+    @Optional
+    @Override
+    public Property<Boolean> getIndexDependenciesOnDemand() {
+        return properties.indexDependenciesOnDemand;
+    }
+
+    @OutputFile
+    @Optional
+    @Override
+    public RegularFileProperty getModelSnapshotFile() {
+        return properties.modelSnapshotFile;
+    }
 }
@@ -3,6 +3,7 @@ package io.smallrye.openapi.mavenplugin;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -25,6 +26,7 @@ import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -43,6 +45,9 @@ import io.smallrye.config.PropertiesConfigSource;
 import io.smallrye.config.SmallRyeConfigBuilder;
 import io.smallrye.openapi.api.SmallRyeOASConfig;
 import io.smallrye.openapi.api.SmallRyeOpenAPI;
+import io.smallrye.openapi.model.ModelSnapshot;
+import io.smallrye.openapi.runtime.scanner.OnDemandIndexView;
+import io.smallrye.openapi.runtime.util.InputHash;
 
 @Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
 public class GenerateSchemaMojo extends AbstractMojo {
@@ -83,6 +88,49 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(property = "includeStandardJavaModules")
     private List<String> includeStandardJavaModules;
 
+    /**
+     * Directory where the indexes of dependency jars and standard Java modules are
+     * stored so that later builds do not need to index them again. Jar indexes are
+     * keyed by the artifact coordinates, size and modification time, module indexes
+     * by the version of the running JDK.
+     */
+    @Parameter(defaultValue = "${settings.localRepository}/.cache/smallrye-open-api/index", property = "indexCacheDirectory")
+    private File indexCacheDirectory;
+
+    /**
+     * Disable the persistent index cache, dependencies are then indexed on every build.
+     */
+    @Parameter(defaultValue = "false", property = "indexCacheDisable")
+    private boolean indexCacheDisable;
+
+    /**
+     * Maximum number of threads used to index the project's classes, dependencies and standard
+     * Java modules concurrently. Defaults to the number of available processors, set to 1 to
+     * index sequentially.
+     */
+    @Parameter(defaultValue = "0", property = "indexThreads")
+    private int indexThreads;
+
+    /**
+     * Index the classes of dependency jars only when the annotation scanner looks them up,
+     * e.g. as the type of a property of a model class, instead of indexing every dependency
+     * before scanning. Classes of dependencies that are not referenced from the project's
+     * classes (e.g. resource classes or annotated model classes packaged in a dependency) are
+     * then not scanned.
+     */
+    @Parameter(defaultValue = "false", property = "indexDependenciesOnDemand")
+    private boolean indexDependenciesOnDemand;
+
+    /**
+     * File where a binary snapshot of the generated model is written, for use at runtime with
+     * {@code SmallRyeOpenAPI.Builder#withPrebuiltModel}. The snapshot records a hash of the
+     * plugin configuration and the class path; when the snapshot is present and the hash is
+     * unchanged, dependency indexing and annotation scanning are skipped and the schema files are
+     * written from the snapshot. Not set by default, disabling the snapshot.
+     */
+    @Parameter(property = "modelSnapshotFile")
+    private File modelSnapshotFile;
+
     /**
      * Skip execution of the plugin.
      */
@@ -296,9 +344,30 @@ public class GenerateSchemaMojo extends AbstractMojo {
     public void execute() throws MojoExecutionException {
         if (!skip) {
             try {
-                IndexView index = mavenDependencyIndexCreator.createIndex(mavenProject, scanDependenciesDisable,
-                        includeDependenciesScopes, includeDependenciesTypes, includeStandardJavaModules);
-                SmallRyeOpenAPI openAPI = generateOpenAPI(index);
+                String inputHash = modelSnapshotFile != null ? computeInputHash() : null;
+                SmallRyeOpenAPI openAPI = inputHash != null ? readSnapshot(inputHash) : null;
+
+                if (openAPI == null) {
+                    IndexView index = mavenDependencyIndexCreator.createIndex(mavenProject, scanDependenciesDisable,
+                            includeDependenciesScopes, includeDependenciesTypes, includeStandardJavaModules,
+                            indexCacheDisable ? null : indexCacheDirectory, indexThreads, indexDependenciesOnDemand);
+
+                    try {
+                        openAPI = generateOpenAPI(index);
+                    } finally {
+                        if (index instanceof OnDemandIndexView) {
+                            OnDemandIndexView onDemandIndex = (OnDemandIndexView) index;
+                            getLog().debug("Indexed " + onDemandIndex.getLoadedClassCount()
+                                    + " dependency class(es) on demand");
+                            onDemandIndex.close();
+                        }
+                    }
+
+                    if (inputHash != null) {
+                        writeSnapshot(openAPI, inputHash);
+                    }
+                }
+
                 write(openAPI);
             } catch (Exception ex) {
                 getLog().error(ex);
@@ -309,22 +378,101 @@ public class GenerateSchemaMojo extends AbstractMojo {
     }
 
     private SmallRyeOpenAPI generateOpenAPI(IndexView index) throws IOException, DependencyResolutionRequiredException {
+        return SmallRyeOpenAPI.builder()
+                .withConfig(getConfig())
+                .withApplicationClassLoader(getClassLoader())
+                .withIndex(index)
+                .enableStandardStaticFiles(enableStandardStaticFiles)
+                .withScannerFilter(scanners != null && !scanners.isEmpty() ? x -> scanners.contains(x) : x -> true)
+                .build();
+    }
+
+    private Config getConfig() throws IOException {
         if (systemPropertyVariables != null) {
             systemPropertyVariables.forEach(System::setProperty);
         }
 
-        Config config = new SmallRyeConfigBuilder()
+        return new SmallRyeConfigBuilder()
                 .addDefaultSources()
                 .withSources(new PropertiesConfigSource(getProperties(), "maven-plugin", ConfigSource.DEFAULT_ORDINAL))
                 .build();
+    }
 
-        return SmallRyeOpenAPI.builder()
-                .withConfig(config)
-                .withApplicationClassLoader(getClassLoader())
-                .withIndex(index)
-                .enableStandardStaticFiles(enableStandardStaticFiles)
-                .withScannerFilter(scanners != null && !scanners.isEmpty() ? x -> scanners.contains(x) : x -> true)
-                .build();
+    /**
+     * Hash of the plugin configuration and the project class path. Environment variables
+     * and system properties not given in {@code systemPropertyVariables} are not included.
+     */
+    private String computeInputHash() throws IOException, DependencyResolutionRequiredException {
+        InputHash hash = new InputHash()
+                .add("snapshotFormat", ModelSnapshot.FORMAT_VERSION)
+                .add("smallryeOpenApiVersion", SmallRyeOpenAPI.class.getPackage().getImplementationVersion())
+                .add("properties", getProperties())
+                .add("systemPropertyVariables", systemPropertyVariables)
+                .add("scanners", scanners)
+                .add("enableStandardStaticFiles", enableStandardStaticFiles)
+                .add("scanDependenciesDisable", scanDependenciesDisable)
+                .add("includeDependenciesScopes", includeDependenciesScopes)
+                .add("includeDependenciesTypes", includeDependenciesTypes)
+                .add("includeStandardJavaModules", includeStandardJavaModules)
+                .add("indexDependenciesOnDemand", indexDependenciesOnDemand)
+                .add("javaVersion", Runtime.version());
+
+        for (String element : mavenProject.getCompileClasspathElements()) {
+            hash.addFile(Paths.get(element));
+        }
+
+        for (Artifact artifact : mavenProject.getArtifacts()) {
+            if (artifact.getFile() != null) {
+                hash.add("artifact", artifact.getId()).addFile(artifact.getFile().toPath());
+            }
+        }
+
+        return hash.toString();
+    }
+
+    /**
+     * Build the OpenAPI model from the snapshot file when the snapshot was written
+     * for the same inputs.
+     *
+     * @return the model, or null when the snapshot is missing or out of date
+     */
+    private SmallRyeOpenAPI readSnapshot(String inputHash) throws IOException {
+        Path snapshot = modelSnapshotFile.toPath();
+
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(snapshot)) {
+            if (!inputHash.equals(ModelSnapshot.readInputHash(in))) {
+                getLog().debug("OpenAPI model snapshot " + snapshot + " is out of date");
+                return null;
+            }
+        }
+
+        getLog().info("OpenAPI model snapshot " + snapshot + " is up to date, skipping schema generation");
+
+        try (InputStream in = Files.newInputStream(snapshot)) {
+            return SmallRyeOpenAPI.builder()
+                    .withConfig(getConfig())
+                    .withPrebuiltModel(in)
+                    .build();
+        }
+    }
+
+    private void writeSnapshot(SmallRyeOpenAPI openAPI, String inputHash) throws IOException {
+        Path snapshot = modelSnapshotFile.toPath();
+        Path parent = snapshot.toAbsolutePath().getParent();
+
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (OutputStream out = Files.newOutputStream(snapshot)) {
+            ModelSnapshot.write(openAPI.model(), inputHash, out);
+        }
+
+        getLog().info("Wrote the OpenAPI model snapshot to " + snapshot.toAbsolutePath());
     }
 
     private ClassLoader getClassLoader() throws DependencyResolutionRequiredException {
@@ -2,7 +2,11 @@ package io.smallrye.openapi.mavenplugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReference;
 import java.net.URI;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
@@ -13,13 +17,22 @@ import java.time.LocalDateTime;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.maven.artifact.Artifact;
@@ -36,6 +49,10 @@ import org.jboss.jandex.Result;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.smallrye.openapi.runtime.scanner.OnDemandIndexView;
+import io.smallrye.openapi.runtime.util.JarIndexes;
 
 @Component(role = MavenDependencyIndexCreator.class, instantiationStrategy = "singleton")
 public class MavenDependencyIndexCreator {
@@ -44,6 +61,8 @@ public class MavenDependencyIndexCreator {
 
     private final Set<String> ignoredArtifacts = new HashSet<>();
 
+    private final AtomicInteger indexThreadCount = new AtomicInteger();
+
     @Requirement
     private Logger logger;
 
@@ -81,10 +100,38 @@ public class MavenDependencyIndexCreator {
             List<String> includeDependenciesScopes,
             List<String> includeDependenciesTypes,
             List<String> includeStandardJavaModules) {
+        return createIndex(mavenProject, scanDependenciesDisable, includeDependenciesScopes, includeDependenciesTypes,
+                includeStandardJavaModules, null, 0, false);
+    }
+
+    /**
+     * Create an index of the project's classes and dependencies.
+     *
+     * @param indexCacheDirectory directory where the indexes of dependency jars and
+     *        standard Java modules are persisted between builds, or null to disable
+     *        the persistent cache
+     * @param indexThreads maximum number of threads used to index the project's
+     *        classes, dependencies and modules concurrently. Values less than 1
+     *        select the number of available processors.
+     * @param indexDependenciesOnDemand index the classes of dependency jars only when
+     *        they are looked up by name, returning an {@link OnDemandIndexView} that
+     *        must be closed by the caller
+     */
+    public IndexView createIndex(MavenProject mavenProject,
+            boolean scanDependenciesDisable,
+            List<String> includeDependenciesScopes,
+            List<String> includeDependenciesTypes,
+            List<String> includeStandardJavaModules,
+            File indexCacheDirectory,
+            int indexThreads,
+            boolean indexDependenciesOnDemand) {
 
-        List<Map.Entry<Object, Duration>> indexDurations = new ArrayList<>();
+        PersistentIndexCache persistentCache = indexCacheDirectory != null
+                ? new PersistentIndexCache(indexCacheDirectory.toPath(), logger)
+                : null;
 
         List<File> artifacts = new ArrayList<>();
+        Map<File, Artifact> artifactCoordinates = new HashMap<>();
         String buildOutput = mavenProject.getBuild().getOutputDirectory();
         if (buildOutput != null) {
             logger.debug("Build output: " + buildOutput);
@@ -97,54 +144,172 @@ public class MavenDependencyIndexCreator {
             mavenProject.getArtifacts()
                     .stream()
                     .filter(artifact -> !isIgnored(artifact, includeDependenciesScopes, includeDependenciesTypes))
-                    .map(Artifact::getFile)
-                    .filter(Objects::nonNull)
-                    .forEach(artifacts::add);
+                    .filter(artifact -> Objects.nonNull(artifact.getFile()))
+                    .forEach(artifact -> {
+                        artifacts.add(artifact.getFile());
+                        artifactCoordinates.put(artifact.getFile(), artifact);
+                    });
         }
 
-        List<IndexView> indexes = new ArrayList<>();
+        // Index entries in the order their results are added to the composite index
+        Map<Object, Callable<IndexView>> entries = new LinkedHashMap<>();
+        AtomicInteger packagedIndexCount = new AtomicInteger();
+        AtomicInteger jarIndexCount = new AtomicInteger();
+        List<File> onDemandJars = new ArrayList<>();
 
         if (includeStandardJavaModules != null) {
             for (String moduleName : includeStandardJavaModules) {
-                LocalDateTime start = LocalDateTime.now();
-                indexes.add(indexJdkModule(moduleName));
-                Duration duration = Duration.between(start, LocalDateTime.now());
-                indexDurations.add(new AbstractMap.SimpleEntry<>("module:" + moduleName, duration));
+                entries.put("module:" + moduleName, () -> indexCache.get(jdkModuleKey(moduleName),
+                        () -> indexJdkModule(persistentCache, moduleName)));
             }
         }
 
         for (File artifact : artifacts) {
-            try {
-                if (artifact.isDirectory()) {
-                    // Don't cache local workspace artifacts. Incremental compilation in IDEs would otherwise use the cached index instead of new one.
-                    // Right now, support for incremental compilation inside eclipse is blocked by: https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
-                    // target/classes
-                    LocalDateTime start = LocalDateTime.now();
-                    indexes.add(indexModuleClasses(artifact));
-                    Duration duration = Duration.between(start, LocalDateTime.now());
-                    indexDurations.add(new AbstractMap.SimpleEntry<>(artifact, duration));
-                } else if (artifact.getName().endsWith(".jar")) {
-                    IndexView artifactIndex = timeAndCache(indexDurations, artifact, () -> {
+            if (artifact.isDirectory()) {
+                // Don't cache local workspace artifacts. Incremental compilation in IDEs would otherwise use the cached index instead of new one.
+                // Right now, support for incremental compilation inside eclipse is blocked by: https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
+                // target/classes
+                entries.put(artifact, () -> indexModuleClasses(artifact));
+            } else if (artifact.getName().endsWith(".jar") && indexDependenciesOnDemand) {
+                onDemandJars.add(artifact);
+            } else if (artifact.getName().endsWith(".jar")) {
+                entries.put(artifact, () -> indexCache.get(artifact.getAbsolutePath(), () -> {
+                    Index packaged = JarIndexes.read(artifact);
+
+                    if (packaged != null) {
+                        packagedIndexCount.incrementAndGet();
+                        return packaged;
+                    }
+
+                    PersistentIndexCache.IndexSupplier indexer = () -> {
+                        jarIndexCount.incrementAndGet();
                         Result result = JarIndexer.createJarIndex(artifact, new Indexer(),
                                 false, false, false);
                         return result.getIndex();
-                    });
-                    indexes.add(artifactIndex);
+                    };
+
+                    if (persistentCache != null) {
+                        return persistentCache.get(cacheKey(artifactCoordinates.get(artifact), artifact), indexer);
+                    }
+
+                    return indexer.create();
+                }));
+            }
+        }
+
+        IndexView index = CompositeIndex.create(indexAll(entries, indexThreads));
+        logger.debug(String.format("Loaded %d artifact(s) from an existing %s, indexed %d artifact(s)",
+                packagedIndexCount.get(), JarIndexes.JAR_INDEX, jarIndexCount.get()));
+
+        if (onDemandJars.isEmpty()) {
+            return index;
+        }
+
+        OnDemandIndexView onDemandIndex = new OnDemandIndexView(index);
+
+        for (File artifact : onDemandJars) {
+            try {
+                onDemandIndex.addJar(artifact.toPath());
+            } catch (IOException e) {
+                logger.error("Can't read entries of " + artifact.getAbsolutePath() + ", skipping", e);
+            }
+        }
+
+        logger.debug(String.format("Indexing the classes of %d artifact(s) on demand", onDemandJars.size()));
+        return onDemandIndex;
+    }
+
+    /**
+     * Index the entries using at most {@code indexThreads} threads. The indexes are
+     * returned in the iteration order of the entries, independent of the order in
+     * which they complete. Entries of files that can not be indexed are skipped.
+     */
+    private List<IndexView> indexAll(Map<Object, Callable<IndexView>> entries, int indexThreads) {
+        int threads = Math.min(indexThreads > 0 ? indexThreads : Runtime.getRuntime().availableProcessors(),
+                Math.max(entries.size(), 1));
+        List<Map.Entry<Object, Duration>> indexDurations = Collections.synchronizedList(new ArrayList<>());
+        List<Map.Entry<Object, Future<IndexView>>> results = new ArrayList<>(entries.size());
+        List<IndexView> indexes = new ArrayList<>(entries.size());
+        LocalDateTime start = LocalDateTime.now();
+        ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads, this::newIndexThread) : null;
+
+        try {
+            entries.forEach((key, indexer) -> {
+                Callable<IndexView> timedIndexer = () -> {
+                    LocalDateTime entryStart = LocalDateTime.now();
+                    IndexView index = indexer.call();
+                    indexDurations.add(new AbstractMap.SimpleEntry<>(key, Duration.between(entryStart, LocalDateTime.now())));
+                    return index;
+                };
+
+                FutureTask<IndexView> task = new FutureTask<>(timedIndexer);
+
+                if (executor != null) {
+                    executor.execute(task);
+                } else {
+                    task.run();
                 }
-            } catch (Exception e) {
-                logger.error("Can't compute index of " + artifact.getAbsolutePath() + ", skipping", e);
+
+                results.add(new AbstractMap.SimpleEntry<>(key, task));
+            });
+
+            for (Map.Entry<Object, Future<IndexView>> result : results) {
+                indexes.add(awaitIndex(result.getKey(), result.getValue()));
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
             }
         }
 
-        printIndexDurations(indexDurations);
+        printIndexDurations(indexDurations, Duration.between(start, LocalDateTime.now()), threads);
 
-        return CompositeIndex.create(indexes);
+        return indexes.stream().filter(Objects::nonNull).collect(Collectors.toList());
     }
 
-    private void printIndexDurations(List<Map.Entry<Object, Duration>> indexDurations) {
+    private IndexView awaitIndex(Object key, Future<IndexView> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while indexing " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof ExecutionException || cause instanceof UncheckedExecutionException) {
+                // Thrown by the in-memory cache
+                cause = cause.getCause();
+            }
+
+            if (!(key instanceof File)) {
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Can't compute index of " + key, cause);
+            }
+
+            logger.error("Can't compute index of " + ((File) key).getAbsolutePath() + ", skipping", cause);
+            return null;
+        }
+    }
+
+    private Thread newIndexThread(Runnable task) {
+        Thread thread = new Thread(task, "smallrye-open-api-indexer-" + indexThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void printIndexDurations(List<Map.Entry<Object, Duration>> indexDurations, Duration total, int threads) {
         if (logger.isDebugEnabled()) {
-            logger.debug("Indexed directories/artifacts for annotation scanning:");
-            indexDurations.forEach(e -> logger.debug("  " + e.getKey() + " (index time " + e.getValue() + ")"));
+            List<Map.Entry<Object, Duration>> sorted = new ArrayList<>(indexDurations);
+            sorted.sort(Map.Entry.<Object, Duration> comparingByValue().reversed());
+
+            logger.debug(String.format("Indexed %d directories/artifacts for annotation scanning in %d ms using %d thread(s):",
+                    sorted.size(), total.toMillis(), threads));
+            logger.debug(String.format("  %10s  %s", "Time (ms)", "Directory/artifact"));
+            sorted.forEach(e -> logger.debug(String.format("  %10d  %s", e.getValue().toMillis(), e.getKey())));
+            logger.debug(String.format("  %10d  %s", sorted.stream().mapToLong(e -> e.getValue().toMillis()).sum(),
+                    "Total (all threads)"));
         }
     }
 
@@ -161,44 +326,99 @@ public class MavenDependencyIndexCreator {
                 || ignoredArtifacts.contains(artifact.getGroupId() + ":" + artifact.getArtifactId());
     }
 
-    private IndexView timeAndCache(List<Map.Entry<Object, Duration>> indexDurations, File artifact,
-            Callable<IndexView> callable) throws ExecutionException {
-        LocalDateTime start = LocalDateTime.now();
-        IndexView result = indexCache.get(artifact.getAbsolutePath(), callable);
-        LocalDateTime end = LocalDateTime.now();
+    /**
+     * Key of a jar in the persistent index cache. The size and modification time
+     * of the file are included so that re-installed artifacts (e.g. snapshots)
+     * are indexed again.
+     */
+    static String cacheKey(Artifact artifact, File file) {
+        StringBuilder key = new StringBuilder();
+
+        if (artifact != null) {
+            key.append(artifact.getGroupId())
+                    .append('/')
+                    .append(artifact.getArtifactId())
+                    .append('-')
+                    .append(artifact.getVersion());
+
+            if (artifact.hasClassifier()) {
+                key.append('-').append(artifact.getClassifier());
+            }
+        } else {
+            String name = file.getName();
+            key.append("unknown/").append(name, 0, name.length() - ".jar".length());
+        }
+
+        return key.append('-')
+                .append(file.length())
+                .append('-')
+                .append(file.lastModified())
+                .toString();
+    }
 
-        Duration duration = Duration.between(start, end);
-        indexDurations.add(new AbstractMap.SimpleEntry<>(artifact, duration));
+    /**
+     * Key of the index of a standard Java module. The content of the module is
+     * determined by the running JDK.
+     */
+    private static String jdkModuleKey(String moduleName) {
+        return "jdk/" + Runtime.version() + "/exports/" + moduleName;
+    }
 
-        return result;
+    private Index indexJdkModule(PersistentIndexCache persistentCache, String moduleName) {
+        if (persistentCache != null) {
+            try {
+                return persistentCache.get(jdkModuleKey(moduleName), () -> indexJdkModule(moduleName));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return indexJdkModule(moduleName);
     }
 
+    /**
+     * Index the classes of the packages exported (unconditionally) by a standard
+     * Java module. Only the directories of those packages in the {@code jrt:/}
+     * file system are listed, classes of other packages can not appear in the
+     * application's API.
+     */
     private Index indexJdkModule(String moduleName) {
+        Optional<ModuleDescriptor> descriptor = ModuleFinder.ofSystem()
+                .find(moduleName)
+                .map(ModuleReference::descriptor);
+
         Indexer indexer = new Indexer();
+
+        if (descriptor.isEmpty()) {
+            logger.warn("Standard Java module not found: " + moduleName);
+            return indexer.complete();
+        }
+
         FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+        Path moduleRoot = jrt.getPath("/modules", moduleName);
+
+        for (ModuleDescriptor.Exports export : descriptor.get().exports()) {
+            if (export.isQualified()) {
+                continue;
+            }
 
-        for (Path root : jrt.getRootDirectories()) {
-            try (var walker = Files.walk(root)) {
-                walker
-                        .filter(path -> path.startsWith("/modules/" + moduleName))
-                        .filter(path -> path.getFileName().toString().endsWith(".class"))
-                        .map(path -> {
-                            try {
-                                return Files.newInputStream(path);
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                        })
-                        .forEach(stream -> {
-                            try {
-                                indexer.index(stream);
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                        });
+            Path packageDirectory = moduleRoot.resolve(export.source().replace('.', '/'));
+            List<Path> classFiles;
+
+            try (Stream<Path> paths = Files.list(packageDirectory)) {
+                classFiles = paths.filter(path -> path.getFileName().toString().endsWith(".class"))
+                        .collect(Collectors.toList());
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
+
+            for (Path classFile : classFiles) {
+                try (InputStream stream = Files.newInputStream(classFile)) {
+                    indexer.index(stream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
         }
 
         return indexer.complete();
@@ -0,0 +1,104 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.codehaus.plexus.logging.Logger;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+
+/**
+ * Stores serialized Jandex indexes in a directory so that they may be re-used
+ * by later builds. Entries are keyed by a relative path computed by the caller
+ * that must change whenever the indexed content changes, e.g. the artifact
+ * coordinates together with the size and modification time of the jar.
+ *
+ * <p>
+ * The cache is best effort: entries that can not be read (e.g. written by an
+ * incompatible version of Jandex) are re-created and failures to store an entry
+ * are logged without failing the build. Entries are written to a temporary file
+ * and moved into place so that concurrent builds sharing the directory never
+ * observe a partially written index.
+ */
+class PersistentIndexCache {
+
+    /**
+     * Creates an index that is not present in the cache.
+     */
+    interface IndexSupplier {
+        Index create() throws IOException;
+    }
+
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+    private final Logger logger;
+
+    PersistentIndexCache(Path directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Retrieve the index stored under the given key, creating and storing it
+     * with the indexer if not present.
+     *
+     * @param key relative path of the entry, without file suffix
+     * @param indexer creates the index when not present in the cache
+     * @return the index
+     * @throws IOException when the index must be created and the indexer fails
+     */
+    Index get(String key, IndexSupplier indexer) throws IOException {
+        Path entry = directory.resolve(key + SUFFIX);
+
+        if (Files.isRegularFile(entry)) {
+            try (InputStream in = Files.newInputStream(entry)) {
+                Index index = new IndexReader(in).read();
+                logger.debug("Using cached index " + entry);
+                return index;
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Cached index " + entry + " can not be read, re-creating", e);
+            }
+        }
+
+        Index index = indexer.create();
+        store(entry, index);
+        return index;
+    }
+
+    private void store(Path entry, Index index) {
+        Path temp = null;
+
+        try {
+            Path parent = entry.getParent();
+            Files.createDirectories(parent);
+            temp = Files.createTempFile(parent, entry.getFileName().toString(), ".tmp");
+
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                new IndexWriter(out).write(index);
+            }
+
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to store index in cache " + entry + ": " + e.getMessage());
+
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+        }
+    }
+}
@@ -108,6 +108,34 @@ public class BasicIT extends SchemaTestBase {
         });
     }
 
+    @MavenTest
+    void indexCache(MavenExecutionResult result) throws IOException {
+
+        assertThat(result).isSuccessful();
+
+        testSchema(result, (schema) -> {
+            assertTrue(schema.getPaths().hasPathItem("/hello"));
+            assertTrue(schema.getComponents().getSchemas().get("TimeUnit").getEnumeration().contains("HOURS"));
+        });
+
+        // Indexes of the dependency jar and the JDK module are persisted for later builds
+        Path cacheDirectory = result.getMavenProjectResult()
+                .getTargetProjectDirectory()
+                .resolve("target/index-cache");
+
+        try (Stream<Path> walk = Files.walk(cacheDirectory)) {
+            List<String> entries = walk
+                    .map(cacheDirectory::relativize)
+                    .map(p -> p.toString().replace('\\', '/'))
+                    .filter(p -> p.endsWith(".idx"))
+                    .collect(Collectors.toList());
+
+            assertTrue(entries.stream().anyMatch(e -> e.startsWith("jakarta.ws.rs/jakarta.ws.rs-api-3.1.0-")),
+                    entries::toString);
+            assertTrue(entries.stream().anyMatch(e -> e.startsWith("jdk/") && e.endsWith("/java.base.idx")), entries::toString);
+        }
+    }
+
     private static final Path OUTPUT_FILE_TYPE_FILTER_GENERATION_PATH = Paths.get(System.getProperty("java.io.tmpdir"),
             "smallrye-openapi", "maven-plugin", "it");
 
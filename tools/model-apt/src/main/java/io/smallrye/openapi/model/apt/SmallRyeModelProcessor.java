@@ -235,7 +235,9 @@ public class SmallRyeModelProcessor extends AbstractProcessor {
         writeGenerated(writer);
         writer.write(PUBLIC);
 
-        if (get(modelAnnotation, "incomplete", Boolean.class).booleanValue()) {
+        boolean incomplete = get(modelAnnotation, "incomplete", Boolean.class).booleanValue();
+
+        if (incomplete) {
             writer.write("abstract ");
         }
 
@@ -274,6 +276,12 @@ public class SmallRyeModelProcessor extends AbstractProcessor {
 
         writer.write("\n");
 
+        writeCodeLn(writer, 1, incomplete ? "protected " : PUBLIC, get(modelAnnotation, "name", String.class), "() {");
+        writeCodeLn(writer, 2, "super(PROPERTIES);");
+        writeCodeLn(writer, 1, "}");
+
+        writer.write("\n");
+
         writeCodeLn(writer, 1, "@Override");
         writeCodeLn(writer, 1, "public PropertyMetadata getPropertyMetadata() {");
         writeCodeLn(writer, 2, "return PROPERTIES;");
@@ -321,6 +329,12 @@ public class SmallRyeModelProcessor extends AbstractProcessor {
         writeCodeLn(writer, 2,
                 "private final java.util.Map<String, OpenApiVersion> minVersions = new java.util.HashMap<>(",
                 Integer.toString(propertyMap.size()), ");");
+        writeCodeLn(writer, 2,
+                "private final java.util.Map<String, Integer> indexes = new java.util.HashMap<>(",
+                Integer.toString(propertyMap.size()), ");");
+        writeCodeLn(writer, 2,
+                "private final java.util.List<String> names = new java.util.ArrayList<>(",
+                Integer.toString(propertyMap.size()), ");");
         writer.write("\n");
         writeCodeLn(writer, 2, "public Properties() {");
 
@@ -328,6 +342,12 @@ public class SmallRyeModelProcessor extends AbstractProcessor {
             String name = entry.getKey();
             PropertyInfo property = entry.getValue();
             writePropertyTypeEntry(writer, name, property);
+
+            if (!property.unwrapped) {
+                // Unwrapped properties have arbitrary keys, they are not assigned an index
+                writeCodeLn(writer, 3, "indexes.put(\"", name, "\", names.size());");
+                writeCodeLn(writer, 3, "names.add(\"", name, "\");");
+            }
         }
 
         writeCodeLn(writer, 2, "}");
@@ -367,6 +387,19 @@ public class SmallRyeModelProcessor extends AbstractProcessor {
         writeCodeLn(writer, 2, "public OpenApiVersion getMinVersion(String name) {");
         writeCodeLn(writer, 3, "return minVersions.getOrDefault(name, OpenApiVersion.V3_0);");
         writeCodeLn(writer, 2, "}");
+        writer.write('\n');
+
+        writeOverride(writer);
+        writeCodeLn(writer, 2, "public int getPropertyIndex(String name) {");
+        writeCodeLn(writer, 3, "Integer index = indexes.get(name);");
+        writeCodeLn(writer, 3, "return index != null ? index.intValue() : -1;");
+        writeCodeLn(writer, 2, "}");
+        writer.write('\n');
+
+        writeOverride(writer);
+        writeCodeLn(writer, 2, "public String getPropertyName(int index) {");
+        writeCodeLn(writer, 3, "return names.get(index);");
+        writeCodeLn(writer, 2, "}");
 
         writeCodeLn(writer, 1, "}");
     }